@@ -0,0 +1,372 @@
+/*
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.base.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A CaseFoldingMap is a hash map with String keys which are compared without
+ * regard to case, in the same way as String.equalsIgnoreCase.
+ *
+ * Unlike CaseInsensitiveMap, the key is never wrapped: the hash of each key is
+ * calculated from its case-folded characters and stored alongside it, so get,
+ * containsKey and remove do not allocate. Unlike a TreeMap using
+ * String.CASE_INSENSITIVE_ORDER, a lookup does not need to compare against
+ * O(log n) other keys.
+ *
+ * Iteration is always in the order of String.CASE_INSENSITIVE_ORDER, as it
+ * would be for such a TreeMap, so callers see a deterministic order. The sorted
+ * order of the keys is calculated when first required and kept until the keys
+ * change.
+ *
+ * As with such a TreeMap, if a key is put which is equal (ignoring case) to a
+ * key already present, the value is replaced but the original key is kept.
+ *
+ * This class is not thread safe.
+ *
+ * @param <V>
+ *            The Class of the Value for this CaseFoldingMap
+ */
+public class CaseFoldingMap<V>
+{
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * The keys in each slot of the table, or null if the slot is empty.
+	 */
+	private String[] keys = new String[INITIAL_CAPACITY];
+
+	/**
+	 * The case-folded hash of the key in each slot of the table.
+	 */
+	private int[] hashes = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The value in each slot of the table.
+	 */
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	private int size;
+
+	/**
+	 * The keys in String.CASE_INSENSITIVE_ORDER, or null if they have changed
+	 * since the order was last calculated.
+	 */
+	private List<String> sortedKeys;
+
+	/**
+	 * Returns a hash of the given String which is the same for any two Strings
+	 * which are equal ignoring case.
+	 *
+	 * @param key
+	 *            The String for which the hash should be returned
+	 * @return A hash of the given String which ignores case
+	 */
+	public static int foldedHash(String key)
+	{
+		int hash = 0;
+		for (int i = 0; i < key.length(); i++)
+		{
+			hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+		}
+		return hash;
+	}
+
+	private int slotFor(int hash)
+	{
+		return (hash ^ (hash >>> 16)) & (keys.length - 1);
+	}
+
+	/**
+	 * Returns the slot containing the given key, or (-1 - the empty slot where it
+	 * would be placed) if it is not present.
+	 */
+	private int indexOf(String key, int hash)
+	{
+		int mask = keys.length - 1;
+		int i = slotFor(hash);
+		while (keys[i] != null)
+		{
+			if ((hashes[i] == hash) && keys[i].equalsIgnoreCase(key))
+			{
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1 - i;
+	}
+
+	private int indexOf(Object key)
+	{
+		if (key instanceof String s)
+		{
+			return indexOf(s, foldedHash(s));
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the value for the given key (ignoring case), or null if this
+	 * CaseFoldingMap does not contain the key.
+	 *
+	 * @param key
+	 *            The key for which the value should be returned
+	 * @return The value for the given key
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(Object key)
+	{
+		int i = indexOf(key);
+		return (i >= 0) ? (V) values[i] : null;
+	}
+
+	/**
+	 * Returns true if this CaseFoldingMap contains the given key (ignoring
+	 * case).
+	 *
+	 * @param key
+	 *            The key to be checked
+	 * @return true if this CaseFoldingMap contains the given key; false
+	 *         otherwise
+	 */
+	public boolean containsKey(Object key)
+	{
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * Places the given value into this CaseFoldingMap for the given key.
+	 *
+	 * @param key
+	 *            The key for the value
+	 * @param value
+	 *            The value to be stored for the key
+	 * @return The previous value for the key, or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(String key, V value)
+	{
+		int hash = foldedHash(Objects.requireNonNull(key));
+		int i = indexOf(key, hash);
+		if (i >= 0)
+		{
+			V old = (V) values[i];
+			values[i] = value;
+			return old;
+		}
+		if ((size + 1) * 4 > keys.length * 3)
+		{
+			resize();
+			i = indexOf(key, hash);
+		}
+		i = -1 - i;
+		keys[i] = key;
+		hashes[i] = hash;
+		values[i] = value;
+		size++;
+		sortedKeys = null;
+		return null;
+	}
+
+	private void resize()
+	{
+		String[] oldKeys = keys;
+		int[] oldHashes = hashes;
+		Object[] oldValues = values;
+		keys = new String[oldKeys.length * 2];
+		hashes = new int[oldKeys.length * 2];
+		values = new Object[oldKeys.length * 2];
+		int mask = keys.length - 1;
+		for (int j = 0; j < oldKeys.length; j++)
+		{
+			if (oldKeys[j] != null)
+			{
+				int i = slotFor(oldHashes[j]);
+				while (keys[i] != null)
+				{
+					i = (i + 1) & mask;
+				}
+				keys[i] = oldKeys[j];
+				hashes[i] = oldHashes[j];
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+	/**
+	 * Removes the given key (ignoring case) from this CaseFoldingMap.
+	 *
+	 * @param key
+	 *            The key to be removed
+	 * @return The value which was stored for the key, or null if there was
+	 *         none
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(Object key)
+	{
+		int i = indexOf(key);
+		if (i < 0)
+		{
+			return null;
+		}
+		V old = (V) values[i];
+		// Shift back any following entries which could not use this slot
+		int mask = keys.length - 1;
+		int j = i;
+		while (true)
+		{
+			j = (j + 1) & mask;
+			if (keys[j] == null)
+			{
+				break;
+			}
+			int home = slotFor(hashes[j]);
+			boolean movable = (j > i) ? ((home <= i) || (home > j)) : ((home <= i) && (home > j));
+			if (movable)
+			{
+				keys[i] = keys[j];
+				hashes[i] = hashes[j];
+				values[i] = values[j];
+				i = j;
+			}
+		}
+		keys[i] = null;
+		hashes[i] = 0;
+		values[i] = null;
+		size--;
+		sortedKeys = null;
+		return old;
+	}
+
+	/**
+	 * Removes all of the keys and values from this CaseFoldingMap.
+	 */
+	public void clear()
+	{
+		Arrays.fill(keys, null);
+		Arrays.fill(hashes, 0);
+		Arrays.fill(values, null);
+		size = 0;
+		sortedKeys = null;
+	}
+
+	/**
+	 * Returns the number of keys in this CaseFoldingMap.
+	 *
+	 * @return The number of keys in this CaseFoldingMap
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns true if this CaseFoldingMap contains no keys.
+	 *
+	 * @return true if this CaseFoldingMap contains no keys; false otherwise
+	 */
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Returns the keys of this CaseFoldingMap in String.CASE_INSENSITIVE_ORDER.
+	 * The returned List is unmodifiable and is not changed by later changes to
+	 * this CaseFoldingMap.
+	 *
+	 * @return The keys of this CaseFoldingMap, in order
+	 */
+	public List<String> getSortedKeys()
+	{
+		if (sortedKeys == null)
+		{
+			List<String> list = new ArrayList<>(size);
+			for (String key : keys)
+			{
+				if (key != null)
+				{
+					list.add(key);
+				}
+			}
+			list.sort(String.CASE_INSENSITIVE_ORDER);
+			sortedKeys = Collections.unmodifiableList(list);
+		}
+		return sortedKeys;
+	}
+
+	/**
+	 * Returns a new List of the values of this CaseFoldingMap, in the order of
+	 * their keys.
+	 *
+	 * @return The values of this CaseFoldingMap, in key order
+	 */
+	public List<V> getSortedValues()
+	{
+		List<String> sorted = getSortedKeys();
+		List<V> list = new ArrayList<>(sorted.size());
+		for (String key : sorted)
+		{
+			list.add(get(key));
+		}
+		return list;
+	}
+
+	/**
+	 * Calls the given action for each key and value of this CaseFoldingMap, in
+	 * key order. The action may change this CaseFoldingMap: keys added are not
+	 * visited, and keys removed before they are reached are skipped.
+	 *
+	 * @param action
+	 *            The action to be called for each key and value
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super String, ? super V> action)
+	{
+		for (String key : getSortedKeys())
+		{
+			int i = indexOf(key, foldedHash(key));
+			if (i >= 0)
+			{
+				action.accept(keys[i], (V) values[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		boolean first = true;
+		for (String key : getSortedKeys())
+		{
+			if (!first)
+			{
+				sb.append(", ");
+			}
+			first = false;
+			sb.append(key).append('=').append(get(key));
+		}
+		return sb.append('}').toString();
+	}
+}
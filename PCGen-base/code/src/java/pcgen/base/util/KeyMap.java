@@ -23,7 +23,6 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
 
 /**
  * Creates a Map which is intended to only possess a given Key or Value one
@@ -41,7 +40,7 @@ public class KeyMap<V>
 	/**
 	 * The underlying map used to store references from the Keys to the Values.
 	 */
-	private final Map<String, V> forwardMap;
+	private final CaseFoldingMap<V> forwardMap;
 
 	/**
 	 * The underlying map used to store references from the Values back to the
@@ -55,7 +54,7 @@ public class KeyMap<V>
 	 */
 	public KeyMap()
 	{
-		forwardMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		forwardMap = new CaseFoldingMap<>();
 		reverseMap = new IdentityHashMap<>();
 	}
 
@@ -141,7 +140,7 @@ public class KeyMap<V>
 	 */
 	public Set<String> keySet()
 	{
-		return new LinkedHashSet<>(forwardMap.keySet());
+		return new LinkedHashSet<>(forwardMap.getSortedKeys());
 	}
 
 	/**
@@ -218,7 +217,7 @@ public class KeyMap<V>
 	 */
 	public Collection<V> keySortedValues()
 	{
-		return new ListSet<>(forwardMap.values());
+		return new ListSet<>(forwardMap.getSortedValues());
 	}
 
 	/**
@@ -0,0 +1,121 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.base.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class CaseFoldingMapTest
+{
+
+	@Test
+	void testPutGetIgnoresCase()
+	{
+		CaseFoldingMap<Integer> map = new CaseFoldingMap<>();
+		assertTrue(map.isEmpty());
+		assertNull(map.put("Longsword", 1));
+		assertEquals(1, map.get("LONGSWORD"));
+		assertEquals(1, map.get("longsword"));
+		assertTrue(map.containsKey("lOnGsWoRd"));
+		assertFalse(map.containsKey("Longsword (Masterwork)"));
+		assertFalse(map.containsKey(Integer.valueOf(1)));
+		assertEquals(1, map.put("LONGSWORD", 2));
+		assertEquals(1, map.size());
+		//Original case of the key is kept
+		assertEquals(List.of("Longsword"), map.getSortedKeys());
+		assertEquals(2, map.get("Longsword"));
+		assertThrows(NullPointerException.class, () -> map.put(null, 3));
+	}
+
+	@Test
+	void testRemoveClear()
+	{
+		CaseFoldingMap<Integer> map = new CaseFoldingMap<>();
+		map.put("Bluff", 1);
+		map.put("Climb", 2);
+		assertNull(map.remove("Swim"));
+		assertEquals(1, map.remove("BLUFF"));
+		assertFalse(map.containsKey("Bluff"));
+		assertEquals(2, map.get("climb"));
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get("Climb"));
+		assertEquals(List.of(), map.getSortedKeys());
+	}
+
+	@Test
+	void testSortedIteration()
+	{
+		CaseFoldingMap<Integer> map = new CaseFoldingMap<>();
+		map.put("swim", 3);
+		map.put("Bluff", 1);
+		map.put("CLIMB", 2);
+		List<String> sorted = map.getSortedKeys();
+		assertEquals(List.of("Bluff", "CLIMB", "swim"), sorted);
+		assertEquals(List.of(1, 2, 3), map.getSortedValues());
+		assertEquals("{Bluff=1, CLIMB=2, swim=3}", map.toString());
+		map.put("Acrobatics", 0);
+		//A previously returned List is not changed
+		assertEquals(3, sorted.size());
+		List<String> visited = new ArrayList<>();
+		map.forEach((key, value) -> {
+			visited.add(key);
+			map.remove("swim");
+		});
+		assertEquals(List.of("Acrobatics", "Bluff", "CLIMB"), visited);
+	}
+
+	@Test
+	void testMatchesTreeMap()
+	{
+		Map<String, Integer> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		CaseFoldingMap<Integer> map = new CaseFoldingMap<>();
+		Random random = new Random(44);
+		for (int i = 0; i < 20000; i++)
+		{
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(3);
+			for (int j = 0; j <= length; j++)
+			{
+				char c = (char) ('a' + random.nextInt(6));
+				sb.append(random.nextBoolean() ? Character.toUpperCase(c) : c);
+			}
+			String key = sb.toString();
+			if (random.nextInt(3) == 0)
+			{
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+			else
+			{
+				assertEquals(expected.put(key, i), map.put(key, i));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		assertEquals(new ArrayList<>(expected.keySet()), map.getSortedKeys());
+		assertEquals(new ArrayList<>(expected.values()), map.getSortedValues());
+	}
+}
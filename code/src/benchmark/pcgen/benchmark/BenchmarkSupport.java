@@ -0,0 +1,192 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import pcgen.core.PlayerCharacter;
+import pcgen.core.SettingsHandler;
+import pcgen.facade.core.DataSetFacade;
+import pcgen.facade.core.SourceSelectionFacade;
+import pcgen.facade.core.UIDelegate;
+import pcgen.facade.util.ListFacades;
+import pcgen.gui2.facade.MockUIDelegate;
+import pcgen.io.PCGIOHandler;
+import pcgen.system.CharacterManager;
+import pcgen.system.ConfigurationSettings;
+import pcgen.system.DataSetCache;
+import pcgen.system.Main;
+import pcgen.system.PCGenSettings;
+import pcgen.system.PropertyContextFactory;
+import pcgen.util.TestHelper;
+
+/**
+ * BenchmarkSupport starts PCGen without a GUI and loads the sample characters
+ * in the characters folder, in the same way as the data and integration tests.
+ * The benchmarks must be run from the root of the project, as the data,
+ * system and output sheet folders are found relative to it.
+ */
+public final class BenchmarkSupport
+{
+	private static final String CONFIG_FILE = "config.ini.benchmark";
+
+	/**
+	 * The folder holding the sample characters used by the benchmarks.
+	 */
+	public static final String CHARACTER_FOLDER = "characters";
+
+	/**
+	 * The folder holding the characters of the integration tests, which cover
+	 * game modes other than the sample characters (e.g. 3.5e and Pathfinder).
+	 */
+	public static final String TEST_SUITE_FOLDER = "code/testsuite/PCGfiles";
+
+	private static boolean started = false;
+
+	private BenchmarkSupport()
+	{
+		//Don't allow instantiation of utility class
+	}
+
+	/**
+	 * Loads the plugins, game modes and campaign list, if not already done in
+	 * this JVM. Settings are kept in a temporary folder, so the user's settings
+	 * are neither used nor changed.
+	 */
+	public static synchronized void start()
+	{
+		if (started)
+		{
+			return;
+		}
+		try
+		{
+			Path settingsDir = Files.createTempDirectory("pcgen-benchmark");
+			settingsDir.toFile().deleteOnExit();
+			Path configFile = settingsDir.resolve(CONFIG_FILE);
+			TestHelper.createDummySettingsFile(configFile.toString(),
+				Files.createDirectories(settingsDir.resolve("settings")).toString(), TestHelper.findDataFolder());
+			new PropertyContextFactory(settingsDir.toString())
+				.registerAndLoadPropertyContext(ConfigurationSettings.getInstance(CONFIG_FILE));
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Unable to create the benchmark settings", e);
+		}
+		Main.loadProperties(false);
+		Main.runBootstrapTasks();
+		SettingsHandler.setOutputDeprecationMessages(false);
+		SettingsHandler.setInputUnconstructedMessages(false);
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_ALLOW_OVERRIDE_DUPLICATES, true);
+		started = true;
+	}
+
+	/**
+	 * Returns the file of the named sample character.
+	 *
+	 * @param character
+	 *            The name of the character, without the .pcg extension
+	 * @return The file of the named sample character
+	 */
+	public static File getCharacterFile(String character)
+	{
+		return new File(CHARACTER_FOLDER, character + ".pcg");
+	}
+
+	/**
+	 * Returns the file of the named integration test character.
+	 *
+	 * @param character
+	 *            The name of the character, without the .pcg extension
+	 * @return The file of the named integration test character
+	 */
+	public static File getTestSuiteCharacterFile(String character)
+	{
+		return new File(TEST_SUITE_FOLDER, character + ".pcg");
+	}
+
+	/**
+	 * Returns the sources required by the given character file.
+	 *
+	 * @param file
+	 *            The character file
+	 * @return The sources required by the given character file
+	 */
+	public static SourceSelectionFacade getSources(File file)
+	{
+		SourceSelectionFacade sources = CharacterManager.getRequiredSourcesForCharacter(file, getDelegate());
+		if (sources == null)
+		{
+			throw new IllegalStateException("Unable to read the sources of " + file);
+		}
+		return sources;
+	}
+
+	/**
+	 * Loads (or reuses, if already loaded) the data set for the given sources.
+	 *
+	 * @param sources
+	 *            The sources to be loaded
+	 * @return The loaded data set
+	 */
+	public static DataSetFacade getDataSet(SourceSelectionFacade sources)
+	{
+		DataSetFacade dataSet = DataSetCache.getDataSet(sources, getDelegate());
+		if (dataSet == null)
+		{
+			throw new IllegalStateException("Unable to load " + sources);
+		}
+		return dataSet;
+	}
+
+	/**
+	 * Reads the given character file into a new PlayerCharacter and calculates
+	 * its bonuses, as CharacterManager does when opening a character. The
+	 * character is not registered as open.
+	 *
+	 * @param file
+	 *            The character file
+	 * @param dataSet
+	 *            The data set loaded for the character's sources
+	 * @return The PlayerCharacter read from the file
+	 */
+	public static PlayerCharacter readCharacter(File file, DataSetFacade dataSet)
+	{
+		PlayerCharacter pc = new PlayerCharacter(ListFacades.wrap(dataSet.getCampaigns()));
+		pc.setFileName(file.getAbsolutePath());
+		PCGIOHandler ioHandler = new PCGIOHandler();
+		ioHandler.read(pc, file.getAbsolutePath());
+		if (!ioHandler.getErrors().isEmpty())
+		{
+			throw new IllegalStateException("Unable to read " + file + ": " + ioHandler.getErrors());
+		}
+		pc.calcActiveBonuses();
+		return pc;
+	}
+
+	/**
+	 * Returns a UIDelegate which answers every question without user input.
+	 *
+	 * @return A UIDelegate for use by the benchmarks
+	 */
+	public static UIDelegate getDelegate()
+	{
+		return new MockUIDelegate();
+	}
+}
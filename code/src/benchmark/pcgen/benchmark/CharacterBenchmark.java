@@ -0,0 +1,102 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import pcgen.base.formula.base.VariableID;
+import pcgen.base.solver.SolverManager;
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.facet.FacetLibrary;
+import pcgen.cdom.facet.SolverManagerFacet;
+import pcgen.cdom.facet.VariableStoreFacet;
+import pcgen.core.PlayerCharacter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the work done on an open character: reading it from its PCG file
+ * (PCGVer2Parser), recalculating its bonuses (BonusManager) and solving its
+ * variables (the PCGen-Formula solver).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class CharacterBenchmark
+{
+	private SolverManager solverManager;
+
+	private List<VariableID<?>> variables;
+
+	@Setup
+	public void setUp(CharacterState state)
+	{
+		CharID id = state.pc.getCharID();
+		solverManager = FacetLibrary.getFacet(SolverManagerFacet.class).get(id);
+		variables = new ArrayList<>(FacetLibrary.getFacet(VariableStoreFacet.class).get(id).getVariables());
+	}
+
+	/**
+	 * Reads the character from its file and calculates its bonuses.
+	 */
+	@Benchmark
+	public PlayerCharacter openCharacter(CharacterState state)
+	{
+		return BenchmarkSupport.readCharacter(state.file, state.dataSet);
+	}
+
+	/**
+	 * Rebuilds the active bonuses of the character.
+	 */
+	@Benchmark
+	public PlayerCharacter calcActiveBonuses(CharacterState state)
+	{
+		state.pc.calcActiveBonuses();
+		return state.pc;
+	}
+
+	/**
+	 * Solves every variable of the character again, along with the variables
+	 * which depend on it.
+	 */
+	@Benchmark
+	public int solveVariables()
+	{
+		int changed = 0;
+		for (VariableID<?> varID : variables)
+		{
+			if (solverManager.processSolver(varID))
+			{
+				changed++;
+			}
+		}
+		return changed;
+	}
+}
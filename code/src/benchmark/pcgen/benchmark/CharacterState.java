@@ -0,0 +1,65 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.io.File;
+
+import pcgen.core.PlayerCharacter;
+import pcgen.facade.core.DataSetFacade;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * CharacterState holds a sample character, loaded once per trial along with
+ * the data set for its sources, for the benchmarks of an open character.
+ */
+@State(Scope.Benchmark)
+public class CharacterState
+{
+	/**
+	 * The sample character to be loaded.
+	 */
+	@Param({"CodeMonkey", "Everything", "Sorcerer", "SpecialWizard"})
+	public String character;
+
+	/**
+	 * The file of the sample character.
+	 */
+	public File file;
+
+	/**
+	 * The data set loaded for the sources of the character.
+	 */
+	public DataSetFacade dataSet;
+
+	/**
+	 * The character, read from the file and prepared for output.
+	 */
+	public PlayerCharacter pc;
+
+	@Setup
+	public void setUp()
+	{
+		BenchmarkSupport.start();
+		file = BenchmarkSupport.getCharacterFile(character);
+		dataSet = BenchmarkSupport.getDataSet(BenchmarkSupport.getSources(file));
+		pc = BenchmarkSupport.readCharacter(file, dataSet);
+		pc.preparePCForOutput();
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import pcgen.cdom.base.CDOMObject;
+import pcgen.cdom.base.ChooseInformation;
+import pcgen.cdom.enumeration.ObjectKey;
+import pcgen.core.Globals;
+import pcgen.core.PlayerCharacter;
+import pcgen.facade.core.DataSetFacade;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building the choices of the CHOOSE tokens in the 3.5e and
+ * Pathfinder data which intersect or negate their parts (those whose LST
+ * format holds a comma or a !), as shown when the user is asked to make a
+ * selection. These are the CHOOSE tokens evaluated through
+ * CompoundAndPrimitive, CompoundAndChoiceSet and NegatingPrimitive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ChooseBenchmark
+{
+	/**
+	 * The integration test character, which selects the game mode and data.
+	 */
+	@Param({"35e_Bard", "pf_Cleric"})
+	public String character;
+
+	private PlayerCharacter pc;
+
+	private List<ChooseInformation<?>> chooses;
+
+	@Setup
+	public void setUp()
+	{
+		BenchmarkSupport.start();
+		File file = BenchmarkSupport.getTestSuiteCharacterFile(character);
+		DataSetFacade dataSet = BenchmarkSupport.getDataSet(BenchmarkSupport.getSources(file));
+		pc = BenchmarkSupport.readCharacter(file, dataSet);
+		chooses = new ArrayList<>();
+		for (Object o : Globals.getContext().getReferenceContext().getAllConstructedObjects())
+		{
+			if (o instanceof CDOMObject cdo)
+			{
+				ChooseInformation<?> info = cdo.get(ObjectKey.CHOOSE_INFO);
+				if (info != null && isIntersection(info.getLSTformat()))
+				{
+					chooses.add(info);
+				}
+			}
+		}
+		if (chooses.isEmpty())
+		{
+			throw new IllegalStateException("No CHOOSE intersecting or negating its parts in the data of " + file);
+		}
+		chooses.sort(Comparator.comparing(ChooseInformation::getLSTformat));
+	}
+
+	private static boolean isIntersection(String format)
+	{
+		return (format != null) && ((format.indexOf(',') != -1) || (format.indexOf('!') != -1));
+	}
+
+	/**
+	 * Builds the choices of every such CHOOSE in the data once.
+	 *
+	 * @return The total number of choices, so the work is not eliminated
+	 */
+	@Benchmark
+	public int buildChoices()
+	{
+		int count = 0;
+		for (ChooseInformation<?> info : chooses)
+		{
+			count += info.getSet(pc).size();
+		}
+		return count;
+	}
+}
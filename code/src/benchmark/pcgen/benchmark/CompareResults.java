@@ -0,0 +1,195 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CompareResults compares the results of a JMH run (in JMH's CSV format)
+ * against a saved baseline and reports the change in each score. A change
+ * for the worse beyond the threshold is reported as a regression.
+ *
+ * Usage: CompareResults baseline.csv results.csv [threshold percent]
+ */
+public final class CompareResults
+{
+	private CompareResults()
+	{
+		//Don't allow instantiation of utility class
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 2)
+		{
+			System.err.println("Usage: CompareResults baseline.csv results.csv [threshold percent]");
+			System.exit(2);
+		}
+		Path baselineFile = Path.of(args[0]);
+		Path resultsFile = Path.of(args[1]);
+		double threshold = (args.length > 2) ? Double.parseDouble(args[2]) : 10.0;
+		if (!Files.exists(baselineFile))
+		{
+			System.err.println("No baseline at " + baselineFile + ", run benchmarkBaseline to keep one");
+			System.exit(1);
+		}
+		if (!Files.exists(resultsFile))
+		{
+			System.err.println("No results at " + resultsFile + ", run benchmark first");
+			System.exit(1);
+		}
+
+		Map<String, Score> baseline = read(baselineFile);
+		Map<String, Score> results = read(resultsFile);
+		int regressions = 0;
+		System.out.printf(Locale.ROOT, "%-70s %14s %14s %-8s %9s%n", "Benchmark", "Baseline", "Current", "Unit",
+			"Change");
+		for (Map.Entry<String, Score> me : results.entrySet())
+		{
+			Score current = me.getValue();
+			Score base = baseline.get(me.getKey());
+			if ((base == null) || !base.unit.equals(current.unit))
+			{
+				System.out.printf(Locale.ROOT, "%-70s %14s %14.3f %-8s %9s%n", me.getKey(), "-", current.score,
+					current.unit, "new");
+				continue;
+			}
+			double change = (base.score == 0.0) ? 0.0 : ((current.score - base.score) * 100.0 / base.score);
+			//Throughput is better when higher, all other modes when lower
+			double worse = current.higherIsBetter() ? -change : change;
+			String flag = "";
+			if (worse > threshold)
+			{
+				flag = "  REGRESSION";
+				regressions++;
+			}
+			else if (worse < -threshold)
+			{
+				flag = "  improved";
+			}
+			System.out.printf(Locale.ROOT, "%-70s %14.3f %14.3f %-8s %+8.1f%%%s%n", me.getKey(), base.score,
+				current.score, current.unit, change, flag);
+		}
+		for (String key : baseline.keySet())
+		{
+			if (!results.containsKey(key))
+			{
+				System.out.printf(Locale.ROOT, "%-70s %14.3f %14s %-8s %9s%n", key, baseline.get(key).score, "-",
+					baseline.get(key).unit, "not run");
+			}
+		}
+		System.out.println(regressions + " regression(s) beyond " + threshold + "%");
+	}
+
+	/**
+	 * Reads the scores from a JMH CSV results file, keyed by benchmark, mode
+	 * and parameter values.
+	 */
+	private static Map<String, Score> read(Path file) throws IOException
+	{
+		Map<String, Score> scores = new LinkedHashMap<>();
+		List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		if (lines.isEmpty())
+		{
+			return scores;
+		}
+		List<String> header = split(lines.get(0));
+		int benchmark = header.indexOf("Benchmark");
+		int mode = header.indexOf("Mode");
+		int score = header.indexOf("Score");
+		int unit = header.indexOf("Unit");
+		for (String line : lines.subList(1, lines.size()))
+		{
+			List<String> fields = split(line);
+			if (fields.size() != header.size())
+			{
+				continue;
+			}
+			StringBuilder key = new StringBuilder(fields.get(benchmark));
+			for (int i = 0; i < header.size(); i++)
+			{
+				if (header.get(i).startsWith("Param: ") && !fields.get(i).isEmpty())
+				{
+					key.append(' ').append(header.get(i).substring(7)).append('=').append(fields.get(i));
+				}
+			}
+			key.append(" (").append(fields.get(mode)).append(')');
+			try
+			{
+				scores.put(key.toString(), new Score(Double.parseDouble(fields.get(score).replace(',', '.')),
+					fields.get(unit)));
+			}
+			catch (NumberFormatException e)
+			{
+				System.err.println("Ignoring unreadable score in " + file + ": " + line);
+			}
+		}
+		return scores;
+	}
+
+	/**
+	 * Splits a line of CSV into its fields, removing quotes.
+	 */
+	private static List<String> split(String line)
+	{
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++)
+		{
+			char c = line.charAt(i);
+			if (c == '"')
+			{
+				if (quoted && (i + 1 < line.length()) && (line.charAt(i + 1) == '"'))
+				{
+					field.append('"');
+					i++;
+				}
+				else
+				{
+					quoted = !quoted;
+				}
+			}
+			else if ((c == ',') && !quoted)
+			{
+				fields.add(field.toString());
+				field.setLength(0);
+			}
+			else
+			{
+				field.append(c);
+			}
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	private record Score(double score, String unit)
+	{
+		private boolean higherIsBetter()
+		{
+			return unit.endsWith("/s") || unit.endsWith("/ms") || unit.endsWith("/us") || unit.endsWith("/ns");
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import pcgen.io.ExportException;
+import pcgen.io.ExportHandler;
+import pcgen.output.json.JsonModelWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures exporting an open character through ExportHandler, with both a
+ * token based (.htm) sheet and a FreeMarker (.ftl) sheet, and through the
+ * template-free JSON writer. Output is discarded, so only the cost of
+ * producing it is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class ExportBenchmark
+{
+	/**
+	 * The export sheet, from the sheets used by the integration tests.
+	 */
+	@State(Scope.Benchmark)
+	public static class Sheet
+	{
+		@Param({"csheet_fantasy_std.htm", "base-xml.ftl"})
+		public String sheet;
+
+		private File templateFile;
+
+		@Setup
+		public void setUp()
+		{
+			templateFile = new File("code/testsuite", sheet);
+		}
+	}
+
+	@Benchmark
+	public void exportSheet(CharacterState state, Sheet sheet) throws ExportException
+	{
+		ExportHandler handler = ExportHandler.createExportHandler(sheet.templateFile);
+		handler.write(state.pc, new BufferedWriter(Writer.nullWriter()));
+	}
+
+	@Benchmark
+	public void exportJson(CharacterState state) throws IOException
+	{
+		JsonModelWriter.writeCharacter(state.pc.getCharID(), Writer.nullWriter());
+	}
+}
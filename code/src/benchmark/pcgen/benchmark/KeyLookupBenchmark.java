@@ -0,0 +1,115 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import pcgen.base.util.CaseFoldingMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up reference keys, in a case different to the one they were
+ * stored in, in a CaseFoldingMap (as used by the reference manufacturers) and
+ * in a TreeMap using String.CASE_INSENSITIVE_ORDER (as used before it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyLookupBenchmark
+{
+	/**
+	 * The number of keys in the map, from a small category to a large one.
+	 */
+	@Param({"100", "10000"})
+	public int size;
+
+	private CaseFoldingMap<Integer> foldingMap;
+
+	private Map<String, Integer> treeMap;
+
+	/**
+	 * The keys to be looked up: stored keys in upper case, and keys which are
+	 * not present.
+	 */
+	private String[] lookups;
+
+	@Setup
+	public void setUp()
+	{
+		foldingMap = new CaseFoldingMap<>();
+		treeMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		Random random = new Random(49);
+		String[] keys = new String[size];
+		for (int i = 0; i < size; i++)
+		{
+			//Data keys share long prefixes, such as "Weapon Focus (Longsword)"
+			keys[i] = "Weapon Focus (Item " + random.nextInt(size * 10) + ")";
+			foldingMap.put(keys[i], i);
+			treeMap.put(keys[i], i);
+		}
+		lookups = new String[1000];
+		for (int i = 0; i < lookups.length; i++)
+		{
+			lookups[i] = (i % 4 == 0) ? "Weapon Focus (Missing " + i + ")"
+				: keys[random.nextInt(size)].toUpperCase();
+		}
+	}
+
+	@Benchmark
+	public int caseFoldingMap()
+	{
+		int found = 0;
+		for (String key : lookups)
+		{
+			if (foldingMap.get(key) != null)
+			{
+				found++;
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int treeMap()
+	{
+		int found = 0;
+		for (String key : lookups)
+		{
+			if (treeMap.get(key) != null)
+			{
+				found++;
+			}
+		}
+		return found;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import pcgen.facade.core.DataSetFacade;
+import pcgen.facade.core.SourceSelectionFacade;
+import pcgen.persistence.SourceFileLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures SourceFileLoader loading the sources of a sample character. Each
+ * load parses the LST files of the sources again, so this is measured as a
+ * single shot per iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class LoadBenchmark
+{
+	/**
+	 * The sample character whose sources are loaded.
+	 */
+	@Param({"CodeMonkey"})
+	public String character;
+
+	private SourceSelectionFacade sources;
+
+	@Setup
+	public void setUp()
+	{
+		BenchmarkSupport.start();
+		sources = BenchmarkSupport.getSources(BenchmarkSupport.getCharacterFile(character));
+	}
+
+	@Benchmark
+	public DataSetFacade loadSources()
+	{
+		SourceFileLoader loader = new SourceFileLoader(BenchmarkSupport.getDelegate(), sources.getCampaigns(),
+			sources.getGameMode().get().getName());
+		loader.run();
+		return loader.getDataSetFacade();
+	}
+}
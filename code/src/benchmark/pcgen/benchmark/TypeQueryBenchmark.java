@@ -0,0 +1,118 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.benchmark;
+
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.Type;
+import pcgen.cdom.enumeration.TypeQuery;
+import pcgen.core.PObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares matching an object against a type String by parsing the String on
+ * each call (as PObject.isType did before TypeQuery) with the shared
+ * TypeQuery looked up by PObject.isType(String) and with a TypeQuery held by
+ * the caller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeQueryBenchmark
+{
+	/**
+	 * The type to be matched: a match, a partial match and a prefixed form.
+	 */
+	@Param({"Weapon.Melee.Martial", "Weapon.Ranged", "TYPE=Weapon"})
+	public String type;
+
+	private PObject object;
+
+	private TypeQuery query;
+
+	@Setup
+	public void setUp()
+	{
+		object = new PObject();
+		for (String t : new String[]{"Weapon", "Melee", "Martial", "Slashing", "Standard"})
+		{
+			object.addToListFor(ListKey.TYPE, Type.getConstant(t));
+		}
+		query = TypeQuery.getQuery(type);
+	}
+
+	/**
+	 * The matching done by PObject.isType(String) before TypeQuery.
+	 */
+	@Benchmark
+	public boolean parseEachCall()
+	{
+		String myType;
+		if (type.isEmpty())
+		{
+			return false;
+		}
+		else if (type.charAt(0) == '!')
+		{
+			myType = type.substring(1).toUpperCase();
+		}
+		else if (type.startsWith("TYPE=") || type.startsWith("TYPE."))
+		{
+			myType = type.substring(5).toUpperCase();
+		}
+		else
+		{
+			myType = type.toUpperCase();
+		}
+		StringTokenizer tok = new StringTokenizer(myType, ".");
+		while (tok.hasMoreTokens())
+		{
+			if (!object.containsInList(ListKey.TYPE, Type.getConstant(tok.nextToken())))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Benchmark
+	public boolean sharedQuery()
+	{
+		return object.isType(type);
+	}
+
+	@Benchmark
+	public boolean heldQuery()
+	{
+		return object.isType(query);
+	}
+}
@@ -166,33 +166,35 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final boolean containsKey(IntegerKey key)
 	{
-		return integerChar != null && integerChar.containsKey(key);
+		return hasKey(integerChar, key);
 	}
 
 	public final Integer get(IntegerKey key)
 	{
-		return integerChar == null ? null : integerChar.get(key);
+		return getValue(integerChar, key);
 	}
 
 	public final int getSafe(IntegerKey key)
 	{
-		Integer intValue = integerChar == null ? null : integerChar.get(key);
+		Integer intValue = getValue(integerChar, key);
 		return intValue == null ? key.getDefault() : intValue;
 	}
 
 	public final Integer put(IntegerKey key, Integer intValue)
 	{
-		if (integerChar == null)
-		{
-			integerChar = new HashMap<>();
-		}
+		integerChar = modifiable(integerChar);
 		return integerChar.put(key, intValue);
 	}
 
 	public final Integer remove(IntegerKey key)
 	{
-		Integer out = integerChar == null ? null : integerChar.remove(key);
-		if (out != null && integerChar.isEmpty())
+		if (!hasKey(integerChar, key))
+		{
+			return null;
+		}
+		integerChar = modifiable(integerChar);
+		Integer out = integerChar.remove(key);
+		if (integerChar.isEmpty())
 		{
 			integerChar = null;
 		}
@@ -248,12 +250,12 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final boolean containsKey(FormulaKey key)
 	{
-		return formulaChar != null && formulaChar.containsKey(key);
+		return hasKey(formulaChar, key);
 	}
 
 	public final Formula get(FormulaKey key)
 	{
-		return formulaChar == null ? null : formulaChar.get(key);
+		return getValue(formulaChar, key);
 	}
 
 	public final Formula getSafe(FormulaKey key)
@@ -264,17 +266,19 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final Formula put(FormulaKey key, Formula value)
 	{
-		if (formulaChar == null)
-		{
-			formulaChar = new HashMap<>();
-		}
+		formulaChar = modifiable(formulaChar);
 		return formulaChar.put(key, value);
 	}
 
 	public final Formula remove(FormulaKey key)
 	{
-		Formula out = formulaChar == null ? null : formulaChar.remove(key);
-		if (out != null && formulaChar.isEmpty())
+		if (!hasKey(formulaChar, key))
+		{
+			return null;
+		}
+		formulaChar = modifiable(formulaChar);
+		Formula out = formulaChar.remove(key);
+		if (formulaChar.isEmpty())
 		{
 			formulaChar = null;
 		}
@@ -288,12 +292,12 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final boolean containsKey(VariableKey key)
 	{
-		return variableChar != null && variableChar.containsKey(key);
+		return hasKey(variableChar, key);
 	}
 
 	public final Formula get(VariableKey key)
 	{
-		return variableChar == null ? null : variableChar.get(key);
+		return getValue(variableChar, key);
 	}
 
 	public final Set<VariableKey> getVariableKeys()
@@ -303,17 +307,19 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final Formula put(VariableKey key, Formula value)
 	{
-		if (variableChar == null)
-		{
-			variableChar = new HashMap<>();
-		}
+		variableChar = modifiable(variableChar);
 		return variableChar.put(key, value);
 	}
 
 	public final Formula remove(VariableKey key)
 	{
-		Formula out = variableChar == null ? null : variableChar.remove(key);
-		if (out != null && variableChar.isEmpty())
+		if (!hasKey(variableChar, key))
+		{
+			return null;
+		}
+		variableChar = modifiable(variableChar);
+		Formula out = variableChar.remove(key);
+		if (variableChar.isEmpty())
 		{
 			variableChar = null;
 		}
@@ -327,12 +333,12 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final boolean containsKey(ObjectKey<?> key)
 	{
-		return objectChar != null && objectChar.containsKey(key);
+		return hasKey(objectChar, key);
 	}
 
 	public final <OT> OT get(ObjectKey<OT> key)
 	{
-		return objectChar == null ? null : key.cast(objectChar.get(key));
+		return key.cast(getValue(objectChar, key));
 	}
 
 	public final <OT> OT getSafe(ObjectKey<OT> key)
@@ -343,17 +349,19 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final <OT> OT put(ObjectKey<OT> key, OT value)
 	{
-		if (objectChar == null)
-		{
-			objectChar = new HashMap<>();
-		}
+		objectChar = modifiable(objectChar);
 		return key.cast(objectChar.put(key, value));
 	}
 
 	public final <OT> OT remove(ObjectKey<OT> key)
 	{
-		OT out = objectChar == null ? null : key.cast(objectChar.remove(key));
-		if (out != null && objectChar.isEmpty())
+		if (!hasKey(objectChar, key))
+		{
+			return null;
+		}
+		objectChar = modifiable(objectChar);
+		OT out = key.cast(objectChar.remove(key));
+		if (objectChar.isEmpty())
 		{
 			objectChar = null;
 		}
@@ -367,28 +375,20 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final boolean containsKey(FactKey<?> key)
 	{
-		return factChar != null && factChar.containsKey(key);
+		return hasKey(factChar, key);
 	}
 
 	public final <FT> Indirect<FT> get(FactKey<FT> key)
 	{
-		if (factChar == null)
-		{
-			return null;
-		}
 		@SuppressWarnings("unchecked")
-		Indirect<FT> indirect = (Indirect<FT>) factChar.get(key);
+		Indirect<FT> indirect = (Indirect<FT>) getValue(factChar, key);
 		return indirect;
 	}
 
 	public final <FT> FT getResolved(FactKey<FT> key)
 	{
-		if (factChar == null)
-		{
-			return null;
-		}
 		@SuppressWarnings("unchecked")
-		Indirect<FT> indirect = (Indirect<FT>) factChar.get(key);
+		Indirect<FT> indirect = (Indirect<FT>) getValue(factChar, key);
 		if (indirect == null)
 		{
 			return null;
@@ -398,17 +398,19 @@ public abstract class CDOMObject extends ConcretePrereqObject
 
 	public final <FT> FT put(FactKey<FT> key, Indirect<FT> value)
 	{
-		if (factChar == null)
-		{
-			factChar = new HashMap<>();
-		}
+		factChar = modifiable(factChar);
 		return key.cast(factChar.put(key, value));
 	}
 
 	public final <FT> FT remove(FactKey<FT> key)
 	{
-		FT out = factChar == null ? null : key.cast(factChar.remove(key));
-		if (out != null && factChar.isEmpty())
+		if (!hasKey(factChar, key))
+		{
+			return null;
+		}
+		factChar = modifiable(factChar);
+		FT out = key.cast(factChar.remove(key));
+		if (factChar.isEmpty())
 		{
 			factChar = null;
 		}
@@ -954,10 +956,7 @@ public abstract class CDOMObject extends ConcretePrereqObject
 		addAllPrerequisites(cdo.getPrerequisiteList());
 		if (cdo.integerChar != null)
 		{
-			if (integerChar == null)
-			{
-				integerChar = new HashMap<>();
-			}
+			integerChar = modifiable(integerChar);
 			integerChar.putAll(cdo.integerChar);
 		}
 		if (cdo.stringChar != null)
@@ -970,34 +969,22 @@ public abstract class CDOMObject extends ConcretePrereqObject
 		}
 		if (cdo.formulaChar != null)
 		{
-			if (formulaChar == null)
-			{
-				formulaChar = new HashMap<>();
-			}
+			formulaChar = modifiable(formulaChar);
 			formulaChar.putAll(cdo.formulaChar);
 		}
 		if (cdo.objectChar != null)
 		{
-			if (objectChar == null)
-			{
-				objectChar = new HashMap<>();
-			}
+			objectChar = modifiable(objectChar);
 			objectChar.putAll(cdo.objectChar);
 		}
 		if (cdo.factChar != null)
 		{
-			if (factChar == null)
-			{
-				factChar = new HashMap<>();
-			}
+			factChar = modifiable(factChar);
 			factChar.putAll(cdo.factChar);
 		}
 		if (cdo.variableChar != null)
 		{
-			if (variableChar == null)
-			{
-				variableChar = new HashMap<>();
-			}
+			variableChar = modifiable(variableChar);
 			variableChar.putAll(cdo.variableChar);
 		}
 		if (cdo.listChar != null)
@@ -1034,6 +1021,59 @@ public abstract class CDOMObject extends ConcretePrereqObject
 		}
 	}
 
+	/**
+	 * Replaces the single valued key maps of this CDOMObject with compact,
+	 * read-only copies. This is intended to be called once the data load is
+	 * complete, as the objects are then (almost always) only read. A
+	 * HashMap holds an entry object per key plus a mostly empty table, while
+	 * the compact copy stores keys and values in a single flat array.
+	 * <p>
+	 * Later modifications remain possible: any put or remove on a compacted
+	 * map first copies it back into a modifiable map. A map holding a null
+	 * key or value is left as it is, and lookups of a null key answer as they
+	 * did before compaction.
+	 */
+	public final void compactKeyStorage()
+	{
+		integerChar = compact(integerChar);
+		formulaChar = compact(formulaChar);
+		variableChar = compact(variableChar);
+		objectChar = compact(objectChar);
+		factChar = compact(factChar);
+	}
+
+	private static <K, V> Map<K, V> compact(Map<K, V> map)
+	{
+		if (!(map instanceof HashMap) || map.containsKey(null) || map.containsValue(null))
+		{
+			return map;
+		}
+		return Map.copyOf(map);
+	}
+
+	/*
+	 * A compacted map never holds a null key, and throws NullPointerException
+	 * if asked for one, so a null key is only looked up in a HashMap.
+	 */
+	private static boolean hasKey(Map<?, ?> map, Object key)
+	{
+		return (map != null) && ((key != null) || (map instanceof HashMap)) && map.containsKey(key);
+	}
+
+	private static <V> V getValue(Map<?, V> map, Object key)
+	{
+		return ((map == null) || ((key == null) && !(map instanceof HashMap))) ? null : map.get(key);
+	}
+
+	private static <K, V> Map<K, V> modifiable(Map<K, V> map)
+	{
+		if (map == null)
+		{
+			return new HashMap<>();
+		}
+		return (map instanceof HashMap) ? map : new HashMap<>(map);
+	}
+
 	@SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CLONE",
 		justification = "ownBonuses is intentionally overridable: PCClass overrides it to "
 			+ "recursively re-own bonuses on its PCClassLevel children. The override only "
@@ -19,6 +19,8 @@ package pcgen.cdom.base;
 
 import java.net.URI;
 
+import pcgen.cdom.enumeration.TypeQuery;
+
 /**
  * A Loadable is an object that PCGen can load from its persistent file storage (generally "LST" files). 
  */
@@ -70,6 +72,20 @@ public interface Loadable extends Identified
 	 */
 	public boolean isType(String type);
 
+	/**
+	 * Returns true if the object is of the given pre-parsed type. This is
+	 * equivalent to isType(query.getQuery()), but allows implementations to
+	 * avoid parsing the type String on every call.
+	 * 
+	 * @param query
+	 *            The type to be checked to see if this Loadable is of the given Type
+	 * @return true if the object is of the given type; false otherwise.
+	 */
+	public default boolean isType(TypeQuery query)
+	{
+		return isType(query.getQuery());
+	}
+
 	/**
 	 * Returns the ClassIdentity of this Loadable.
 	 * 
@@ -0,0 +1,164 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.base;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An OrdinalSet is a working set used to combine the results of CHOOSE
+ * primitives and choice sets.
+ *
+ * Each distinct object of the collection the OrdinalSet is built from (the
+ * universe) is given an ordinal, and membership is held as a BitSet over those
+ * ordinals. Intersecting with or removing another collection therefore costs
+ * one lookup per object of that collection, and is applied as a word-level
+ * AND or AND NOT, rather than a contains() call on the other collection for
+ * each member (which is linear when the other collection is a List). Objects
+ * are only gathered into a Collection again once all of the operations are
+ * complete.
+ *
+ * An OrdinalSet can only contain objects from its universe, so it supports
+ * only the operations which can remove members.
+ *
+ * @param <T>
+ *            The type of object contained in the OrdinalSet
+ */
+public final class OrdinalSet<T>
+{
+	/**
+	 * The ordinal of each object in the universe.
+	 */
+	private final Map<Object, Integer> ordinals;
+
+	/**
+	 * The objects of the universe, in ordinal order.
+	 */
+	private final List<T> objects;
+
+	/**
+	 * The ordinals of the objects currently in this OrdinalSet.
+	 */
+	private final BitSet members;
+
+	/**
+	 * Constructs a new OrdinalSet initially containing all of the objects in
+	 * the given universe. Ordinals are assigned in the iteration order of the
+	 * universe, ignoring any duplicates.
+	 *
+	 * @param universe
+	 *            The objects which the OrdinalSet may contain
+	 */
+	public OrdinalSet(Collection<? extends T> universe)
+	{
+		ordinals = new HashMap<>(Math.max(16, (int) (universe.size() / 0.75f) + 1));
+		objects = new ArrayList<>(universe.size());
+		for (T object : universe)
+		{
+			if (ordinals.putIfAbsent(object, objects.size()) == null)
+			{
+				objects.add(object);
+			}
+		}
+		members = new BitSet(objects.size());
+		members.set(0, objects.size());
+	}
+
+	/**
+	 * Removes from this OrdinalSet any object which is not in the given
+	 * Collection.
+	 *
+	 * @param other
+	 *            The objects to be retained
+	 */
+	public void retainAll(Collection<?> other)
+	{
+		members.and(ordinalsOf(other));
+	}
+
+	/**
+	 * Removes from this OrdinalSet any object which is in the given Collection.
+	 *
+	 * @param other
+	 *            The objects to be removed
+	 */
+	public void removeAll(Collection<?> other)
+	{
+		members.andNot(ordinalsOf(other));
+	}
+
+	private BitSet ordinalsOf(Collection<?> other)
+	{
+		BitSet found = new BitSet(objects.size());
+		for (Object object : other)
+		{
+			Integer ordinal = ordinals.get(object);
+			if (ordinal != null)
+			{
+				found.set(ordinal);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Returns true if this OrdinalSet contains no objects.
+	 *
+	 * @return true if this OrdinalSet contains no objects; false otherwise
+	 */
+	public boolean isEmpty()
+	{
+		return members.isEmpty();
+	}
+
+	/**
+	 * Returns a new List of the objects in this OrdinalSet, in ordinal order.
+	 * Ownership of the List is transferred to the caller.
+	 *
+	 * @return A List of the objects in this OrdinalSet
+	 */
+	public List<T> toList()
+	{
+		List<T> list = new ArrayList<>(members.cardinality());
+		for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1))
+		{
+			list.add(objects.get(i));
+		}
+		return list;
+	}
+
+	/**
+	 * Returns a new Set of the objects in this OrdinalSet, iterating in ordinal
+	 * order. Ownership of the Set is transferred to the caller.
+	 *
+	 * @return A Set of the objects in this OrdinalSet
+	 */
+	public Set<T> toSet()
+	{
+		Set<T> set = new LinkedHashSet<>(Math.max(16, (int) (members.cardinality() / 0.75f) + 1));
+		for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1))
+		{
+			set.add(objects.get(i));
+		}
+		return set;
+	}
+}
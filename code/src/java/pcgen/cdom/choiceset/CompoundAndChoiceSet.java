@@ -25,6 +25,7 @@ import java.util.TreeSet;
 import java.util.logging.Level;
 
 import pcgen.cdom.base.Constants;
+import pcgen.cdom.base.OrdinalSet;
 import pcgen.cdom.base.PrimitiveChoiceSet;
 import pcgen.cdom.enumeration.GroupingState;
 import pcgen.core.PlayerCharacter;
@@ -105,19 +106,23 @@ public final class CompoundAndChoiceSet<T> implements PrimitiveChoiceSet<T>
 	@Override
 	public Collection<? extends T> getSet(PlayerCharacter pc)
 	{
-		Collection<? extends T> returnSet = null;
+		OrdinalSet<T> returnSet = null;
 		for (PrimitiveChoiceSet<T> cs : pcsSet)
 		{
 			if (returnSet == null)
 			{
-				returnSet = cs.getSet(pc);
+				returnSet = new OrdinalSet<>(cs.getSet(pc));
 			}
 			else
 			{
 				returnSet.retainAll(cs.getSet(pc));
 			}
+			if (returnSet.isEmpty())
+			{
+				break;
+			}
 		}
-		return returnSet;
+		return (returnSet == null) ? null : returnSet.toSet();
 	}
 
 	/**
@@ -117,6 +117,12 @@ public final class Type implements TypeSafeConstant, Comparable<Type>
 	 */
 	private static int ordinalCount = 0;
 
+	/**
+	 * Incremented each time the map of constants is rebuilt, so that anything
+	 * holding Types looked up by name knows to look them up again.
+	 */
+	private static volatile int generation = 0;
+
 	/**
 	 * The name of this Constant
 	 */
@@ -233,8 +239,20 @@ public final class Type implements TypeSafeConstant, Comparable<Type>
 		return fieldName.hashCode();
 	}
 
+	/**
+	 * Returns a number which changes each time the map of constants is
+	 * rebuilt by buildMap().
+	 * 
+	 * @return The current generation of the map of constants
+	 */
+	static int getGeneration()
+	{
+		return generation;
+	}
+
 	public static void buildMap()
 	{
+		generation++;
 		TYPE_MAP.clear();
 		Field[] fields = Type.class.getDeclaredFields();
         for (Field field : fields)
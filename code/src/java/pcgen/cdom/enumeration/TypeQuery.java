@@ -0,0 +1,172 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.enumeration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A TypeQuery is a type String as used by isType (e.g. "TYPE=Weapon.Melee"),
+ * parsed once into the types it requires. Testing an object against a TypeQuery
+ * therefore needs no String manipulation, just a membership test of each Type.
+ *
+ * TypeQuery objects are shared: getQuery(String) returns the same TypeQuery
+ * each time it is given the same String.
+ */
+public final class TypeQuery
+{
+	/**
+	 * The TypeQuery for each String parsed so far.
+	 */
+	private static final Map<String, TypeQuery> QUERIES = new ConcurrentHashMap<>();
+
+	/**
+	 * The String this TypeQuery was parsed from.
+	 */
+	private final String query;
+
+	/**
+	 * The upper case names of the required types, with any leading TYPE= or
+	 * TYPE. removed.
+	 */
+	private final List<String> names;
+
+	/**
+	 * The upper case names of the required types, with any leading ! (or else
+	 * TYPE= or TYPE.) removed.
+	 */
+	private final List<String> unmarkedNames;
+
+	/**
+	 * The Types for unmarkedNames, as of the given generation of Type.
+	 */
+	private volatile ResolvedTypes resolved;
+
+	private TypeQuery(String query)
+	{
+		this.query = query;
+		names = splitTypes(stripTypePrefix(query));
+		unmarkedNames = (!query.isEmpty() && query.charAt(0) == '!') ? splitTypes(query.substring(1)) : names;
+	}
+
+	/**
+	 * Returns the TypeQuery for the given type String.
+	 *
+	 * @param query
+	 *            The type String, e.g. "TYPE=Weapon.Melee"
+	 * @return The TypeQuery for the given type String
+	 */
+	public static TypeQuery getQuery(String query)
+	{
+		return QUERIES.computeIfAbsent(query, TypeQuery::new);
+	}
+
+	private static String stripTypePrefix(String query)
+	{
+		if (query.startsWith("TYPE=") || query.startsWith("TYPE.")) //$NON-NLS-1$ //$NON-NLS-2$
+		{
+			return query.substring(5);
+		}
+		return query;
+	}
+
+	private static List<String> splitTypes(String types)
+	{
+		List<String> list = new ArrayList<>();
+		int start = 0;
+		while (start <= types.length())
+		{
+			int end = types.indexOf('.', start);
+			if (end == -1)
+			{
+				end = types.length();
+			}
+			if (end > start)
+			{
+				list.add(types.substring(start, end).toUpperCase());
+			}
+			start = end + 1;
+		}
+		return List.copyOf(list);
+	}
+
+	/**
+	 * Returns the String this TypeQuery was parsed from.
+	 *
+	 * @return The String this TypeQuery was parsed from
+	 */
+	public String getQuery()
+	{
+		return query;
+	}
+
+	/**
+	 * Returns true if this TypeQuery was parsed from an empty String.
+	 *
+	 * @return true if this TypeQuery was parsed from an empty String
+	 */
+	public boolean isEmpty()
+	{
+		return query.isEmpty();
+	}
+
+	/**
+	 * Returns the upper case names of the types required by this TypeQuery, with
+	 * any leading TYPE= or TYPE. removed. A leading ! is kept as part of the
+	 * first name.
+	 *
+	 * @return The upper case names of the types required by this TypeQuery
+	 */
+	public List<String> getNames()
+	{
+		return names;
+	}
+
+	/**
+	 * Returns the Types required by this TypeQuery. A leading ! is ignored, as
+	 * is a leading TYPE= or TYPE. if there is no !.
+	 *
+	 * @return The Types required by this TypeQuery
+	 */
+	public List<Type> getTypes()
+	{
+		ResolvedTypes current = resolved;
+		int generation = Type.getGeneration();
+		if ((current == null) || (current.generation != generation))
+		{
+			List<Type> types = new ArrayList<>(unmarkedNames.size());
+			for (String name : unmarkedNames)
+			{
+				types.add(Type.getConstant(name));
+			}
+			current = new ResolvedTypes(generation, List.copyOf(types));
+			resolved = current;
+		}
+		return current.types;
+	}
+
+	@Override
+	public String toString()
+	{
+		return query;
+	}
+
+	private record ResolvedTypes(int generation, List<Type> types)
+	{
+	}
+}
@@ -46,6 +46,8 @@ public class AutoLanguageFacet extends AbstractQualifiedListFacet<QualifiedObjec
 
 	private AutoLanguageUnconditionalFacet autoLanguageUnconditionalFacet;
 
+	private QualificationFacet qualificationFacet;
+
 	/**
 	 * Processes CDOMObjects added to a Player Character to extract Languages
 	 * granted to the Player Character through the AUTO:LANG: and LANGAUTO:
@@ -147,11 +149,22 @@ public class AutoLanguageFacet extends AbstractQualifiedListFacet<QualifiedObjec
 		return list;
 	}
 
+	@Override
+	protected boolean qualifies(CharID id, QualifiedObject<CDOMReference<Language>> obj, Object source)
+	{
+		return qualificationFacet.qualifies(id, obj, source);
+	}
+
 	public void setAutoLanguageUnconditionalFacet(AutoLanguageUnconditionalFacet autoLanguageUnconditionalFacet)
 	{
 		this.autoLanguageUnconditionalFacet = autoLanguageUnconditionalFacet;
 	}
 
+	public void setQualificationFacet(QualificationFacet qualificationFacet)
+	{
+		this.qualificationFacet = qualificationFacet;
+	}
+
 	public void init()
 	{
 		CorePerspectiveDB.register(CorePerspective.LANGUAGE, FacetBehavior.CONDITIONAL, this);
@@ -19,6 +19,8 @@ package pcgen.cdom.facet;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.base.DataSetInitializedFacet;
@@ -135,6 +137,27 @@ public class CDOMWrapperInfoFacet extends AbstractSubAssociationFacet<DataSetID,
 		return actor;
 	}
 
+	/**
+	 * Returns the keys of the Actors available for the given DataSetID and
+	 * Identity (class), including those inherited from its superclasses.
+	 *
+	 * @param dsID
+	 *            The DataSetID to identify the actors
+	 * @param identity
+	 *            The Identity (class) for which the keys should be returned
+	 * @return The sorted keys of the Actors for the given DataSetID and
+	 *         Identity (class)
+	 */
+	public SortedSet<String> getActorKeys(DataSetID dsID, Class<?> identity)
+	{
+		SortedSet<String> keys = new TreeSet<>();
+		for (Class<?> cl = identity; cl != null; cl = cl.getSuperclass())
+		{
+			keys.addAll(getSubObjects(dsID, cl));
+		}
+		return keys;
+	}
+
 	@Override
 	protected Map<String, OutputActor<?>> getSubComponentMap()
 	{
@@ -37,7 +37,7 @@ import pcgen.cdom.helper.CNAbilitySelection;
  */
 public class ConditionalAbilityFacet extends AbstractSingleSourceListFacet<CNAbilitySelection, Object>
 {
-	private PrerequisiteFacet prerequisiteFacet;
+	private QualificationFacet qualificationFacet;
 
 	/**
 	 * Returns a non-null copy of the Set of objects the character qualifies for
@@ -71,7 +71,7 @@ public class ConditionalAbilityFacet extends AbstractSingleSourceListFacet<CNAbi
 			for (Map.Entry<CNAbilitySelection, Object> me : cached.entrySet())
 			{
 				CNAbilitySelection cnas = me.getKey();
-				if (prerequisiteFacet.qualifies(id, cnas, me.getValue()))
+				if (qualificationFacet.qualifies(id, cnas, me.getValue()))
 				{
 					set.add(cnas);
 				}
@@ -96,15 +96,15 @@ public class ConditionalAbilityFacet extends AbstractSingleSourceListFacet<CNAbi
 			//null gate b/c we may not have cas
 			if (source != null)
 			{
-				return prerequisiteFacet.qualifies(id, cas, source);
+				return qualificationFacet.qualifies(id, cas, source);
 			}
 		}
 		return false;
 	}
 
-	public void setPrerequisiteFacet(PrerequisiteFacet prerequisiteFacet)
+	public void setQualificationFacet(QualificationFacet qualificationFacet)
 	{
-		this.prerequisiteFacet = prerequisiteFacet;
+		this.qualificationFacet = qualificationFacet;
 	}
 
 }
@@ -17,10 +17,22 @@
  */
 package pcgen.cdom.facet;
 
+import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.facet.base.AbstractQualifiedListFacet;
 import pcgen.cdom.helper.AvailableSpell;
 
 public class ConditionallyAvailableSpellFacet extends AbstractQualifiedListFacet<AvailableSpell>
 {
+	private QualificationFacet qualificationFacet;
 
+	@Override
+	protected boolean qualifies(CharID id, AvailableSpell obj, Object source)
+	{
+		return qualificationFacet.qualifies(id, obj, source);
+	}
+
+	public void setQualificationFacet(QualificationFacet qualificationFacet)
+	{
+		this.qualificationFacet = qualificationFacet;
+	}
 }
@@ -0,0 +1,476 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.facet;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import pcgen.cdom.base.CDOMObject;
+import pcgen.cdom.base.PrereqObject;
+import pcgen.cdom.base.QualifyingObject;
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.facet.event.DataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetChangeListener;
+import pcgen.cdom.facet.model.ClassFacet;
+import pcgen.cdom.facet.model.ClassFacet.ClassLevelChangeEvent;
+import pcgen.cdom.facet.model.ClassFacet.ClassLevelChangeListener;
+import pcgen.cdom.facet.model.ClassFacet.ClassLevelObjectChangeEvent;
+import pcgen.cdom.facet.model.LanguageFacet;
+import pcgen.cdom.facet.model.TemplateFacet;
+import pcgen.cdom.helper.AvailableSpell;
+import pcgen.cdom.helper.CNAbilitySelection;
+import pcgen.core.Ability;
+import pcgen.core.AbilityUtilities;
+import pcgen.core.QualifiedObject;
+import pcgen.core.prereq.Prerequisite;
+import pcgen.util.Logging;
+
+/**
+ * QualificationFacet tests whether a Player Character qualifies for
+ * conditionally granted objects, remembering the result so that an object is
+ * only tested again once something its prerequisites read has changed.
+ *
+ * Each prerequisite kind handled here reads a known set of Facts about the
+ * Player Character (e.g. PRECLASS reads the classes and class levels), and
+ * each Fact has a version which is incremented by events from the Facets that
+ * hold it. A remembered result is used as long as the versions of the Facts
+ * read by the object's prerequisites are unchanged. Objects with any other
+ * prerequisite (e.g. PREVAR, which can read anything) are always tested.
+ *
+ * Results are remembered by the identity of the object and its source, which
+ * are loaded from the data and so are bounded by the size of the data set.
+ */
+public class QualificationFacet
+{
+	/**
+	 * The Facts about a Player Character which the prerequisites of a
+	 * conditionally granted object may read.
+	 */
+	public enum Fact
+	{
+		/**
+		 * The classes of the Player Character and their levels.
+		 */
+		CLASS,
+
+		/**
+		 * The templates of the Player Character.
+		 */
+		TEMPLATE,
+
+		/**
+		 * The languages of the Player Character.
+		 */
+		LANGUAGE,
+
+		/**
+		 * The abilities granted to the Player Character.
+		 */
+		ABILITY,
+
+		/**
+		 * The objects granted to the Player Character which carry QUALIFY.
+		 */
+		QUALIFY
+	}
+
+	/**
+	 * The classes of conditionally granted object whose qualification depends
+	 * only on their prerequisites (PrereqHandler.passesAll with the default
+	 * isAvailable and isActive).
+	 */
+	private static final Set<Class<?>> TRACKED_CLASSES =
+			Set.of(CNAbilitySelection.class, AvailableSpell.class, QualifiedObject.class);
+
+	private static final Fact[] NO_FACTS = new Fact[0];
+
+	/**
+	 * The Result held for an object which must always be tested.
+	 */
+	private static final Result ALWAYS_TEST = new Result(null, null, false);
+
+	private final Map<CharID, QualificationState> states = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private PrerequisiteFacet prerequisiteFacet;
+
+	private ClassFacet classFacet;
+
+	private TemplateFacet templateFacet;
+
+	private LanguageFacet languageFacet;
+
+	private GrantedAbilityFacet grantedAbilityFacet;
+
+	private CDOMObjectConsolidationFacet consolidationFacet;
+
+	/**
+	 * Returns true if the Player Character identified by the given CharID
+	 * qualifies for the given object granted by the given source. This gives
+	 * the same result as PrerequisiteFacet.qualifies.
+	 *
+	 * @param id
+	 *            The CharID identifying the Player Character to be tested
+	 * @param obj
+	 *            The conditionally granted object
+	 * @param source
+	 *            The source which granted the object
+	 * @return true if the Player Character qualifies for the object; false
+	 *         otherwise
+	 */
+	public boolean qualifies(CharID id, QualifyingObject obj, Object source)
+	{
+		QualificationState state = getState(id);
+		Map<Object, Result> results = state.results.computeIfAbsent(obj, o -> new IdentityHashMap<>());
+		Result result = results.get(source);
+		if ((result != null) && result.isCurrent(state.versions))
+		{
+			state.skipped++;
+			return result.qualifies;
+		}
+		Fact[] facts = (result == null) ? getInputs(obj, source) : result.facts;
+		boolean qualifies;
+		if (facts == null)
+		{
+			qualifies = prerequisiteFacet.qualifies(id, obj, source);
+			result = ALWAYS_TEST;
+		}
+		else
+		{
+			int[] versions = new int[facts.length];
+			for (int i = 0; i < facts.length; i++)
+			{
+				versions[i] = state.versions[facts[i].ordinal()];
+			}
+			qualifies = prerequisiteFacet.qualifies(id, obj, source);
+			result = new Result(facts, versions, qualifies);
+		}
+		state.tested++;
+		results.put(source, result);
+		return qualifies;
+	}
+
+	/**
+	 * Returns the Facts read when testing the given object granted by the
+	 * given source, or null if those are not known, in which case the object
+	 * must always be tested.
+	 *
+	 * @param obj
+	 *            The conditionally granted object
+	 * @param source
+	 *            The source which granted the object
+	 * @return The Facts read when testing the object, or null if they are not
+	 *         known
+	 */
+	static Fact[] getInputs(QualifyingObject obj, Object source)
+	{
+		if (!TRACKED_CLASSES.contains(obj.getClass()))
+		{
+			return null;
+		}
+		List<Prerequisite> prereqs = ((PrereqObject) obj).getPrerequisiteList();
+		if (prereqs.isEmpty())
+		{
+			return NO_FACTS;
+		}
+		if ((source instanceof Ability) && AbilityUtilities.isFeat(source))
+		{
+			// FEATPRE can be toggled at any time
+			return null;
+		}
+		Set<Fact> facts = EnumSet.noneOf(Fact.class);
+		if (source instanceof CDOMObject)
+		{
+			facts.add(Fact.QUALIFY);
+		}
+		for (Prerequisite prereq : prereqs)
+		{
+			if (!addInputs(prereq, facts))
+			{
+				return null;
+			}
+		}
+		return facts.toArray(NO_FACTS);
+	}
+
+	private static boolean addInputs(Prerequisite prereq, Set<Fact> facts)
+	{
+		String kind = prereq.getKind();
+		// PreMultParser leaves the kind of a PREMULT null, which PrerequisiteTestFactory tests as a PREMULT
+		if (isMult(prereq))
+		{
+			for (Prerequisite sub : prereq.getPrerequisites())
+			{
+				if (!addInputs(sub, facts))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+		if ("CLASS".equalsIgnoreCase(kind))
+		{
+			// SPELLCASTER reads CASTERLEVEL and PCLEVEL bonuses
+			if (prereq.getKey().toUpperCase().startsWith("SPELLCASTER"))
+			{
+				return false;
+			}
+			facts.add(Fact.CLASS);
+			return true;
+		}
+		if ("TEMPLATE".equalsIgnoreCase(kind))
+		{
+			facts.add(Fact.TEMPLATE);
+			return true;
+		}
+		if ("LANG".equalsIgnoreCase(kind))
+		{
+			facts.add(Fact.LANGUAGE);
+			return true;
+		}
+		if ("ABILITY".equalsIgnoreCase(kind))
+		{
+			// Sub keys and multiples read choices and the SELECT formula
+			if ((prereq.getSubKey() != null) || prereq.isCountMultiples())
+			{
+				return false;
+			}
+			facts.add(Fact.ABILITY);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if the given Prerequisite is a PREMULT. A PREMULT as loaded
+	 * from data has a null kind and its parts as child Prerequisites.
+	 */
+	private static boolean isMult(Prerequisite prereq)
+	{
+		String kind = prereq.getKind();
+		return (kind == null) ? !prereq.getPrerequisites().isEmpty() : "MULT".equalsIgnoreCase(kind);
+	}
+
+	/**
+	 * Reports, in debug mode, how many objects were tested and how many
+	 * remembered results were used since the last call, e.g. for one edit of
+	 * the Player Character.
+	 *
+	 * @param id
+	 *            The CharID identifying the Player Character
+	 */
+	public void endEdit(CharID id)
+	{
+		QualificationState state = states.get(id);
+		if (state == null)
+		{
+			return;
+		}
+		state.lastTested = state.tested;
+		state.lastSkipped = state.skipped;
+		state.tested = 0;
+		state.skipped = 0;
+		if (Logging.isDebugMode() && (state.lastTested + state.lastSkipped > 0))
+		{
+			Logging.debugPrint("Conditional grants: " + state.lastTested + " tested, " + state.lastSkipped
+				+ " skipped as unchanged");
+		}
+	}
+
+	/**
+	 * Returns the number of objects tested before the last call to endEdit
+	 * for the Player Character identified by the given CharID.
+	 *
+	 * @param id
+	 *            The CharID identifying the Player Character
+	 * @return The number of objects tested in the last edit
+	 */
+	public int getTestedCount(CharID id)
+	{
+		QualificationState state = states.get(id);
+		return (state == null) ? 0 : state.lastTested;
+	}
+
+	/**
+	 * Returns the number of remembered results used (tests skipped) before
+	 * the last call to endEdit for the Player Character identified by the
+	 * given CharID.
+	 *
+	 * @param id
+	 *            The CharID identifying the Player Character
+	 * @return The number of tests skipped in the last edit
+	 */
+	public int getSkippedCount(CharID id)
+	{
+		QualificationState state = states.get(id);
+		return (state == null) ? 0 : state.lastSkipped;
+	}
+
+	private QualificationState getState(CharID id)
+	{
+		return states.computeIfAbsent(id, i -> new QualificationState());
+	}
+
+	private void changed(CharID id, Fact fact)
+	{
+		QualificationState state = states.get(id);
+		if (state != null)
+		{
+			state.versions[fact.ordinal()]++;
+		}
+	}
+
+	public void setPrerequisiteFacet(PrerequisiteFacet prerequisiteFacet)
+	{
+		this.prerequisiteFacet = prerequisiteFacet;
+	}
+
+	public void setClassFacet(ClassFacet classFacet)
+	{
+		this.classFacet = classFacet;
+	}
+
+	public void setTemplateFacet(TemplateFacet templateFacet)
+	{
+		this.templateFacet = templateFacet;
+	}
+
+	public void setLanguageFacet(LanguageFacet languageFacet)
+	{
+		this.languageFacet = languageFacet;
+	}
+
+	public void setGrantedAbilityFacet(GrantedAbilityFacet grantedAbilityFacet)
+	{
+		this.grantedAbilityFacet = grantedAbilityFacet;
+	}
+
+	public void setConsolidationFacet(CDOMObjectConsolidationFacet consolidationFacet)
+	{
+		this.consolidationFacet = consolidationFacet;
+	}
+
+	/**
+	 * Initializes the connections for QualificationFacet to other facets.
+	 *
+	 * This method is automatically called by the Spring framework during
+	 * initialization of the QualificationFacet.
+	 */
+	public void init()
+	{
+		FactListener classListener = new FactListener(Fact.CLASS);
+		classFacet.addDataFacetChangeListener(classListener);
+		classFacet.addLevelChangeListener(classListener);
+		templateFacet.addDataFacetChangeListener(new FactListener(Fact.TEMPLATE));
+		languageFacet.addDataFacetChangeListener(new FactListener(Fact.LANGUAGE));
+		grantedAbilityFacet.addDataFacetChangeListener(new FactListener(Fact.ABILITY));
+		consolidationFacet.addDataFacetChangeListener(new FactListener(Fact.QUALIFY));
+	}
+
+	/**
+	 * Increments the version of a Fact when a Facet holding it changes.
+	 */
+	private final class FactListener implements DataFacetChangeListener<CharID, Object>, ClassLevelChangeListener
+	{
+		private final Fact fact;
+
+		private FactListener(Fact fact)
+		{
+			this.fact = fact;
+		}
+
+		@Override
+		public void dataAdded(DataFacetChangeEvent<CharID, Object> dfce)
+		{
+			dataChanged(dfce);
+		}
+
+		@Override
+		public void dataRemoved(DataFacetChangeEvent<CharID, Object> dfce)
+		{
+			dataChanged(dfce);
+		}
+
+		private void dataChanged(DataFacetChangeEvent<CharID, Object> dfce)
+		{
+			// Only objects carrying QUALIFY change what QualifyFacet grants
+			if ((fact != Fact.QUALIFY)
+				|| ((dfce.getCDOMObject() instanceof CDOMObject cdo) && cdo.containsListFor(ListKey.QUALIFY)))
+			{
+				changed(dfce.getCharID(), fact);
+			}
+		}
+
+		@Override
+		public void levelChanged(ClassLevelChangeEvent lce)
+		{
+			changed(lce.getCharID(), fact);
+		}
+
+		@Override
+		public void levelObjectChanged(ClassLevelObjectChangeEvent lce)
+		{
+			changed(lce.getCharID(), fact);
+		}
+	}
+
+	/**
+	 * The versions of the Facts and the remembered results for one Player
+	 * Character.
+	 */
+	private static final class QualificationState
+	{
+		private final int[] versions = new int[Fact.values().length];
+
+		private final Map<QualifyingObject, Map<Object, Result>> results = new IdentityHashMap<>();
+
+		private int tested;
+
+		private int skipped;
+
+		private int lastTested;
+
+		private int lastSkipped;
+	}
+
+	/**
+	 * The result of testing an object, and the versions of the Facts it read
+	 * (or null Facts if the object must always be tested).
+	 */
+	private record Result(Fact[] facts, int[] versions, boolean qualifies)
+	{
+		private boolean isCurrent(int[] current)
+		{
+			if (facts == null)
+			{
+				return false;
+			}
+			for (int i = 0; i < facts.length; i++)
+			{
+				if (current[facts[i].ordinal()] != versions[i])
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -29,6 +29,7 @@ import pcgen.cdom.content.VarModifier;
 import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.facet.base.AbstractItemFacet;
 import pcgen.rules.context.VariableContext;
+import pcgen.util.Metrics;
 
 /**
  * This stores the SolverManager for each PlayerCharacter.
@@ -55,7 +56,7 @@ public class SolverManagerFacet extends AbstractItemFacet<CharID, SolverManager>
 		VariableID<T> varID = (VariableID<T>) varContext.getVariableID(scope, vm.getVarName());
 		SolverManager sm = get(id);
 		sm.addModifier(varID, modifier, source);
-		sm.processSolver(varID);
+		solve(sm, varID);
 		return true;
 	}
 
@@ -70,7 +71,20 @@ public class SolverManagerFacet extends AbstractItemFacet<CharID, SolverManager>
 		VariableID<T> varID = (VariableID<T>) varContext.getVariableID(scope, vm.getVarName());
 		SolverManager sm = get(id);
 		sm.removeModifier(varID, modifier, source);
-		sm.processSolver(varID);
+		solve(sm, varID);
+	}
+
+	private static <T> void solve(SolverManager sm, VariableID<T> varID)
+	{
+		long start = Metrics.start();
+		try
+		{
+			sm.processSolver(varID);
+		}
+		finally
+		{
+			Metrics.stop(Metrics.Category.SOLVER, varID.getName(), start);
+		}
 	}
 
 	private <T> ScopeInstance resolveScope(CharID id, VarModifier<T> vm, VarScoped thisValue,
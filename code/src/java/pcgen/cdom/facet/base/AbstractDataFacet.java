@@ -31,6 +31,7 @@ import pcgen.cdom.enumeration.Nature;
 import pcgen.cdom.facet.CategorizedDataFacetChangeEvent;
 import pcgen.cdom.facet.event.DataFacetChangeEvent;
 import pcgen.cdom.facet.event.DataFacetChangeListener;
+import pcgen.util.Metrics;
 
 /**
  * A AbstractDataFacet is a DataFacet that contains information about
@@ -213,6 +214,20 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	@SuppressWarnings("rawtypes")
 	protected void fireDataFacetChangeEvent(IDT id, T node, int type, Category category, Nature nature)
+	{
+		long start = Metrics.start();
+		try
+		{
+			notifyListeners(id, node, type, category, nature);
+		}
+		finally
+		{
+			Metrics.stop(Metrics.Category.FACET, getClass(), start);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void notifyListeners(IDT id, T node, int type, Category category, Nature nature)
 	{
 		for (DataFacetChangeListener<IDT, ? super T>[] dfclArray : listeners.values())
 		{
@@ -635,7 +635,7 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject> ext
 				Set<Object> sources = me.getValue();
 				for (Object source : sources)
 				{
-					if (prereqFacet.qualifies(id, obj, source))
+					if (qualifies(id, obj, source))
 					{
 						set.add(obj);
 						break;
@@ -691,7 +691,7 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject> ext
 				Set<Object> sources = me.getValue();
 				if (sources.contains(source))
 				{
-					if (prereqFacet.qualifies(id, obj, source))
+					if (qualifies(id, obj, source))
 					{
 						set.add(obj);
 					}
@@ -748,7 +748,7 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject> ext
 				Set<Object> sources = me.getValue();
 				for (Object source : sources)
 				{
-					if (prereqFacet.qualifies(id, obj, source))
+					if (qualifies(id, obj, source))
 					{
 						list.add(qa.act(obj, source));
 					}
@@ -758,6 +758,24 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject> ext
 		return list;
 	}
 
+	/**
+	 * Returns true if the Player Character represented by the given CharID
+	 * qualifies for the given object as granted by the given source.
+	 * 
+	 * @param id
+	 *            The CharID representing the Player Character to be tested
+	 * @param obj
+	 *            The object to be tested
+	 * @param source
+	 *            The source which granted the object
+	 * @return true if the Player Character qualifies for the object; false
+	 *         otherwise
+	 */
+	protected boolean qualifies(CharID id, T obj, Object source)
+	{
+		return prereqFacet.qualifies(id, obj, source);
+	}
+
 	public Collection<Object> getSources(CharID id, T obj)
 	{
 		Map<T, Set<Object>> componentMap = getCachedMap(id);
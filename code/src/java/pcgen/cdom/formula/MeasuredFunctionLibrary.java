@@ -0,0 +1,123 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.formula;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import pcgen.base.formula.base.DependencyManager;
+import pcgen.base.formula.base.EvaluationManager;
+import pcgen.base.formula.base.FormulaFunction;
+import pcgen.base.formula.base.FormulaSemantics;
+import pcgen.base.formula.base.WriteableFunctionLibrary;
+import pcgen.base.formula.parse.Node;
+import pcgen.base.formula.visitor.DependencyVisitor;
+import pcgen.base.formula.visitor.EvaluateVisitor;
+import pcgen.base.formula.visitor.SemanticsVisitor;
+import pcgen.base.formula.visitor.StaticVisitor;
+import pcgen.base.util.FormatManager;
+import pcgen.util.Metrics;
+
+/**
+ * A MeasuredFunctionLibrary is a WriteableFunctionLibrary which records the
+ * evaluation of each FormulaFunction added to it in the Metrics, by function
+ * name. Functions are otherwise stored in, and returned from, the underlying
+ * WriteableFunctionLibrary.
+ */
+public class MeasuredFunctionLibrary implements WriteableFunctionLibrary
+{
+	/**
+	 * The underlying WriteableFunctionLibrary of this MeasuredFunctionLibrary.
+	 */
+	private final WriteableFunctionLibrary functionLibrary;
+
+	/**
+	 * Constructs a new MeasuredFunctionLibrary storing functions in the given
+	 * WriteableFunctionLibrary.
+	 *
+	 * @param functionLibrary
+	 *            The underlying WriteableFunctionLibrary of this
+	 *            MeasuredFunctionLibrary
+	 */
+	public MeasuredFunctionLibrary(WriteableFunctionLibrary functionLibrary)
+	{
+		this.functionLibrary = Objects.requireNonNull(functionLibrary);
+	}
+
+	@Override
+	public void addFunction(FormulaFunction function)
+	{
+		functionLibrary.addFunction(new MeasuredFunction(Objects.requireNonNull(function)));
+	}
+
+	@Override
+	public FormulaFunction getFunction(String functionName)
+	{
+		return functionLibrary.getFunction(functionName);
+	}
+
+	/**
+	 * A MeasuredFunction times the evaluation of the FormulaFunction it wraps.
+	 */
+	private static final class MeasuredFunction implements FormulaFunction
+	{
+		private final FormulaFunction function;
+
+		private MeasuredFunction(FormulaFunction function)
+		{
+			this.function = function;
+		}
+
+		@Override
+		public String getFunctionName()
+		{
+			return function.getFunctionName();
+		}
+
+		@Override
+		public Boolean isStatic(StaticVisitor visitor, Node[] args)
+		{
+			return function.isStatic(visitor, args);
+		}
+
+		@Override
+		public FormatManager<?> allowArgs(SemanticsVisitor visitor, Node[] args, FormulaSemantics semantics)
+		{
+			return function.allowArgs(visitor, args, semantics);
+		}
+
+		@Override
+		public Object evaluate(EvaluateVisitor visitor, Node[] args, EvaluationManager manager)
+		{
+			long start = Metrics.start();
+			try
+			{
+				return function.evaluate(visitor, args, manager);
+			}
+			finally
+			{
+				Metrics.stop(Metrics.Category.FUNCTION, function.getFunctionName(), start);
+			}
+		}
+
+		@Override
+		public Optional<FormatManager<?>> getDependencies(DependencyVisitor visitor, DependencyManager manager,
+			Node[] args)
+		{
+			return function.getDependencies(visitor, manager, args);
+		}
+	}
+}
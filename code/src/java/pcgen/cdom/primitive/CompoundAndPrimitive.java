@@ -25,6 +25,7 @@ import java.util.logging.Level;
 
 import pcgen.cdom.base.Constants;
 import pcgen.cdom.base.Converter;
+import pcgen.cdom.base.OrdinalSet;
 import pcgen.cdom.base.PrimitiveCollection;
 import pcgen.cdom.enumeration.GroupingState;
 import pcgen.core.PlayerCharacter;
@@ -80,19 +81,23 @@ public final class CompoundAndPrimitive<T> implements PrimitiveCollection<T>
 	@Override
 	public <R> Collection<? extends R> getCollection(PlayerCharacter pc, Converter<T, R> c)
 	{
-		Collection<? extends R> returnSet = null;
+		OrdinalSet<R> returnSet = null;
 		for (PrimitiveCollection<T> cs : primCollection)
 		{
 			if (returnSet == null)
 			{
-				returnSet = cs.getCollection(pc, c);
+				returnSet = new OrdinalSet<>(cs.getCollection(pc, c));
 			}
 			else
 			{
 				returnSet.retainAll(cs.getCollection(pc, c));
 			}
+			if (returnSet.isEmpty())
+			{
+				break;
+			}
 		}
-		return returnSet;
+		return returnSet.toSet();
 	}
 
 	@Override
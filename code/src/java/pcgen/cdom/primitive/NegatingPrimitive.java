@@ -17,11 +17,11 @@
  */
 package pcgen.cdom.primitive;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
 
 import pcgen.cdom.base.Converter;
+import pcgen.cdom.base.OrdinalSet;
 import pcgen.cdom.base.PrimitiveCollection;
 import pcgen.cdom.enumeration.GroupingState;
 import pcgen.core.PlayerCharacter;
@@ -43,10 +43,9 @@ public class NegatingPrimitive<T> implements PrimitiveCollection<T>
 	@Override
 	public <R> Collection<? extends R> getCollection(PlayerCharacter pc, Converter<T, R> c)
 	{
-		Collection<? extends R> result = all.getCollection(pc, c);
-		ArrayList<R> list = new ArrayList<>(result);
-		list.removeAll(primitive.getCollection(pc, c));
-		return list;
+		OrdinalSet<R> result = new OrdinalSet<>(all.getCollection(pc, c));
+		result.removeAll(primitive.getCollection(pc, c));
+		return result.toList();
 	}
 
 	@Override
@@ -24,7 +24,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -33,6 +32,7 @@ import javax.swing.event.EventListenerList;
 
 import pcgen.base.lang.CaseInsensitiveString;
 import pcgen.base.util.BasicIndirect;
+import pcgen.base.util.CaseFoldingMap;
 import pcgen.base.util.FixedStringList;
 import pcgen.base.util.FormatManager;
 import pcgen.base.util.HashMapToInstanceList;
@@ -100,10 +100,10 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 * is ever built for any identifier. (and allows those references to be
 	 * reused if a reference to an identifier is requested a second time). This
 	 * also stores the reference so that it can be appropriately resolved when
-	 * resolveReferences() is called.
+	 * resolveReferences() is called. Keys are case insensitive, and iteration is
+	 * in String.CASE_INSENSITIVE_ORDER.
 	 */
-	private final Map<String, WeakReference<CDOMSingleRef<T>>> referenced =
-			new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	private final CaseFoldingMap<WeakReference<CDOMSingleRef<T>>> referenced = new CaseFoldingMap<>();
 
 	/**
 	 * Stores the active objects for this AbstractReferenceManufacturer. These
@@ -162,6 +162,12 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 */
 	private final EventListenerList listenerList = new EventListenerList();
 
+	/**
+	 * The index of the TYPEs of the active objects, kept once the references
+	 * have been resolved. Discarded whenever the active objects change.
+	 */
+	private volatile TypeIndex<T> typeIndex;
+
 	/**
 	 * Constructs a new AbstractReferenceManufacturer for the given Class.
 	 * 
@@ -310,12 +316,12 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	private boolean resolvePrimitiveReferences(UnconstructedValidator validator)
 	{
 		boolean resolutionSuccessful = true;
-		for (Entry<String, WeakReference<CDOMSingleRef<T>>> me1 : referenced.entrySet())
+		for (String key : referenced.getSortedKeys())
 		{
-			CDOMSingleRef<T> value = me1.getValue().get();
+			CDOMSingleRef<T> value = referenced.get(key).get();
 			if (value != null)
 			{
-				resolutionSuccessful &= factory.resolve(this, me1.getKey(), value, validator);
+				resolutionSuccessful &= factory.resolve(this, key, value, validator);
 			}
 		}
 		return resolutionSuccessful;
@@ -323,30 +329,23 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 
 	private boolean resolveGroupReferences()
 	{
-		for (T obj : getAllObjects())
+		TypeIndex<T> index = new TypeIndex<>(getAllObjects());
+		typeIndex = index;
+		if (allRef != null)
 		{
-			if (allRef != null)
+			for (T obj : index.getObjects())
 			{
 				allRef.addResolution(obj);
 			}
-			for (Map.Entry<FixedStringList, WeakReference<CDOMGroupRef<T>>> me : typeReferences.entrySet())
+		}
+		for (Map.Entry<FixedStringList, WeakReference<CDOMGroupRef<T>>> me : typeReferences.entrySet())
+		{
+			CDOMGroupRef<T> trt = me.getValue().get();
+			if (trt != null)
 			{
-				CDOMGroupRef<T> trt = me.getValue().get();
-				if (trt != null)
+				for (T obj : index.getObjectsOfType(me.getKey()))
 				{
-					boolean typeOkay = true;
-					for (String type : me.getKey())
-					{
-						if (!obj.isType(type))
-						{
-							typeOkay = false;
-							break;
-						}
-					}
-					if (typeOkay)
-					{
-						trt.addResolution(obj);
-					}
+					trt.addResolution(obj);
 				}
 			}
 		}
@@ -391,6 +390,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 		if (current == null)
 		{
 			active.put(key, item);
+			typeIndex = null;
 		}
 		else
 		{
@@ -590,6 +590,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 				duplicates.removeFromListFor(ocik, newActive);
 				active.put(key, newActive);
 			}
+			typeIndex = null;
 		}
 		return true;
 	}
@@ -941,6 +942,22 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 		return active.keySortedValues();
 	}
 
+	@Override
+	public Collection<T> getObjectsOfType(String... types)
+	{
+		TypeIndex<T> index = typeIndex;
+		if (index == null)
+		{
+			index = new TypeIndex<>(getAllObjects());
+			if (isResolved)
+			{
+				// Types may still change (e.g. by .MOD) until resolution
+				typeIndex = index;
+			}
+		}
+		return index.getObjectsOfType(Arrays.asList(types));
+	}
+
 	/**
 	 * Builds any objects whose construction was deferred. Identifiers for
 	 * objects for which construction was deferred were inserted into the
@@ -1026,7 +1043,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	public Collection<CDOMSingleRef<T>> getReferenced()
 	{
 		List<CDOMSingleRef<T>> list = new ArrayList<>();
-		for (WeakReference<CDOMSingleRef<T>> wr : referenced.values())
+		for (WeakReference<CDOMSingleRef<T>> wr : referenced.getSortedValues())
 		{
 			CDOMSingleRef<T> ref = wr.get();
 			if (ref != null)
@@ -153,6 +153,20 @@ public interface ReferenceManufacturer<T extends Loadable> extends SelectionCrea
 	 */
 	public Collection<T> getAllObjects();
 
+	/**
+	 * Returns a Collection of the objects contained in this
+	 * ReferenceManufacturer which are of all of the given types, sorted by
+	 * their KeyName. The objects matched are those a TYPE reference for the
+	 * same types would contain. This will not return null, it will return an
+	 * empty list if no objects are of the given types.
+	 * 
+	 * @param types
+	 *            The types the returned objects must have
+	 * @return A Collection of the objects contained in this
+	 *         ReferenceManufacturer which are of all of the given types
+	 */
+	public Collection<T> getObjectsOfType(String... types);
+
 	/**
 	 * Changes the identifier for a given object, as stored in this
 	 * ReferenceManufacturer.
@@ -0,0 +1,129 @@
+/*
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.reference;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import pcgen.cdom.base.Loadable;
+
+/**
+ * A TypeIndex identifies which of a fixed set of objects are of a given TYPE.
+ *
+ * Each object is given an ordinal (its position in the set) and, the first time
+ * a type is asked for, each object is asked once whether it is of that type. The
+ * answer is kept as a BitSet of ordinals, so an object is never asked about the
+ * same type twice however many TYPE references use it, and objects which must
+ * be of several types are found by intersecting the BitSets.
+ *
+ * The types are passed to Loadable.isType(String) exactly as given, so that the
+ * matching rules of each class of object (e.g. case insensitivity) are kept.
+ *
+ * @param <T>
+ *            The Class of object indexed by this TypeIndex
+ */
+final class TypeIndex<T extends Loadable>
+{
+	/**
+	 * The objects indexed by this TypeIndex, in ordinal order.
+	 */
+	private final List<T> objects;
+
+	/**
+	 * The ordinals of the objects of each type asked for so far.
+	 */
+	private final Map<String, BitSet> objectsByType = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new TypeIndex for the given objects.
+	 *
+	 * @param objects
+	 *            The objects to be indexed, in the order they should be returned
+	 */
+	TypeIndex(Collection<T> objects)
+	{
+		this.objects = new ArrayList<>(objects);
+	}
+
+	/**
+	 * Returns the objects indexed by this TypeIndex.
+	 *
+	 * @return The objects indexed by this TypeIndex, in ordinal order
+	 */
+	List<T> getObjects()
+	{
+		return Collections.unmodifiableList(objects);
+	}
+
+	/**
+	 * Returns the objects which are of all of the given types. If no types are
+	 * given, all of the objects are returned.
+	 *
+	 * @param types
+	 *            The types the returned objects must have
+	 * @return The objects which are of all of the given types, in ordinal order
+	 */
+	List<T> getObjectsOfType(Iterable<String> types)
+	{
+		BitSet matching = null;
+		for (String type : types)
+		{
+			BitSet ofType = getOrdinals(type);
+			if (matching == null)
+			{
+				matching = (BitSet) ofType.clone();
+			}
+			else
+			{
+				matching.and(ofType);
+			}
+			if (matching.isEmpty())
+			{
+				return Collections.emptyList();
+			}
+		}
+		if (matching == null)
+		{
+			return getObjects();
+		}
+		List<T> result = new ArrayList<>(matching.cardinality());
+		for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1))
+		{
+			result.add(objects.get(i));
+		}
+		return result;
+	}
+
+	private BitSet getOrdinals(String type)
+	{
+		return objectsByType.computeIfAbsent(type, t -> {
+			BitSet ordinals = new BitSet(objects.size());
+			for (int i = 0; i < objects.size(); i++)
+			{
+				if (objects.get(i).isType(t))
+				{
+					ordinals.set(i);
+				}
+			}
+			return ordinals;
+		});
+	}
+}
@@ -49,6 +49,7 @@ import pcgen.core.prereq.Prerequisite;
 import pcgen.core.utils.CoreUtility;
 import pcgen.util.Delta;
 import pcgen.util.Logging;
+import pcgen.util.Metrics;
 
 public class BonusManager
 {
@@ -69,6 +70,21 @@ public class BonusManager
 
 	private Map<String, Double> cachedActiveBonusSumsMap = new ConcurrentHashMap<>();
 
+	/**
+	 * The values in activeBonusMap, already parsed and grouped by the bonus they
+	 * apply to (i.e. with any .STACK or .REPLACE suffix removed). This is kept
+	 * in step with activeBonusMap so that totals can be calculated without
+	 * searching every active bonus or parsing their values.
+	 */
+	private Map<String, BonusTarget> activeBonusTargets = new ConcurrentHashMap<>();
+
+	/**
+	 * The entries in activeBonusTargets which are included in the total for a
+	 * given bonus. A total for COMBAT.AC includes COMBAT.AC itself and each
+	 * typed bonus such as COMBAT.AC:LUCK, but not COMBAT.ACCHECK.
+	 */
+	private Map<String, List<BonusTarget>> activeBonusTargetsByPrefix = new ConcurrentHashMap<>();
+
 	private Map<BonusObj, Object> activeBonusBySource = new IdentityHashMap<>();
 
 	private final Map<BonusObj, TempBonusInfo> tempBonusBySource = new IdentityHashMap<>();
@@ -97,109 +113,26 @@ public class BonusManager
 		}
 
 		fullyQualifiedBonusType = fullyQualifiedBonusType.toUpperCase();
-		if (cachedActiveBonusSumsMap.containsKey(fullyQualifiedBonusType))
+		Double cachedBonus = cachedActiveBonusSumsMap.get(fullyQualifiedBonusType);
+		if (cachedBonus != null)
 		{
-			return cachedActiveBonusSumsMap.get(fullyQualifiedBonusType);
+			return cachedBonus;
 		}
 
-		final List<String> aList = new ArrayList<>();
-		boolean found = false;
-
-		for (String fullyQualifedCurrentBonus : activeBonusMap.keySet())
+		// The bonus itself, e.g. COMBAT.AC, and each of its typed bonuses such
+		// as COMBAT.AC:Luck and COMBAT.AC:Armor.REPLACE
+		final List<BonusTarget> targets = activeBonusTargetsByPrefix.get(fullyQualifiedBonusType);
+		if (targets == null)
 		{
-			// aKey is either of the form:
-			// COMBAT.AC
-			// or
-			// COMBAT.AC:Luck
-			// or
-			// COMBAT.AC:Armor.REPLACE
-			if (aList.contains(fullyQualifedCurrentBonus))
-			{
-				continue;
-			}
-
-			if (fullyQualifedCurrentBonus == null)
-			{
-				Logging.errorPrint(
-					"null BONUS: loaded into activeBonusMap. " + fullyQualifiedBonusType + " was requested");
-				continue;
-			}
-
-			String currentTypedBonusNameInfo = fullyQualifedCurrentBonus;
-
-			// rString could be something like:
-			// COMBAT.AC:Armor.REPLACE
-			// So need to remove the .STACK or .REPLACE
-			// to get a match for prefix like: COMBAT.AC:Armor
-			if (currentTypedBonusNameInfo.endsWith(".STACK"))
-			{
-				currentTypedBonusNameInfo =
-						currentTypedBonusNameInfo.substring(0, currentTypedBonusNameInfo.length() - 6);
-			}
-			else if (currentTypedBonusNameInfo.endsWith(".REPLACE"))
-			{
-				currentTypedBonusNameInfo =
-						currentTypedBonusNameInfo.substring(0, currentTypedBonusNameInfo.length() - 8);
-			}
-
-            // if prefix is of the form:
-			// COMBAT.AC
-			// then is must match rstring:
-			// COMBAT.AC
-			// COMBAT.AC:Luck
-			// COMBAT.AC:Armor.REPLACE
-			// However, it must not match
-			// COMBAT.ACCHECK
-			if ((currentTypedBonusNameInfo.length() > fullyQualifiedBonusType.length())
-				&& !currentTypedBonusNameInfo.startsWith(fullyQualifiedBonusType + ":"))
-			{
-				continue;
-			}
-
-			if (currentTypedBonusNameInfo.startsWith(fullyQualifiedBonusType))
-			{
-				found = true;
-				aList.add(currentTypedBonusNameInfo);
-				aList.add(currentTypedBonusNameInfo + ".STACK");
-				aList.add(currentTypedBonusNameInfo + ".REPLACE");
-
-				final double aBonus = getActiveBonusForMapKey(currentTypedBonusNameInfo, Double.NaN);
-				final double replaceBonus = getActiveBonusForMapKey(currentTypedBonusNameInfo + ".REPLACE", Double.NaN);
-				final double stackBonus = getActiveBonusForMapKey(currentTypedBonusNameInfo + ".STACK", 0);
-				//
-				// Using NaNs in order to be able to get the max
-				// between an undefined bonus and a negative
-				//
-				if (Double.isNaN(aBonus)) // no bonusKey
-				{
-					if (!Double.isNaN(replaceBonus))
-					{
-						// no bonusKey, but there
-						// is a replaceKey
-						bonus += replaceBonus;
-					}
-				}
-				else if (Double.isNaN(replaceBonus))
-				{
-					// is a bonusKey and no replaceKey
-					bonus += aBonus;
-				}
-				else
-				{
-					// is a bonusKey and a replaceKey
-					bonus += Math.max(aBonus, replaceBonus);
-				}
-
-				// always add stackBonus
-				bonus += stackBonus;
-			}
+			return bonus;
 		}
-
-		// cache value only if it has been positively found
-		if (found)
+		for (BonusTarget target : targets)
 		{
-			cachedActiveBonusSumsMap.put(fullyQualifiedBonusType, bonus);
+			bonus += target.getTotal();
 		}
+
+		// cache value only if it has been positively found
+		cachedActiveBonusSumsMap.put(fullyQualifiedBonusType, bonus);
 		return bonus;
 	}
 
@@ -295,9 +228,24 @@ public class BonusManager
 	 * Build the bonus HashMap from all active BonusObj's
 	 */
 	void buildActiveBonusMap()
+	{
+		long start = Metrics.start();
+		try
+		{
+			calculateActiveBonuses();
+		}
+		finally
+		{
+			Metrics.stop(Metrics.Category.BONUS, "(all active bonuses)", start);
+		}
+	}
+
+	private void calculateActiveBonuses()
 	{
 		activeBonusMap = new ConcurrentHashMap<>();
 		cachedActiveBonusSumsMap = new ConcurrentHashMap<>();
+		activeBonusTargets = new ConcurrentHashMap<>();
+		activeBonusTargetsByPrefix = new ConcurrentHashMap<>();
 		Map<String, String> nonStackMap = new ConcurrentHashMap<>();
 		Map<String, String> stackMap = new ConcurrentHashMap<>();
 		Set<BonusObj> processedBonuses = Collections.newSetFromMap(new IdentityHashMap<>());
@@ -328,26 +276,34 @@ public class BonusManager
 			// Keep track of which bonuses have been calculated
 			//Logging.log(Logging.INFO, "Processing bonus " + bonus + " - static.");
 			processedBonuses.add(bonus);
-			for (BonusPair bp : getStringListFromBonus(bonus))
+			long bonusStart = Metrics.start();
+			try
 			{
-				final double iBonus = bp.resolve(pc).doubleValue();
-				setActiveBonusStack(iBonus, bp.fullyQualifiedBonusType, nonStackMap, stackMap);
-				totalBonusesForType(nonStackMap, stackMap, bp.fullyQualifiedBonusType, activeBonusMap);
-
-				if (Logging.isDebugMode())
+				for (BonusPair bp : getStringListFromBonus(bonus))
 				{
-					String id;
-					if (source instanceof CDOMObject)
-					{
-						id = ((CDOMObject) source).getDisplayName();
-					}
-					else
+					final double iBonus = bp.resolve(pc).doubleValue();
+					setActiveBonusStack(iBonus, bp.fullyQualifiedBonusType, nonStackMap, stackMap);
+					totalBonusesForType(nonStackMap, stackMap, bp.fullyQualifiedBonusType);
+
+					if (Logging.isDebugMode())
 					{
-						id = source.toString();
+						String id;
+						if (source instanceof CDOMObject)
+						{
+							id = ((CDOMObject) source).getDisplayName();
+						}
+						else
+						{
+							id = source.toString();
+						}
+						Logging.debugPrint("BONUS: " + id + " : " + iBonus + " : " + bp.fullyQualifiedBonusType);
 					}
-					Logging.debugPrint("BONUS: " + id + " : " + iBonus + " : " + bp.fullyQualifiedBonusType);
 				}
 			}
+			finally
+			{
+				Metrics.stop(Metrics.Category.BONUS, bonus.getBonusName(), bonusStart);
+			}
 		}
 
 		//
@@ -389,11 +345,9 @@ public class BonusManager
 	 *            The map of stacking (i.e. total all) bonuses being built up.
 	 * @param fullyQualifiedBonusType
 	 *            The type of the bonus e.g. STAT.DEX:LUCK
-	 * @param targetMap
-	 *            The map of bonuses (stack+non-stack) being built up which will be populated with the total bonus.
 	 */
-	private static void totalBonusesForType(Map<String, String> nonStackMap, Map<String, String> stackMap,
-	                                        String fullyQualifiedBonusType, Map<String, String> targetMap)
+	private void totalBonusesForType(Map<String, String> nonStackMap, Map<String, String> stackMap,
+	                                 String fullyQualifiedBonusType)
 	{
 		if (fullyQualifiedBonusType != null)
 		{
@@ -404,7 +358,50 @@ public class BonusManager
 		String stackString = stackMap.get(fullyQualifiedBonusType);
 		Float stackVal = stackString == null ? 0.0f : Float.parseFloat(stackString);
 		Float FullValue = nonStackVal + stackVal;
-		putActiveBonusMap(fullyQualifiedBonusType, String.valueOf(FullValue), targetMap);
+		putActiveBonus(fullyQualifiedBonusType, String.valueOf(FullValue));
+	}
+
+	/**
+	 * Put the total of a bonus into activeBonusMap, and record its value
+	 * against the bonus it applies to.
+	 * 
+	 * @param fullyQualifiedBonusType
+	 *            The bonus key e.g. STAT.DEX:LUCK or COMBAT.AC:ARMOR.REPLACE
+	 * @param bonusValue
+	 *            The total value of the bonus
+	 */
+	private void putActiveBonus(String fullyQualifiedBonusType, String bonusValue)
+	{
+		if (!putActiveBonusMap(fullyQualifiedBonusType, bonusValue, activeBonusMap))
+		{
+			return;
+		}
+		String bonusTarget = fullyQualifiedBonusType;
+		int part = BonusTarget.VALUE;
+		if (bonusTarget.endsWith(".STACK"))
+		{
+			bonusTarget = bonusTarget.substring(0, bonusTarget.length() - 6);
+			part = BonusTarget.STACK;
+		}
+		else if (bonusTarget.endsWith(".REPLACE"))
+		{
+			bonusTarget = bonusTarget.substring(0, bonusTarget.length() - 8);
+			part = BonusTarget.REPLACE;
+		}
+		BonusTarget target = activeBonusTargets.get(bonusTarget);
+		if (target == null)
+		{
+			target = new BonusTarget();
+			activeBonusTargets.put(bonusTarget, target);
+			// COMBAT.AC:ARMOR counts towards both COMBAT.AC and COMBAT.AC:ARMOR
+			for (int i = bonusTarget.indexOf(':'); i >= 0; i = bonusTarget.indexOf(':', i + 1))
+			{
+				activeBonusTargetsByPrefix.computeIfAbsent(bonusTarget.substring(0, i), k -> new ArrayList<>())
+					.add(target);
+			}
+			activeBonusTargetsByPrefix.computeIfAbsent(bonusTarget, k -> new ArrayList<>()).add(target);
+		}
+		target.set(part, Double.parseDouble(bonusValue));
 	}
 
 	public Collection<BonusObj> getActiveBonusList()
@@ -591,13 +588,21 @@ public class BonusManager
 		}
 
 		// calculate bonus and add to activeBonusMap
-		for (BonusPair bp : getStringListFromBonus(aBonus))
+		long bonusStart = Metrics.start();
+		try
+		{
+			for (BonusPair bp : getStringListFromBonus(aBonus))
+			{
+				final double iBonus = bp.resolve(pc).doubleValue();
+				setActiveBonusStack(iBonus, bp.fullyQualifiedBonusType, nonStackMap, stackMap);
+				totalBonusesForType(nonStackMap, stackMap, bp.fullyQualifiedBonusType);
+				//			Logging.debugPrint("vBONUS: " + anObj.getDisplayName() + " : "
+				//					+ iBonus + " : " + bp.fullyQualifiedBonusType);
+			}
+		}
+		finally
 		{
-			final double iBonus = bp.resolve(pc).doubleValue();
-			setActiveBonusStack(iBonus, bp.fullyQualifiedBonusType, nonStackMap, stackMap);
-			totalBonusesForType(nonStackMap, stackMap, bp.fullyQualifiedBonusType, activeBonusMap);
-			//			Logging.debugPrint("vBONUS: " + anObj.getDisplayName() + " : "
-			//					+ iBonus + " : " + bp.fullyQualifiedBonusType);
+			Metrics.stop(Metrics.Category.BONUS, aBonus.getBonusName(), bonusStart);
 		}
 		prevProcessed.remove(aBonus);
 	}
@@ -724,19 +729,21 @@ public class BonusManager
 	 *            The value of the bonus
 	 * @param bonusMap
 	 *            The map of bonuses being built.
+	 * @return true if the bonus was put into the map
 	 */
-	private static void putActiveBonusMap(final String fullyQualifiedBonusType,
-	                                      final String bonusValue,
-	                                      Map<String, String> bonusMap)
+	private static boolean putActiveBonusMap(final String fullyQualifiedBonusType,
+	                                         final String bonusValue,
+	                                         Map<String, String> bonusMap)
 	{
 		//
 		// This is a bad idea...will add whatever the bonus is to ALL skills
 		//
 		if (fullyQualifiedBonusType.equalsIgnoreCase("SKILL.LIST"))
 		{
-			return;
+			return false;
 		}
 		bonusMap.put(fullyQualifiedBonusType, bonusValue);
+		return true;
 	}
 
 	public int getPartialStatBonusFor(PCStat stat, boolean useTemp, boolean useEquip)
@@ -842,7 +849,7 @@ public class BonusManager
 		BonusManager clone = new BonusManager(apc);
 		clone.activeBonusBySource.putAll(activeBonusBySource);
 		clone.tempBonusBySource.putAll(tempBonusBySource);
-		clone.activeBonusMap.putAll(activeBonusMap);
+		activeBonusMap.forEach(clone::putActiveBonus);
 		clone.tempBonusFilters.addAll(tempBonusFilters);
 		return clone;
 	}
@@ -1232,6 +1239,53 @@ public class BonusManager
 		return bonusList;
 	}
 
+	/**
+	 * The parsed values of activeBonusMap for one bonus, e.g. COMBAT.AC:ARMOR,
+	 * being the values held under COMBAT.AC:ARMOR, COMBAT.AC:ARMOR.REPLACE
+	 * and COMBAT.AC:ARMOR.STACK.
+	 */
+	private static final class BonusTarget
+	{
+		private static final int VALUE = 0;
+		private static final int REPLACE = 1;
+		private static final int STACK = 2;
+
+		/*
+		 * Using NaNs in order to be able to get the max between an undefined
+		 * bonus and a negative
+		 */
+		private final double[] values = {Double.NaN, Double.NaN, 0};
+
+		private void set(int part, double value)
+		{
+			values[part] = value;
+		}
+
+		private double getTotal()
+		{
+			double value = values[VALUE];
+			double replace = values[REPLACE];
+			double total;
+			if (Double.isNaN(value))
+			{
+				// no bonusKey, but there may be a replaceKey
+				total = Double.isNaN(replace) ? 0 : replace;
+			}
+			else if (Double.isNaN(replace))
+			{
+				// is a bonusKey and no replaceKey
+				total = value;
+			}
+			else
+			{
+				// is a bonusKey and a replaceKey
+				total = Math.max(value, replace);
+			}
+			// always add stackBonus
+			return total + values[STACK];
+		}
+	}
+
 	public static class TempBonusInfo
 	{
 		public final Object source;
@@ -20,16 +20,23 @@ package pcgen.core;
 import java.math.BigDecimal;
 import java.text.Collator;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.base.Category;
 import pcgen.cdom.base.ChooseInformation;
 import pcgen.cdom.base.Constants;
@@ -50,12 +57,25 @@ import pcgen.facade.util.DefaultListFacade;
 import pcgen.facade.util.ListFacade;
 import pcgen.facade.util.MapFacade;
 import pcgen.facade.util.SortedListFacade;
+import pcgen.rules.context.AbstractReferenceContext;
 import pcgen.rules.context.LoadContext;
 import pcgen.util.enumeration.View;
 
 public class DataSet implements DataSetFacade
 {
 
+	/**
+	 * The maximum number of threads used to build the category lists.
+	 */
+	private static final int BUILDER_THREADS = 4;
+
+	private static final ThreadFactory THREAD_FACTORY = r -> {
+		Thread thread = new Thread(r);
+		thread.setDaemon(true);
+		thread.setName("dataset-builder-thread");
+		return thread;
+	};
+
 	private final DefaultListFacade<Race> unsortedRaces;
 	private final ListFacade<Race> races;
 	private final DefaultListFacade<PCClass> unsortedClasses;
@@ -110,77 +130,116 @@ public class DataSet implements DataSetFacade
 
 	private void initLists()
 	{
-		List<Race> raceList = new ArrayList<>(context.getReferenceContext().getConstructedCDOMObjects(Race.class));
-		for (Race race : raceList)
+		/*
+		 * The per-category lists are independent of each other, so they are
+		 * filtered on a worker pool and each facade is filled as soon as its
+		 * category is ready. The source collections are fetched here as
+		 * fetching a manufacturer may construct it, which must not happen
+		 * concurrently.
+		 */
+		AbstractReferenceContext refContext = context.getReferenceContext();
+		ExecutorService executor = Executors.newFixedThreadPool(
+			Math.max(1, Math.min(BUILDER_THREADS, Runtime.getRuntime().availableProcessors())), THREAD_FACTORY);
+		List<CompletableFuture<Void>> builders = new ArrayList<>();
+		try
 		{
-			if (race.getSafe(ObjectKey.VISIBILITY).isVisibleTo(View.VISIBLE_DISPLAY))
-			{
-				unsortedRaces.addElement(race);
+			builders.add(publishVisible(executor, refContext.getConstructedCDOMObjects(Race.class), unsortedRaces));
+			builders.add(
+				publishVisible(executor, refContext.getConstructedCDOMObjects(PCClass.class), unsortedClasses));
+			builders.add(publishVisible(executor, refContext.getConstructedCDOMObjects(Skill.class), skills));
+			builders.add(publishAll(executor, refContext.getConstructedCDOMObjects(Deity.class), deities));
+			builders.add(
+				publishVisible(executor, refContext.getConstructedCDOMObjects(PCTemplate.class), templates));
+			builders.add(publishAll(executor, refContext.getConstructedCDOMObjects(Kit.class), kits));
+			builders.add(
+				publishAll(executor, refContext.getConstructedCDOMObjects(PCAlignment.class), unsortedAlignments));
+			builders.add(publishAll(executor, refContext.getConstructedCDOMObjects(PCStat.class), unsortedStats));
+			for (AbilityCategory category : gameMode.getAllAbilityCategories())
+			{
+				if (category.isVisibleTo(View.VISIBLE_DISPLAY))
+				{
+					Collection<Ability> abilities =
+							Globals.getContext().getReferenceContext().getManufacturerId(category).getAllObjects();
+					DefaultListFacade<AbilityFacade> abilityList = new DefaultListFacade<>();
+					abilityMap.put(category, abilityList);
+					builders.add(CompletableFuture.supplyAsync(() -> {
+						List<Ability> abList = filterVisible(abilities);
+						Globals.sortPObjectListByName(abList);
+						return abList;
+					}, executor).thenAccept(abilityList::setContents));
+				}
 			}
-		}
+			builders.add(publishVisible(executor, refContext.getConstructedCDOMObjects(Equipment.class), equipment));
+			builders.add(
+				publishAll(executor, refContext.getConstructedCDOMObjects(SizeAdjustment.class), unsortedSizes));
 
-		List<PCClass> classList =
-				new ArrayList<>(context.getReferenceContext().getConstructedCDOMObjects(PCClass.class));
-		for (PCClass pcClass : classList)
-		{
-			if (pcClass.getSafe(ObjectKey.VISIBILITY).isVisibleTo(View.VISIBLE_DISPLAY))
-			{
-				unsortedClasses.addElement(pcClass);
-			}
-		}
+			initEquipmentLocations();
+			xpTableNames.setContents(gameMode.getXPTableNames());
+			characterTypes.setContents(gameMode.getCharacterTypeList());
+			createGearBuySellSchemes();
 
-		for (Skill skill : context.getReferenceContext().getConstructedCDOMObjects(Skill.class))
-		{
-			if (skill.getSafe(ObjectKey.VISIBILITY).isVisibleTo(View.VISIBLE_DISPLAY))
-			{
-				skills.addElement(skill);
-			}
-		}
-		for (Deity deity : context.getReferenceContext().getConstructedCDOMObjects(Deity.class))
-		{
-			deities.addElement(deity);
+			// A DataSet is handed out complete, so wait for the remaining categories
+			CompletableFuture.allOf(builders.toArray(new CompletableFuture<?>[0])).join();
 		}
-		for (PCTemplate template : context.getReferenceContext().getConstructedCDOMObjects(PCTemplate.class))
+		catch (CompletionException e)
 		{
-			if (template.getSafe(ObjectKey.VISIBILITY).isVisibleTo(View.VISIBLE_DISPLAY))
+			if (e.getCause() instanceof RuntimeException re)
 			{
-				templates.addElement(template);
+				throw re;
 			}
+			throw e;
 		}
-		for (Kit kit : context.getReferenceContext().getConstructedCDOMObjects(Kit.class))
-		{
-			kits.addElement(kit);
-		}
-		for (PCAlignment alignment : context.getReferenceContext().getConstructedCDOMObjects(PCAlignment.class))
-		{
-			unsortedAlignments.addElement(alignment);
-		}
-		for (PCStat stat : context.getReferenceContext().getConstructedCDOMObjects(PCStat.class))
+		finally
 		{
-			unsortedStats.addElement(stat);
+			executor.shutdown();
 		}
-		for (AbilityCategory category : gameMode.getAllAbilityCategories())
+	}
+
+	/**
+	 * Asynchronously fills the given list with the objects that are visible
+	 * for display.
+	 *
+	 * @param executor The executor on which the list is built
+	 * @param objects The objects to be filtered
+	 * @param target The list to be filled once the objects have been filtered
+	 * @return The CompletableFuture that completes once the list is filled
+	 */
+	private static <T extends CDOMObject> CompletableFuture<Void> publishVisible(Executor executor,
+		Collection<T> objects, DefaultListFacade<? super T> target)
+	{
+		return CompletableFuture.supplyAsync(() -> filterVisible(objects), executor).thenAccept(target::setContents);
+	}
+
+	/**
+	 * Asynchronously fills the given list with all of the given objects.
+	 *
+	 * @param executor The executor on which the list is built
+	 * @param objects The objects to be placed in the list
+	 * @param target The list to be filled
+	 * @return The CompletableFuture that completes once the list is filled
+	 */
+	private static <T> CompletableFuture<Void> publishAll(Executor executor, Collection<T> objects,
+		DefaultListFacade<? super T> target)
+	{
+		return CompletableFuture.supplyAsync(() -> new ArrayList<>(objects), executor)
+			.thenAccept(target::setContents);
+	}
+
+	private static <T extends CDOMObject> List<T> filterVisible(Collection<T> objects)
+	{
+		List<T> visible = new ArrayList<>(objects.size());
+		for (T object : objects)
 		{
-			if (category.isVisibleTo(View.VISIBLE_DISPLAY))
+			if (object.getSafe(ObjectKey.VISIBILITY).isVisibleTo(View.VISIBLE_DISPLAY))
 			{
-				List<Ability> abList = new ArrayList<>(
-					Globals.getContext().getReferenceContext().getManufacturerId(category).getAllObjects());
-				Globals.sortPObjectListByName(abList);
-				DefaultListFacade<AbilityFacade> abilityList = new DefaultListFacade<>(abList);
-				for (Iterator<AbilityFacade> iterator = abilityList.iterator(); iterator.hasNext();)
-				{
-					AbilityFacade facade = iterator.next();
-					if (facade instanceof Ability ability)
-					{
-						if (!(ability.getSafe(ObjectKey.VISIBILITY).isVisibleTo(View.VISIBLE_DISPLAY)))
-						{
-							iterator.remove();
-						}
-					}
-				}
-				abilityMap.put(category, abilityList);
+				visible.add(object);
 			}
 		}
+		return visible;
+	}
+
+	private void initEquipmentLocations()
+	{
 		Map<String, BodyStructure> structMap =
 				new HashMap<>(SystemCollections.getUnmodifiableBodyStructureList().size() + 3);
 		for (String name : SystemCollections.getUnmodifiableBodyStructureList())
@@ -203,29 +262,6 @@ public class DataSet implements DataSetFacade
 				structMap.get(es.getBodyStructureName()).addEquipSlot(es);
 			}
 		}
-
-		for (Equipment eq : context.getReferenceContext().getConstructedCDOMObjects(Equipment.class))
-		{
-			if (eq.getSafe(ObjectKey.VISIBILITY).isVisibleTo(View.VISIBLE_DISPLAY))
-			{
-				equipment.addElement(eq);
-			}
-		}
-		for (String xpTableName : gameMode.getXPTableNames())
-		{
-			xpTableNames.addElement(xpTableName);
-		}
-		for (String characterType : gameMode.getCharacterTypeList())
-		{
-			characterTypes.addElement(characterType);
-		}
-		for (SizeAdjustment size : context.getReferenceContext().getConstructedCDOMObjects(SizeAdjustment.class))
-		{
-			unsortedSizes.addElement(size);
-		}
-
-		createGearBuySellSchemes();
-
 	}
 
 	/**
@@ -56,6 +56,7 @@ import pcgen.cdom.enumeration.ListKey;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.cdom.enumeration.Type;
+import pcgen.cdom.enumeration.TypeQuery;
 import pcgen.cdom.facet.FacetLibrary;
 import pcgen.cdom.facet.analysis.ResultFacet;
 import pcgen.cdom.formula.PCGenScoped;
@@ -427,6 +428,27 @@ public final class Equipment extends PObject
 	 * @return The type value
 	 */
 	public boolean isType(final String aType, final boolean bPrimary)
+	{
+		return isType(TypeQuery.getQuery(aType), bPrimary);
+	}
+
+	@Override
+	public boolean isType(TypeQuery query)
+	{
+		return isType(query, true);
+	}
+
+	/**
+	 * Gets the type attribute of the Equipment object
+	 * 
+	 * @param query
+	 *            The pre-parsed type to be checked
+	 * @param bPrimary
+	 *            if true check the types of the primary head, otherwise the
+	 *            secondary head
+	 * @return The type value
+	 */
+	public boolean isType(TypeQuery query, final boolean bPrimary)
 	{
 		if (!bPrimary && !isDouble())
 		{
@@ -434,40 +456,35 @@ public final class Equipment extends PObject
 		}
 
 		final List<String> tList = typeList(bPrimary);
-		final String myType;
-
-		if (aType.startsWith("TYPE=") || aType.startsWith("TYPE.")) //$NON-NLS-1$ //$NON-NLS-2$
-		{
-			myType = aType.substring(5).toUpperCase();
-		}
-		else
-		{
-			myType = aType.toUpperCase();
-		}
+		final List<String> types = query.getNames();
 
 		//
 		// Must match all listed types in order to qualify
 		//
-		StringTokenizer tok = new StringTokenizer(myType, ".");
-		if (tok.hasMoreTokens())
+		if (!types.isEmpty())
 		{
-			while (tok.hasMoreTokens())
+			for (int i = 0; i < types.size(); i++)
 			{
-				final String type = tok.nextToken();
-				//CONSIDER Faster method? Case sensitivity is a problem for containsInList
-				boolean found = false;
-				if (tList != null)
-				{
-					found = tList.stream().anyMatch(type::equalsIgnoreCase);
-				}
-				if (!found)
+				if ((tList == null) || !containsIgnoreCase(tList, types.get(i)))
 				{
 					return false;
 				}
 			}
 			return true;
 		}
-		return tList.contains(aType);
+		return tList.contains(query.getQuery());
+	}
+
+	private static boolean containsIgnoreCase(List<String> list, String type)
+	{
+		for (int i = 0; i < list.size(); i++)
+		{
+			if (type.equalsIgnoreCase(list.get(i)))
+			{
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -374,9 +374,10 @@ public final class EquipmentChoice
 	 */
 	public void addSelectableEquipment(final String typeString)
 	{
-		for (Equipment aEquip : Globals.getContext().getReferenceContext().getConstructedCDOMObjects(Equipment.class))
+		for (Equipment aEquip : Globals.getContext().getReferenceContext().getManufacturer(Equipment.class)
+			.getObjectsOfType(typeString))
 		{
-			if (aEquip.isType(typeString) && !this.getAvailableList().contains(aEquip.getName()))
+			if (!this.getAvailableList().contains(aEquip.getName()))
 			{
 				this.getAvailableList().add(aEquip.getName());
 			}
@@ -22,7 +22,6 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.StringJoiner;
-import java.util.StringTokenizer;
 
 import pcgen.base.lang.StringUtil;
 import pcgen.cdom.base.CDOMObject;
@@ -33,6 +32,7 @@ import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.cdom.enumeration.SourceFormat;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.cdom.enumeration.Type;
+import pcgen.cdom.enumeration.TypeQuery;
 import pcgen.cdom.facet.FacetLibrary;
 import pcgen.cdom.facet.HiddenTypeFacet;
 import pcgen.core.analysis.OutputNameFormatting;
@@ -170,32 +170,24 @@ public class PObject extends CDOMObject
 	@Override
 	public boolean isType(final String aType)
 	{
-		final String myType;
+		return isType(TypeQuery.getQuery(aType));
+	}
 
-		if (aType.isEmpty())
+	@Override
+	public boolean isType(TypeQuery query)
+	{
+		if (query.isEmpty())
 		{
 			return false;
 		}
-		else if (aType.charAt(0) == '!')
-		{
-			myType = aType.substring(1).toUpperCase();
-		}
-		else if (aType.startsWith("TYPE=") || aType.startsWith("TYPE.")) //$NON-NLS-1$ //$NON-NLS-2$
-		{
-			myType = aType.substring(5).toUpperCase();
-		}
-		else
-		{
-			myType = aType.toUpperCase();
-		}
 
 		//
 		// Must match all listed types in order to qualify
 		//
-		StringTokenizer tok = new StringTokenizer(myType, ".");
-		while (tok.hasMoreTokens())
+		List<Type> types = query.getTypes();
+		for (int i = 0; i < types.size(); i++)
 		{
-			if (!containsInList(ListKey.TYPE, Type.getConstant(tok.nextToken())))
+			if (!containsInList(ListKey.TYPE, types.get(i)))
 			{
 				return false;
 			}
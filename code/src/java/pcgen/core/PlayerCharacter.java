@@ -113,6 +113,7 @@ import pcgen.cdom.facet.MasterFacet;
 import pcgen.cdom.facet.NoteItemFacet;
 import pcgen.cdom.facet.PlayerCharacterTrackingFacet;
 import pcgen.cdom.facet.PrimaryWeaponFacet;
+import pcgen.cdom.facet.QualificationFacet;
 import pcgen.cdom.facet.RemoveFacet;
 import pcgen.cdom.facet.SaveableBonusFacet;
 import pcgen.cdom.facet.SavedAbilitiesFacet;
@@ -390,6 +391,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	private final SecondaryWeaponFacet secondaryWeaponFacet = FacetLibrary.getFacet(SecondaryWeaponFacet.class);
 
 	private final AutoLanguageGrantedFacet condLangFacet = FacetLibrary.getFacet(AutoLanguageGrantedFacet.class);
+	private final QualificationFacet qualificationFacet = FacetLibrary.getFacet(QualificationFacet.class);
 
 	private final SkillCostFacet skillCostFacet = FacetLibrary.getFacet(SkillCostFacet.class);
 	private final ProhibitedSchoolFacet prohibitedSchoolFacet = FacetLibrary.getFacet(ProhibitedSchoolFacet.class);
@@ -1001,6 +1003,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 			cAvSpellFacet.update(id);
 			cKnSpellFacet.update(id);
 			condLangFacet.update(id);
+			qualificationFacet.endEdit(id);
 			bonusSkillRankChangeFacet.reset(id);
 		}
 
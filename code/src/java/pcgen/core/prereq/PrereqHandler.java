@@ -33,6 +33,7 @@ import pcgen.core.PlayerCharacter;
 import pcgen.core.RuleConstants;
 import pcgen.system.LanguageBundle;
 import pcgen.util.Logging;
+import pcgen.util.Metrics;
 
 /**
  * This class tests if the character passes the prerequisites for the caller.
@@ -204,6 +205,7 @@ public final class PrereqHandler
 		{
 			return true;
 		}
+		long start = Metrics.start();
 		try
 		{
 			CDOMObject cdomCaller = (caller instanceof CDOMObject) ? (CDOMObject) caller : null;
@@ -220,6 +222,10 @@ public final class PrereqHandler
 			Logging.errorPrint("Problem encountered when testing PREREQ " + String.valueOf(prereq) + callerString
 				+ ". See following trace for details.", e);
 		}
+		finally
+		{
+			Metrics.stop(Metrics.Category.PREREQ, getMetricsKey(prereq), start);
+		}
 		return total > 0;
 	}
 
@@ -246,6 +252,7 @@ public final class PrereqHandler
 			return false;
 		}
 		int total = 0;
+		long start = Metrics.start();
 		try
 		{
 			total = test.passes(preReq, equip, aPC);
@@ -255,9 +262,30 @@ public final class PrereqHandler
 			final String message = "PrereqHandler.Exception_in_test"; //$NON-NLS-1$
 			Logging.errorPrintLocalised(message, pe);
 		}
+		finally
+		{
+			Metrics.stop(Metrics.Category.PREREQ, getMetricsKey(preReq), start);
+		}
 		return total > 0;
 	}
 
+	/**
+	 * Returns the key under which the test of the given Prerequisite is
+	 * recorded in the Metrics. PREMULT is loaded without a kind, so it is
+	 * recorded as MULT rather than as no kind at all.
+	 *
+	 * @param prereq The prerequisite being tested.
+	 * @return The key under which the test is recorded.
+	 */
+	private static String getMetricsKey(final Prerequisite prereq)
+	{
+		if (prereq.getKind() == null && !prereq.getPrerequisites().isEmpty())
+		{
+			return "MULT"; //$NON-NLS-1$
+		}
+		return prereq.getKind();
+	}
+
 	/**
 	 * Generates an HTML representation of a list of PreRequisite objects.
 	 * @param anArrayList the list of PreRequisite objects to be represented.
@@ -751,6 +751,12 @@ public interface CharacterFacade extends CompanionFacade
 	 */
     boolean isDirty();
 
+	/**
+	 * @return A number which changes each time the character is changed. Output
+	 * produced from the character is out of date if this has changed since.
+	 */
+    int getSerial();
+
 	/**
 	 * @return The kits that have been applied to the character
 	 */
@@ -18,6 +18,8 @@
  */
 package pcgen.facade.core;
 
+import java.util.List;
+
 import pcgen.core.Deity;
 import pcgen.core.Domain;
 import pcgen.core.EquipmentModifier;
@@ -123,6 +125,16 @@ public interface InfoFactory
 	 */
 	public String getHTMLInfo(InfoFacade facade);
 
+	/**
+	 * Build the HTML information strings for the given objects in advance,
+	 * typically the rows next to the current selection, so they are ready if
+	 * the user moves the selection onto them. Objects the factory cannot
+	 * describe are ignored.
+	 *
+	 * @param objects The objects likely to be described next.
+	 */
+	public void prefetchHTMLInfo(List<?> objects);
+
 	/**
 	 * Produce the HTML information string for spell book or spell list.
 	 *
@@ -132,6 +132,15 @@ public final class CharacterTabs extends SharedTabPane
 		setSelectedIndex(characters.indexOf(e.getNewReference()));
 	}
 
+	/**
+	 * Lets the displayed character tab pick up preferences which may have
+	 * changed.
+	 */
+	void preferencesChanged()
+	{
+		infoTabbedPane.preferencesChanged();
+	}
+
 	@Override
 	public void stateChanged(ChangeEvent e)
 	{
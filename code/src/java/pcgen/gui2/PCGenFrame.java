@@ -648,9 +648,10 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 			{
 				return;
 			}
-			if (ret == JOptionPane.YES_OPTION)
+			if ((ret == JOptionPane.YES_OPTION) && !saveCharacter(character))
 			{
-				saveCharacter(character);
+				// Leave the character open rather than lose the changes
+				return;
 			}
 		}
 		CharacterManager.removeCharacter(character);
@@ -1136,7 +1137,7 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 
 			try
 			{
-				CharacterManager.openCharacter(pcgFile, PCGenFrame.this, reference);
+				CharacterManager.openCharacter(pcgFile, PCGenFrame.this, reference, true);
 				statusBar.getProgressBar().getModel().setRangeProperties(1, 1, 0, 2, false);
 			}
 			catch (Exception e)
@@ -1194,7 +1195,7 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 				SwingUtilities.invokeLater(() -> {
 					try
 					{
-						CharacterManager.openCharacter(pcgFile, PCGenFrame.this, currentDataSetRef.get());
+						CharacterManager.openCharacter(pcgFile, PCGenFrame.this, currentDataSetRef.get(), true);
 						statusBar.getProgressBar().getModel().setRangeProperties(1, 1, 0, 2, false);
 					}
 					catch (Exception e)
@@ -1250,7 +1251,7 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 					Logging.log(Logging.WARNING, "Loading party with different sources. Party: " + sources
 						+ " current: " + currentSourceSelection.get());
 				}
-				CharacterManager.openParty(pcpFile, PCGenFrame.this, currentDataSetRef.get());
+				CharacterManager.openParty(pcpFile, PCGenFrame.this, currentDataSetRef.get(), true);
 			}
 			else if (loadSourceSelection(sources))
 			{
@@ -1258,7 +1259,8 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 					try
 					{
 						sourceLoader.join();
-						SwingUtilities.invokeLater(() -> CharacterManager.openParty(pcpFile, PCGenFrame.this, currentDataSetRef.get()));
+						SwingUtilities.invokeLater(() -> CharacterManager.openParty(pcpFile, PCGenFrame.this,
+							currentDataSetRef.get(), true));
 					}
 					catch (InterruptedException ex)
 					{
@@ -1663,6 +1665,15 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 		Platform.runLater(javaFXAboutDialog::show);
 	}
 
+	/**
+	 * Lets the displayed character tab pick up preferences which may have
+	 * changed.
+	 */
+	void preferencesChanged()
+	{
+		characterTabs.preferencesChanged();
+	}
+
 	@Override
 	public CustomEquipResult showCustomEquipDialog(CharacterFacade character, EquipmentBuilderFacade equipBuilder)
 	{
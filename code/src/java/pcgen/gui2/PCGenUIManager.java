@@ -25,6 +25,7 @@ import pcgen.gui2.dialog.PreferencesDialog;
 import pcgen.gui3.GuiAssertions;
 import pcgen.gui3.application.DesktopHandler;
 import pcgen.gui3.preferences.PCGenPreferencesModel;
+import pcgen.system.CharacterAutosaver;
 import pcgen.system.Main;
 import pcgen.util.Logging;
 
@@ -67,6 +68,7 @@ public final class PCGenUIManager
 		GuiAssertions.assertIsNotOnGUIThread();
 		Platform.setImplicitExit(false);
 		SwingUtilities.invokeLater(pcgenFrame::startPCGenFrame);
+		SwingUtilities.invokeLater(CharacterAutosaver::start);
 	}
 
 	public static void displayPreferencesDialog()
@@ -75,6 +77,7 @@ public final class PCGenUIManager
 		PreferencesDialog prefsDialog;
 		prefsDialog = new PreferencesDialog(pcgenFrame, PCGenPreferencesModel.buildRoot(), Constants.APPLICATION_NAME);
 		prefsDialog.setVisible(true);
+		pcgenFrame.preferencesChanged();
 	}
 
 	public static void displayAboutDialog()
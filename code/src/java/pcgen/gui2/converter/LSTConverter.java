@@ -307,7 +307,7 @@ public class LSTConverter extends Observable
 				.map((String dataBuffer) -> {
 					StringBuilder resultBuffer = new StringBuilder(dataBuffer.length());
 
-					String[] fileLines = dataBuffer.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
+					String[] fileLines = LstFileLoader.splitLines(dataBuffer);
 					for (int line = 0; line < fileLines.length; line++)
 					{
 						String lineString = fileLines[line];
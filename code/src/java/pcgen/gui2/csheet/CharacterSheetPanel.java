@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.StringWriter;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.SwingUtilities;
 
@@ -38,8 +39,10 @@ import pcgen.system.LanguageBundle;
 import pcgen.util.Logging;
 
 import javafx.application.Platform;
+import javafx.concurrent.Worker;
 import javafx.embed.swing.JFXPanel;
 import javafx.scene.Scene;
+import javafx.scene.web.WebEngine;
 import javafx.scene.web.WebView;
 
 /**
@@ -51,13 +54,82 @@ import javafx.scene.web.WebView;
  */
 public final class CharacterSheetPanel extends JFXPanel implements CharacterSelectionListener
 {
+    /**
+     * Replaces the changed top level parts of the body of the loaded sheet. It is
+     * given the HTML the current document was loaded from and the new HTML, and
+     * returns false if the documents differ in a way it cannot patch, in which
+     * case the new HTML should be loaded in full.
+     */
+    private static final String PATCH_SCRIPT = """
+            (function (oldHtml, newHtml) {
+                var parser = new DOMParser();
+                var oldDoc = parser.parseFromString(oldHtml, 'text/html');
+                var newDoc = parser.parseFromString(newHtml, 'text/html');
+                var body = document.body;
+                if (!body || oldDoc.head.innerHTML !== newDoc.head.innerHTML
+                    || oldDoc.body.cloneNode(false).outerHTML !== newDoc.body.cloneNode(false).outerHTML) {
+                    return false;
+                }
+                var source = function (node) {
+                    return node.nodeType === 1 ? node.outerHTML : node.nodeType + ':' + node.nodeValue;
+                };
+                var oldNodes = oldDoc.body.childNodes;
+                var newNodes = newDoc.body.childNodes;
+                var current = body.childNodes;
+                if (oldNodes.length !== newNodes.length || current.length !== oldNodes.length) {
+                    return false;
+                }
+                var changed = [];
+                for (var i = 0; i < newNodes.length; i++) {
+                    if (source(oldNodes[i]) !== source(newNodes[i])) {
+                        var node = newNodes[i];
+                        if (node.nodeType === 1 && (node.tagName === 'SCRIPT' || node.querySelector('script'))) {
+                            return false;
+                        }
+                        changed.push(i);
+                    }
+                }
+                var replacements = changed.map(function (i) {
+                    return [document.importNode(newNodes[i], true), current[i]];
+                });
+                replacements.forEach(function (r) {
+                    body.replaceChild(r[0], r[1]);
+                });
+                return true;
+            })""";
+
     private PreviewVariablesHandler previewVariableHandler = new PreviewVariablesHandler();
     private WebView browser;
-    private CharacterFacade character;
-    private ExportHandler handler;
+    private volatile CharacterFacade character;
+    private volatile ExportHandler handler;
 
     private final Executor executor = Executors.newSingleThreadExecutor();
 
+    /**
+     * The number of refreshes requested. A queued refresh which is no longer
+     * the latest request is dropped, as a later one will render the sheet.
+     */
+    private final AtomicInteger refreshRequests = new AtomicInteger();
+
+    /**
+     * Set when a forced refresh is requested, and cleared by the refresh which
+     * renders the sheet.
+     */
+    private volatile boolean forceRequested;
+
+    /*
+     * What the displayed sheet was rendered from. Only used on the executor thread.
+     */
+    private boolean rendered;
+    private ExportHandler renderedHandler;
+    private CharacterFacade renderedCharacter;
+    private int renderedSerial;
+
+    /**
+     * The HTML the displayed document was loaded from. Only used on the JavaFX thread.
+     */
+    private String loadedContent;
+
     public CharacterSheetPanel()
     {
         GuiAssertions.assertIsNotJavaFXThread();
@@ -77,12 +149,54 @@ public final class CharacterSheetPanel extends JFXPanel implements CharacterSele
     }
 
     /**
-     * TODO: This is pseudo-async and can be strucutured much better.
-     * TODO: handle progress reporting from the webview
+     * Renders the sheet for the current character. Requests made while an
+     * earlier one is still waiting replace it, and the sheet is only exported
+     * again if the character, its serial or the output sheet has changed.
      */
     public void refresh()
     {
+        refresh(false);
+    }
+
+    /**
+     * Renders the sheet for the current character. Requests made while an
+     * earlier one is still waiting replace it. Unless forced, the sheet is only
+     * exported again if the character, its serial or the output sheet has
+     * changed. A refresh should be forced when something the sheet depends on,
+     * but which does not change the serial, may have changed, such as the
+     * preferences or output settings.
+     *
+     * TODO: handle progress reporting from the webview
+     *
+     * @param force true to export the sheet even if it appears to be up to date
+     */
+    public void refresh(boolean force)
+    {
+        if (force)
+        {
+            forceRequested = true;
+        }
+        int request = refreshRequests.incrementAndGet();
         executor.execute(() -> {
+            if (request != refreshRequests.get())
+            {
+                // A later refresh has been requested, which will do the work
+                return;
+            }
+            ExportHandler currentHandler = handler;
+            CharacterFacade currentCharacter = character;
+            // Read the serial before exporting, so a change made during the export is rendered next time
+            int serial = (currentCharacter == null) ? 0 : currentCharacter.getSerial();
+            // Taken by the refresh which does the work, so a dropped forced request is not lost
+            boolean forced = forceRequested;
+            forceRequested = false;
+            if (!forced && rendered && currentHandler == renderedHandler && currentCharacter == renderedCharacter
+                && serial == renderedSerial)
+            {
+                Logging.debugPrint("character preview is up to date");
+                return;
+            }
+
             // loading of the output sheet is much faster than in the past (lobo-browser).
             // do we still really need a statusbar/progress bar?
             final PCGenStatusBar statusBar = ((PCGenFrame) Globals.getRootFrame()).getStatusBar();
@@ -91,7 +205,8 @@ public final class CharacterSheetPanel extends JFXPanel implements CharacterSele
             );
 
             String content;
-            if (handler == null || character == null)
+            boolean success = true;
+            if (currentHandler == null || currentCharacter == null)
             {
                 Logging.debugPrint("no character found");
                 content = "<html><body>No Character Found.</body></html>";
@@ -102,7 +217,7 @@ public final class CharacterSheetPanel extends JFXPanel implements CharacterSele
                     StringWriter out = new StringWriter();
                     BufferedWriter buf = new BufferedWriter(out);
                     Logging.debugPrint("ready to export");
-                    character.export(handler, buf);
+                    currentCharacter.export(currentHandler, buf);
                     Logging.debugPrint("export complete");
                     content = out.toString();
                 }
@@ -110,15 +225,19 @@ public final class CharacterSheetPanel extends JFXPanel implements CharacterSele
                 {
                     content = "<html><body>Exception when exporting</body></html>";
                     Logging.errorPrint("failed to export", e);
+                    success = false;
                 }
             }
+            rendered = success;
+            renderedHandler = currentHandler;
+            renderedCharacter = currentCharacter;
+            renderedSerial = serial;
 
             final String finalContent = content;
             Platform.runLater(() -> {
                 try
                 {
-                    Logging.debugPrint("loading character content");
-                    browser.getEngine().loadContent(finalContent);
+                    showContent(finalContent);
                 }
                 catch (Throwable e)
                 {
@@ -129,6 +248,84 @@ public final class CharacterSheetPanel extends JFXPanel implements CharacterSele
         });
     }
 
+    /**
+     * Displays the given HTML, patching the sections of the loaded document
+     * which have changed if possible, and otherwise loading it in full.
+     *
+     * @param content The HTML of the sheet
+     */
+    private void showContent(String content)
+    {
+        GuiAssertions.assertIsJavaFXThread();
+        WebEngine engine = browser.getEngine();
+        if (loadedContent != null && engine.getLoadWorker().getState() == Worker.State.SUCCEEDED
+            && patchContent(engine, content))
+        {
+            Logging.debugPrint("patched character content");
+        }
+        else
+        {
+            Logging.debugPrint("loading character content");
+            engine.loadContent(content);
+        }
+        loadedContent = content;
+    }
+
+    private boolean patchContent(WebEngine engine, String content)
+    {
+        try
+        {
+            Object result = engine.executeScript(
+                PATCH_SCRIPT + '(' + toScriptString(loadedContent) + ',' + toScriptString(content) + ')');
+            if (!Boolean.TRUE.equals(result))
+            {
+                return false;
+            }
+            previewVariableHandler.bindInputs(engine.getDocument());
+            return true;
+        }
+        catch (RuntimeException e)
+        {
+            Logging.debugPrint("could not patch character content", e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the given String as a JavaScript string literal.
+     *
+     * @param value The String to be quoted
+     * @return A JavaScript string literal for the value
+     */
+    static String toScriptString(String value)
+    {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            switch (c)
+            {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default ->
+                {
+                    if (c < ' ' || c == '\u2028' || c == '\u2029')
+                    {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    }
+                    else
+                    {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
     @Override
     public void setCharacter(CharacterFacade character)
     {
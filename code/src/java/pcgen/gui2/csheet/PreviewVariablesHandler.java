@@ -14,6 +14,11 @@ import org.w3c.dom.html.HTMLInputElement;
  */
 public class PreviewVariablesHandler implements ChangeListener<Document>
 {
+    /**
+     * Marks an input which has already been bound to its variable.
+     */
+    private static final String BOUND_ATTRIBUTE = "data-pcgen-bound";
+
     private CharacterFacade character;
 
     public void setCharacter(CharacterFacade character)
@@ -28,15 +33,28 @@ public class PreviewVariablesHandler implements ChangeListener<Document>
         {
             return;
         }
-        NodeList elements = newDoc.getElementsByTagName("input");
+        bindInputs(newDoc);
+    }
+
+    /**
+     * Loads and saves the inputs tagged with "target_var" in the given document.
+     * Inputs which have already been bound are skipped, so this can be called
+     * again after parts of the document have been replaced.
+     *
+     * @param doc The document containing the inputs
+     */
+    void bindInputs(Document doc)
+    {
+        NodeList elements = doc.getElementsByTagName("input");
         for (int i = 0; i < elements.getLength(); i++)
         {
             HTMLInputElement element = (HTMLInputElement) elements.item(i);
             String key = getInputKey(element);
-            if (key == null || key.isEmpty())
+            if (key == null || key.isEmpty() || element.hasAttribute(BOUND_ATTRIBUTE))
             {
                 continue;
             }
+            element.setAttribute(BOUND_ATTRIBUTE, "true");
             setInputValue(element, character.getPreviewSheetVar(key));
             ((EventTarget) element).addEventListener("change", evt ->
             {
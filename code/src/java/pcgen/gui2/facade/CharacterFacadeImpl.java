@@ -154,6 +154,7 @@ import pcgen.gui2.util.CoreInterfaceUtilities;
 import pcgen.io.ExportException;
 import pcgen.io.ExportHandler;
 import pcgen.io.PCGIOHandler;
+import pcgen.io.PCGVer2Creator;
 import pcgen.output.channel.ChannelCompatibility;
 import pcgen.output.channel.ChannelUtilities;
 import pcgen.output.channel.compat.AlignmentCompat;
@@ -167,7 +168,6 @@ import pcgen.system.PCGenSettings;
 import pcgen.util.Logging;
 import pcgen.util.enumeration.Load;
 import pcgen.util.enumeration.Tab;
-import pcgen.util.enumeration.View;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -258,10 +258,13 @@ public class CharacterFacadeImpl
 
 	private int lastExportCharSerial = 0;
 	private PlayerCharacter lastExportChar = null;
+	private int lastAutosaveSerial = 0;
 	private LanguageListener langListener;
 	private TemplateListener templateListener;
 	private XPListener xpListener;
 	private AutoEquipListener autoEquipListener;
+	private final RefreshScheduler refreshScheduler = new RefreshScheduler();
+	private KitEvaluator kitEvaluator;
 
 	/**
 	 * Create a new character facade for an existing character.
@@ -280,6 +283,15 @@ public class CharacterFacadeImpl
 		initForCharacter();
 	}
 
+	/**
+	 * @return The number of times each of the character's derived views was
+	 * requested and refreshed, and the time spent refreshing them.
+	 */
+	public Collection<RefreshScheduler.Statistics> getRefreshStatistics()
+	{
+		return refreshScheduler.getStatistics();
+	}
+
 	@Override
 	public void closeCharacter()
 	{
@@ -287,6 +299,12 @@ public class CharacterFacadeImpl
 		FacetLibrary.getFacet(TemplateFacet.class).removeDataFacetChangeListener(templateListener);
 		FacetLibrary.getFacet(XPFacet.class).removeDataFacetChangeListener(xpListener);
 		FacetLibrary.getFacet(AutoEquipmentFacet.class).removeDataFacetChangeListener(autoEquipListener);
+		refreshScheduler.cancel();
+		if (Logging.isDebugMode())
+		{
+			Logging.debugPrint("Refresh statistics for " + charDisplay.getName() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+				+ refreshScheduler.getStatistics());
+		}
 
 		characterAbilities.closeCharacter();
 		charLevelsFacade.closeCharacter();
@@ -326,6 +344,7 @@ public class CharacterFacadeImpl
 		appliedTempBonuses = new DefaultListFacade<>();
 		buildAppliedTempBonusList();
 		kitList = new DefaultListFacade<>();
+		kitEvaluator = new KitEvaluator(theCharacter);
 		refreshKitList();
 
 		statScoreMap = new HashMap<>();
@@ -2421,13 +2440,38 @@ public class CharacterFacadeImpl
 	 * Save the character to disc using its filename. Note this method is not
 	 * part of the CharacterFacade and should only be used by the
 	 * ChracterManager class.
+	 *
+	 * @return true if the character was saved, false if the save failed and
+	 *         the character remains unsaved.
 	 */
-	public void save()
+	public boolean save()
 	{
 		GameMode mode = dataSet.getGameMode();
 		List<Campaign> campaigns = ListFacades.wrap(dataSet.getCampaigns());
-		(new PCGIOHandler()).write(theCharacter, mode, campaigns, file.get());
-		theCharacter.setDirty(false);
+		return (new PCGIOHandler()).write(theCharacter, mode, campaigns, file.get());
+	}
+
+	/**
+	 * Create the content of the character's PCG file for an autosave. The
+	 * content is produced here, so that the character is only read on the
+	 * event dispatch thread, and may then be written out on any thread. Note
+	 * this method is not part of the CharacterFacade and should only be used
+	 * by the CharacterAutosaver class.
+	 *
+	 * @return The PCG content, or null if the character has not changed since
+	 *         it was last saved or autosaved.
+	 */
+	public String createAutosaveContent()
+	{
+		int serial = theCharacter.getSerial();
+		if (!theCharacter.isDirty() || serial == lastAutosaveSerial)
+		{
+			return null;
+		}
+		lastAutosaveSerial = serial;
+		GameMode mode = dataSet.getGameMode();
+		List<Campaign> campaigns = ListFacades.wrap(dataSet.getCampaigns());
+		return new PCGVer2Creator(theCharacter, mode, campaigns).createPCGString();
 	}
 
 	@Override
@@ -3339,31 +3383,31 @@ public class CharacterFacadeImpl
 	@Override
 	public void quantityChanged(EquipmentListEvent e)
 	{
-		refreshTotalWeight();
+		refreshScheduler.request("totalWeight", this::refreshTotalWeight); //$NON-NLS-1$
 	}
 
 	@Override
 	public void elementAdded(ListEvent<EquipmentFacade> e)
 	{
-		refreshTotalWeight();
+		refreshScheduler.request("totalWeight", this::refreshTotalWeight); //$NON-NLS-1$
 	}
 
 	@Override
 	public void elementRemoved(ListEvent<EquipmentFacade> e)
 	{
-		refreshTotalWeight();
+		refreshScheduler.request("totalWeight", this::refreshTotalWeight); //$NON-NLS-1$
 	}
 
 	@Override
 	public void elementsChanged(ListEvent<EquipmentFacade> e)
 	{
-		refreshTotalWeight();
+		refreshScheduler.request("totalWeight", this::refreshTotalWeight); //$NON-NLS-1$
 	}
 
 	@Override
 	public void elementModified(ListEvent<EquipmentFacade> e)
 	{
-		refreshTotalWeight();
+		refreshScheduler.request("totalWeight", this::refreshTotalWeight); //$NON-NLS-1$
 	}
 
 	/**
@@ -3611,6 +3655,12 @@ public class CharacterFacadeImpl
 		return theCharacter.isDirty();
 	}
 
+	@Override
+	public int getSerial()
+	{
+		return theCharacter.getSerial();
+	}
+
 	@Override
 	public CompanionSupportFacade getCompanionSupport()
 	{
@@ -3794,7 +3844,7 @@ public class CharacterFacadeImpl
 				continue;
 			}
 
-			if (kit.isVisible(theCharacter, View.VISIBLE_DISPLAY))
+			if (kitEvaluator.evaluate(kit).isVisible())
 			{
 				kits.add(kit);
 			}
@@ -3935,7 +3985,7 @@ public class CharacterFacadeImpl
 			{
 				return;
 			}
-			refreshLanguageList();
+			refreshScheduler.request("languages", CharacterFacadeImpl.this::refreshLanguageList); //$NON-NLS-1$
 		}
 
 		@Override
@@ -3945,7 +3995,7 @@ public class CharacterFacadeImpl
 			{
 				return;
 			}
-			refreshLanguageList();
+			refreshScheduler.request("languages", CharacterFacadeImpl.this::refreshLanguageList); //$NON-NLS-1$
 		}
 
 	}
@@ -3963,7 +4013,7 @@ public class CharacterFacadeImpl
 			{
 				return;
 			}
-			refreshTemplates();
+			refreshScheduler.request("templates", CharacterFacadeImpl.this::refreshTemplates); //$NON-NLS-1$
 		}
 
 		@Override
@@ -3973,7 +4023,7 @@ public class CharacterFacadeImpl
 			{
 				return;
 			}
-			refreshTemplates();
+			refreshScheduler.request("templates", CharacterFacadeImpl.this::refreshTemplates); //$NON-NLS-1$
 		}
 
 	}
@@ -4014,7 +4064,7 @@ public class CharacterFacadeImpl
 			{
 				return;
 			}
-			refreshEquipment();
+			refreshScheduler.request("equipment", CharacterFacadeImpl.this::refreshEquipment); //$NON-NLS-1$
 		}
 
 		@Override
@@ -4024,7 +4074,7 @@ public class CharacterFacadeImpl
 			{
 				return;
 			}
-			refreshEquipment();
+			refreshScheduler.request("equipment", CharacterFacadeImpl.this::refreshEquipment); //$NON-NLS-1$
 		}
 
 	}
@@ -4061,14 +4111,7 @@ public class CharacterFacadeImpl
 	@Override
 	public boolean isQualifiedFor(Kit kit)
 	{
-		BigDecimal totalCost = kit.getTotalCostToBeCharged(theCharacter);
-		if (totalCost != null)
-		{
-			BigDecimal currentGold = new BigDecimal(ChannelUtilities
-				.readControlledChannel(theCharacter.getCharID(), CControl.GOLDINPUT).toString());
-			return currentGold.compareTo(totalCost) >= 0;
-		}
-		return true;
+		return kitEvaluator.canAfford(kit);
 	}
 
 	@Override
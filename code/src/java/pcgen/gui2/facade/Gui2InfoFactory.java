@@ -26,12 +26,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
 
 import pcgen.cdom.formula.Formula;
 import pcgen.base.lang.StringUtil;
@@ -142,9 +146,27 @@ public class Gui2InfoFactory implements InfoFactory
 	/** Constant for HTML bold end tag */
 	private static final String END_BOLD = "</b>"; //$NON-NLS-1$
 
+	/** The maximum number of info strings held for a character. */
+	private static final int MAX_CACHED_HTML = 256;
+
 	private final PlayerCharacter pc;
 	private final CharacterDisplay charDisplay;
 
+	/**
+	 * The info strings built for the character at cacheSerial, most recently
+	 * used last. The cache is discarded whenever the character changes. It is
+	 * only accessed from the event dispatch thread.
+	 */
+	private final Map<HtmlInfoKey, String> htmlCache = new LinkedHashMap<>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<HtmlInfoKey, String> eldest)
+		{
+			return size() > MAX_CACHED_HTML;
+		}
+	};
+	private int cacheSerial = -1;
+
 	/**
 	 * Create a new Gui2InfoFactory instance for the character.
 	 * @param pc The character
@@ -155,6 +177,80 @@ public class Gui2InfoFactory implements InfoFactory
 		this.charDisplay = pc == null ? null : pc.getDisplay();
 	}
 
+	/**
+	 * Returns the info string for the given key, building it only if it has
+	 * not already been built since the character last changed.
+	 *
+	 * @param key The object (or objects) the info string describes
+	 * @param builder The source of the info string if it is not cached
+	 * @return The HTML information string
+	 */
+	private String getCachedHTMLInfo(HtmlInfoKey key, Supplier<String> builder)
+	{
+		int serial = (pc == null) ? 0 : pc.getSerial();
+		if (serial != cacheSerial)
+		{
+			htmlCache.clear();
+			cacheSerial = serial;
+		}
+		String html = htmlCache.get(key);
+		if (html == null)
+		{
+			html = builder.get();
+			// Don't keep the info if building it changed the character
+			if (pc == null || pc.getSerial() == serial)
+			{
+				htmlCache.put(key, html);
+			}
+		}
+		return html;
+	}
+
+	@Override
+	public void prefetchHTMLInfo(List<?> objects)
+	{
+		if (objects.isEmpty())
+		{
+			return;
+		}
+		int serial = (pc == null) ? 0 : pc.getSerial();
+		// Build after the pending UI events so the current selection is shown first
+		SwingUtilities.invokeLater(() -> {
+			for (Object obj : objects)
+			{
+				if (pc != null && pc.getSerial() != serial)
+				{
+					// The character has changed, so the neighbours are no longer worth building
+					return;
+				}
+				if (obj instanceof Race race)
+				{
+					getHTMLInfo(race);
+				}
+				else if (obj instanceof Skill skill)
+				{
+					getHTMLInfo(skill);
+				}
+				else if (obj instanceof Deity deity)
+				{
+					getHTMLInfo(deity);
+				}
+				else if (obj instanceof PCTemplate template)
+				{
+					getHTMLInfo(template);
+				}
+				else if (obj instanceof Kit kit)
+				{
+					getHTMLInfo(kit);
+				}
+				else if (obj instanceof AbilityFacade || obj instanceof PCClass || obj instanceof SpellFacade)
+				{
+					getHTMLInfo((InfoFacade) obj);
+				}
+			}
+		});
+	}
+
 	@Override
 	public String getFavoredClass(Race race)
 	{
@@ -164,6 +260,11 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(Race race)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(race, null), () -> buildHTMLInfo(race));
+	}
+
+	private String buildHTMLInfo(Race race)
 	{
 		final HtmlInfoBuilder infoText = new HtmlInfoBuilder();
 
@@ -269,6 +370,12 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(PCClass aClass, PCClass possibleParentClass)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(aClass, possibleParentClass),
+			() -> buildHTMLInfo(aClass, possibleParentClass));
+	}
+
+	private String buildHTMLInfo(PCClass aClass, PCClass possibleParentClass)
 	{
 		PCClass parentClass = aClass;
 
@@ -401,6 +508,11 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(Skill skill)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(skill, null), () -> buildHTMLInfo(skill));
+	}
+
+	private String buildHTMLInfo(Skill skill)
 	{
 		if (skill == null)
 		{
@@ -494,6 +606,11 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(AbilityFacade abilityFacade)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(abilityFacade, null), () -> buildHTMLInfo(abilityFacade));
+	}
+
+	private String buildHTMLInfo(AbilityFacade abilityFacade)
 	{
 		if (!(abilityFacade instanceof Ability ability))
 		{
@@ -584,6 +701,11 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(Deity deity)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(deity, null), () -> buildHTMLInfo(deity));
+	}
+
+	private String buildHTMLInfo(Deity deity)
 	{
 		if (deity == null)
 		{
@@ -1107,6 +1229,11 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(PCTemplate template)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(template, null), () -> buildHTMLInfo(template));
+	}
+
+	private String buildHTMLInfo(PCTemplate template)
 	{
 		if (template == null)
 		{
@@ -1173,6 +1300,11 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(Kit kit)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(kit, null), () -> buildHTMLInfo(kit));
+	}
+
+	private String buildHTMLInfo(Kit kit)
 	{
 		if (kit == null)
 		{
@@ -1525,6 +1657,11 @@ public class Gui2InfoFactory implements InfoFactory
 
 	@Override
 	public String getHTMLInfo(SpellFacade spell)
+	{
+		return getCachedHTMLInfo(new HtmlInfoKey(spell, null), () -> buildHTMLInfo(spell));
+	}
+
+	private String buildHTMLInfo(SpellFacade spell)
 	{
 		Objects.requireNonNull(spell);
 		CharacterSpell cs = spell.getCharSpell();
@@ -2202,4 +2339,32 @@ public class Gui2InfoFactory implements InfoFactory
 		return (formula == null) ? "" : formula.toString();
 	}
 
+	/**
+	 * Identifies a cached info string by the identity of the objects it
+	 * describes, as the equals methods of the data objects compare by key
+	 * name rather than identity.
+	 */
+	private static final class HtmlInfoKey
+	{
+		private final Object primary;
+		private final Object secondary;
+
+		private HtmlInfoKey(Object primary, Object secondary)
+		{
+			this.primary = primary;
+			this.secondary = secondary;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return 31 * System.identityHashCode(primary) + System.identityHashCode(secondary);
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			return obj instanceof HtmlInfoKey other && primary == other.primary && secondary == other.secondary;
+		}
+	}
 }
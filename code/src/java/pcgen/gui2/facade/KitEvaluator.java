@@ -0,0 +1,117 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.gui2.facade;
+
+import java.math.BigDecimal;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import pcgen.cdom.util.CControl;
+import pcgen.core.Kit;
+import pcgen.core.PlayerCharacter;
+import pcgen.core.SettingsHandler;
+import pcgen.output.channel.ChannelUtilities;
+import pcgen.util.enumeration.View;
+
+/**
+ * The Class {@code KitEvaluator} works out, for each kit, whether it is
+ * visible to a character and what applying it would cost. The kit tab asks
+ * these questions of every kit each time the list is built or filtered, and
+ * answering them means evaluating the kit's prerequisites and cost formula.
+ * The answers are therefore kept until the character changes, or the gear buy
+ * rate that the cost depends on is changed.
+ * <p>
+ * The full trial application of a kit (Kit.testApplyKit) is not covered, as
+ * it may ask the user to make choices.
+ */
+final class KitEvaluator
+{
+	private final PlayerCharacter theCharacter;
+	private final Map<Kit, KitEvaluation> evaluations = new IdentityHashMap<>();
+	private int evaluatedSerial = -1;
+	private int evaluatedBuyRate = -1;
+
+	KitEvaluator(PlayerCharacter pc)
+	{
+		this.theCharacter = pc;
+	}
+
+	/**
+	 * @param kit The kit to be evaluated.
+	 * @return The evaluation of the kit for the character in its current state.
+	 */
+	KitEvaluation evaluate(Kit kit)
+	{
+		int serial = theCharacter.getSerial();
+		int buyRate = SettingsHandler.getGearTab_BuyRate();
+		if ((serial != evaluatedSerial) || (buyRate != evaluatedBuyRate))
+		{
+			evaluations.clear();
+			evaluatedSerial = serial;
+			evaluatedBuyRate = buyRate;
+		}
+		return evaluations.computeIfAbsent(kit, k -> new KitEvaluation(k.isVisible(theCharacter, View.VISIBLE_DISPLAY),
+			k.getTotalCostToBeCharged(theCharacter)));
+	}
+
+	/**
+	 * @param kit The kit to be checked.
+	 * @return true if the character has enough funds to pay for the kit.
+	 */
+	boolean canAfford(Kit kit)
+	{
+		BigDecimal totalCost = evaluate(kit).getTotalCost();
+		if (totalCost == null)
+		{
+			return true;
+		}
+		BigDecimal currentGold = new BigDecimal(ChannelUtilities
+			.readControlledChannel(theCharacter.getCharID(), CControl.GOLDINPUT).toString());
+		return currentGold.compareTo(totalCost) >= 0;
+	}
+
+	/**
+	 * The Class {@code KitEvaluation} holds the result of evaluating a kit for
+	 * a character.
+	 */
+	static final class KitEvaluation
+	{
+		private final boolean visible;
+		private final BigDecimal totalCost;
+
+		private KitEvaluation(boolean visible, BigDecimal totalCost)
+		{
+			this.visible = visible;
+			this.totalCost = totalCost;
+		}
+
+		/**
+		 * @return true if the kit is to be shown to the character.
+		 */
+		boolean isVisible()
+		{
+			return visible;
+		}
+
+		/**
+		 * @return The cost to be charged for the kit, or null if it has no total cost.
+		 */
+		BigDecimal getTotalCost()
+		{
+			return totalCost;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.gui2.facade;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * The Class {@code RefreshScheduler} coalesces requests to refresh the views
+ * a CharacterFacadeImpl derives from its PlayerCharacter. A single user action
+ * can cause many facet changes, each of which would otherwise recompute the
+ * same view. Requests made on the event dispatch thread mark the view as
+ * dirty and each dirty view is refreshed once, after the current event has
+ * been processed. Requests made on any other thread (e.g. while a character
+ * is loaded) are run immediately.
+ * <p>
+ * The number of requests, the number of refreshes actually run and the time
+ * spent in them are recorded for each view so that slow editing paths can be
+ * identified.
+ */
+public final class RefreshScheduler
+{
+	private final Map<String, Runnable> pending = new LinkedHashMap<>();
+	private final Map<String, Statistics> statistics = new LinkedHashMap<>();
+	private boolean drainScheduled = false;
+
+	/**
+	 * Request that the named view be refreshed. Repeated requests for the same
+	 * view made while processing one UI event result in a single refresh.
+	 *
+	 * @param name The name of the view to be refreshed.
+	 * @param refresh The action which refreshes the view.
+	 */
+	void request(String name, Runnable refresh)
+	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			synchronized (this)
+			{
+				statisticsFor(name).requests++;
+			}
+			// Run outside the lock, the refresh may need the event dispatch thread
+			run(name, refresh);
+			return;
+		}
+		synchronized (this)
+		{
+			statisticsFor(name).requests++;
+			pending.putIfAbsent(name, refresh);
+			if (drainScheduled)
+			{
+				return;
+			}
+			drainScheduled = true;
+		}
+		SwingUtilities.invokeLater(this::drain);
+	}
+
+	/**
+	 * Run all of the refreshes which are waiting, including any requested by
+	 * the refreshes themselves. The refreshes are run without holding the
+	 * lock, so that they may safely wait on other threads.
+	 */
+	void drain()
+	{
+		while (true)
+		{
+			List<Map.Entry<String, Runnable>> batch;
+			synchronized (this)
+			{
+				if (pending.isEmpty())
+				{
+					drainScheduled = false;
+					return;
+				}
+				batch = new ArrayList<>(pending.entrySet());
+				pending.clear();
+			}
+			for (Map.Entry<String, Runnable> entry : batch)
+			{
+				run(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Discard any refreshes which are waiting, e.g. as the character is being
+	 * closed.
+	 */
+	synchronized void cancel()
+	{
+		pending.clear();
+	}
+
+	/**
+	 * @return A snapshot of the statistics for each view that has been
+	 * requested, in the order they were first requested.
+	 */
+	synchronized Collection<Statistics> getStatistics()
+	{
+		List<Statistics> result = new ArrayList<>(statistics.size());
+		for (Statistics stats : statistics.values())
+		{
+			result.add(stats.copy());
+		}
+		return result;
+	}
+
+	private void run(String name, Runnable refresh)
+	{
+		long start = System.nanoTime();
+		try
+		{
+			refresh.run();
+		}
+		finally
+		{
+			recordRun(name, System.nanoTime() - start);
+		}
+	}
+
+	private synchronized void recordRun(String name, long elapsed)
+	{
+		Statistics stats = statisticsFor(name);
+		stats.runs++;
+		stats.totalNanos += elapsed;
+		stats.maxNanos = Math.max(stats.maxNanos, elapsed);
+	}
+
+	private Statistics statisticsFor(String name)
+	{
+		return statistics.computeIfAbsent(name, Statistics::new);
+	}
+
+	/**
+	 * The Class {@code Statistics} records how often a view was requested and
+	 * refreshed, and how long the refreshes took.
+	 */
+	public static final class Statistics
+	{
+		private final String name;
+		private long requests;
+		private long runs;
+		private long totalNanos;
+		private long maxNanos;
+
+		private Statistics(String name)
+		{
+			this.name = name;
+		}
+
+		private Statistics copy()
+		{
+			Statistics copy = new Statistics(name);
+			copy.requests = requests;
+			copy.runs = runs;
+			copy.totalNanos = totalNanos;
+			copy.maxNanos = maxNanos;
+			return copy;
+		}
+
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * @return The number of times a refresh of the view was requested.
+		 */
+		public long getRequests()
+		{
+			return requests;
+		}
+
+		/**
+		 * @return The number of times the view was actually refreshed.
+		 */
+		public long getRuns()
+		{
+			return runs;
+		}
+
+		/**
+		 * @return The total time spent refreshing the view, in nanoseconds.
+		 */
+		public long getTotalNanos()
+		{
+			return totalNanos;
+		}
+
+		/**
+		 * @return The time taken by the slowest refresh of the view, in nanoseconds.
+		 */
+		public long getMaxNanos()
+		{
+			return maxNanos;
+		}
+
+		@Override
+		public String toString()
+		{
+			return name + ": " + runs + " of " + requests + " requests run, total " + (totalNanos / 1_000_000)
+				+ "ms, max " + (maxNanos / 1_000_000) + "ms";
+		}
+	}
+}
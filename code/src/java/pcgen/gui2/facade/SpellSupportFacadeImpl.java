@@ -28,8 +28,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
 import pcgen.base.lang.StringUtil;
 import pcgen.base.util.DoubleKeyMapToList;
@@ -122,6 +124,8 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 	private final TodoManager todoManager;
 	private final CharacterFacadeImpl pcFacade;
 	private final InfoFactory infoFactory;
+	/** Identifies the most recent request to rebuild the spell lists. */
+	private final AtomicInteger refreshGeneration = new AtomicInteger();
 
 	/**
 	 * Create a new instance of SpellSupportFacadeImpl to manage the display and update of a 
@@ -568,8 +572,31 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 		}
 	}
 
+	/**
+	 * Requests that the available and known spell lists be rebuilt. On the
+	 * event dispatch thread the rebuild is deferred until the current event
+	 * has been processed, so the several refresh requests made by one change
+	 * (e.g. adding a number of levels) result in a single rebuild. A pending
+	 * rebuild is dropped when a newer request supersedes it.
+	 */
 	@Override
 	public void refreshAvailableKnownSpells()
+	{
+		int generation = refreshGeneration.incrementAndGet();
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			rebuildSpellNodes();
+			return;
+		}
+		SwingUtilities.invokeLater(() -> {
+			if (generation == refreshGeneration.get())
+			{
+				rebuildSpellNodes();
+			}
+		});
+	}
+
+	private void rebuildSpellNodes()
 	{
 		buildAvailableNodes();
 		buildKnownPreparedNodes();
@@ -713,11 +740,13 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 	}
 
 	/**
-	 * Construct the list of available spells for the character. 
+	 * Construct the list of available spells for the character. The list is
+	 * built aside and then swapped in as a single change, so the views are
+	 * rebuilt once rather than once per spell.
 	 */
 	private void buildAvailableNodes()
 	{
-		availableSpellNodes.clearContents();
+		List<SpellNode> availableNodes = new ArrayList<>();
 		// Scan character classes for spell classes
 		List<PCClass> classList = getCharactersSpellcastingClasses();
 
@@ -725,7 +754,7 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 		for (PCClass pcClass : classList)
 		{
 			DoubleKeyMapToList<SpellFacade, String, SpellNode> existingSpells =
-					buildExistingSpellMap(availableSpellNodes, pcClass);
+					buildExistingSpellMap(availableNodes, pcClass);
 
 			for (Spell spell : pc.getAllSpellsInLists(charDisplay.getSpellLists(pcClass)))
 			{
@@ -746,13 +775,14 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 							if (!existingSpells.containsInList(spellImplem, node.getSpellLevel(), node))
 							{
 								// Add to list
-								availableSpellNodes.addElement(node);
+								availableNodes.add(node);
 							}
 						}
 					}
 				}
 			}
 		}
+		availableSpellNodes.setContents(availableNodes);
 	}
 
 	/**
@@ -765,7 +795,7 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 	 * @return A double map to the class' spells from the list. 
 	 */
 	private DoubleKeyMapToList<SpellFacade, String, SpellNode> buildExistingSpellMap(
-		DefaultListFacade<SpellNode> spellNodeList, PCClass pcClass)
+		Collection<SpellNode> spellNodeList, PCClass pcClass)
 	{
 		DoubleKeyMapToList<SpellFacade, String, SpellNode> spellMap = new DoubleKeyMapToList<>();
 
@@ -786,10 +816,7 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 	 */
 	private void buildKnownPreparedNodes()
 	{
-		allKnownSpellNodes.clearContents();
-		knownSpellNodes.clearContents();
-		bookSpellNodes.clearContents();
-		preparedSpellNodes.clearContents();
+		KnownPreparedSnapshot snapshot = new KnownPreparedSnapshot();
 
 		// Ensure spell information is up to date
 		pc.getSpellList();
@@ -804,8 +831,9 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 		// Look at each spell on each spellcasting class
 		for (PObject pcClass : pobjList)
 		{
-			buildKnownPreparedSpellsForCDOMObject(pcClass);
+			buildKnownPreparedSpellsForCDOMObject(pcClass, snapshot);
 		}
+		snapshot.publish();
 
 		spellBooks.clear();
 		spellBookNames.clearContents();
@@ -827,7 +855,7 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 		}
 	}
 
-	private void buildKnownPreparedSpellsForCDOMObject(CDOMObject pObject)
+	private void buildKnownPreparedSpellsForCDOMObject(CDOMObject pObject, KnownPreparedSnapshot snapshot)
 	{
 		Collection<? extends CharacterSpell> sp = charDisplay.getCharacterSpells(pObject);
 		List<CharacterSpell> cSpells = new ArrayList<>(sp);
@@ -863,20 +891,20 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 				// Add to list
 				if (isKnown)
 				{
-					allKnownSpellNodes.addElement(node);
-					knownSpellNodes.addElement(node);
+					snapshot.allKnown.add(node);
+					snapshot.known.add(node);
 				}
 				else if (isSpellBook)
 				{
-					bookSpellNodes.addElement(node);
+					snapshot.book.add(node);
 				}
 				else if (pObject instanceof Race)
 				{
-					allKnownSpellNodes.addElement(node);
+					snapshot.allKnown.add(node);
 				}
 				else
 				{
-					preparedSpellNodes.addElement(node);
+					snapshot.prepared.add(node);
 				}
 			}
 		}
@@ -1535,4 +1563,25 @@ public class SpellSupportFacadeImpl implements SpellSupportFacade, EquipmentList
 		}
 
 	}
+
+	/**
+	 * The known, prepared and spell book nodes built for the character. The
+	 * nodes are gathered here and then published to the character's lists in
+	 * one step, replacing the previous contents.
+	 */
+	private final class KnownPreparedSnapshot
+	{
+		private final List<SpellNode> allKnown = new ArrayList<>();
+		private final List<SpellNode> known = new ArrayList<>();
+		private final List<SpellNode> book = new ArrayList<>();
+		private final List<SpellNode> prepared = new ArrayList<>();
+
+		private void publish()
+		{
+			allKnownSpellNodes.setContents(allKnown);
+			knownSpellNodes.setContents(known);
+			bookSpellNodes.setContents(book);
+			preparedSpellNodes.setContents(prepared);
+		}
+	}
 }
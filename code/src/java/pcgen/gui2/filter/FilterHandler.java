@@ -23,6 +23,27 @@ public interface FilterHandler
 
 	public void refilter();
 
+	/**
+	 * Refilter after only the search text has changed, and has only become
+	 * more restrictive by being extended. Only the elements which passed the
+	 * previous filter need to be tested again, unless something else may have
+	 * changed since, in which case a full refilter is done.
+	 */
+	public default void narrowFilter()
+	{
+		refilter();
+	}
+
+	/**
+	 * Returns the index of the search text of the elements being filtered.
+	 * 
+	 * @return The SearchIndex of the filtered list, or null if it has none
+	 */
+	public default SearchIndex getSearchIndex()
+	{
+		return null;
+	}
+
 	public void setSearchEnabled(boolean enable);
 
 	/**
@@ -21,6 +21,7 @@ package pcgen.gui2.filter;
 import java.util.ArrayList;
 import java.util.List;
 
+import pcgen.facade.core.CharacterFacade;
 import pcgen.facade.util.AbstractListFacade;
 import pcgen.facade.util.ListFacade;
 import pcgen.facade.util.event.ListEvent;
@@ -33,6 +34,18 @@ public class FilteredListFacade<C, E> extends AbstractListFacade<E> implements L
 	private ListFacade<E> delegate = null;
 	private Filter<? super C, ? super E> filter = null;
 	private C context = null;
+	private final SearchIndex searchIndex = new SearchIndex();
+
+	/**
+	 * True if the contents are the result of filtering the delegate with the
+	 * current filter and context, so that they may be narrowed.
+	 */
+	private boolean filtered = false;
+
+	/**
+	 * The serial of the character context when the contents were filtered.
+	 */
+	private int filteredSerial;
 
 	@Override
 	public E getElementAt(int index)
@@ -78,9 +91,18 @@ public class FilteredListFacade<C, E> extends AbstractListFacade<E> implements L
 		{
 			list.addListListener(this);
 		}
+		searchIndex.clear();
 		refilter();
 	}
 
+	/**
+	 * @return The index of the search text of the elements of the delegate
+	 */
+	public SearchIndex getSearchIndex()
+	{
+		return searchIndex;
+	}
+
 	public void refilter()
 	{
 		data.clear();
@@ -96,9 +118,35 @@ public class FilteredListFacade<C, E> extends AbstractListFacade<E> implements L
 			}
 			data.addAll(list);
 		}
+		filtered = true;
+		filteredSerial = getSerial(context);
 		fireElementsChanged(this);
 	}
 
+	/**
+	 * Refilter only the elements currently accepted. This is only valid when
+	 * the filter has become more restrictive since the last refilter, and
+	 * avoids testing the whole delegate again. If the contents were not
+	 * filtered with the current filter and context, or the character being
+	 * filtered for has changed since, so that other parts of the filter may
+	 * now accept elements they rejected before, a full refilter is done.
+	 */
+	public void narrow()
+	{
+		if (!filtered || filteredSerial != getSerial(context))
+		{
+			refilter();
+			return;
+		}
+		data.removeIf(element -> filter != null && !filter.accept(context, element));
+		fireElementsChanged(this);
+	}
+
+	static int getSerial(Object context)
+	{
+		return (context instanceof CharacterFacade character) ? character.getSerial() : 0;
+	}
+
 	@Override
 	public void elementAdded(ListEvent<E> e)
 	{
@@ -113,6 +161,7 @@ public class FilteredListFacade<C, E> extends AbstractListFacade<E> implements L
 	@Override
 	public void elementRemoved(ListEvent<E> e)
 	{
+		searchIndex.invalidate(e.getElement());
 		int index = data.indexOf(e.getElement());
 		data.remove(e.getElement());
 		fireElementRemoved(this, e.getElement(), index);
@@ -121,12 +170,14 @@ public class FilteredListFacade<C, E> extends AbstractListFacade<E> implements L
 	@Override
 	public void elementsChanged(ListEvent<E> e)
 	{
+		searchIndex.clear();
 		refilter();
 	}
 
 	@Override
 	public void elementModified(ListEvent<E> e)
 	{
+		searchIndex.invalidate(e.getElement());
 		if (data.contains(e.getElement()))
 		{
 			if (filter != null && !filter.accept(context, e.getElement()))
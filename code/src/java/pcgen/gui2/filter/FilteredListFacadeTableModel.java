@@ -68,6 +68,16 @@ public abstract class FilteredListFacadeTableModel<E> extends AbstractTableModel
 		filteredList.refilter();
 	}
 
+	public void narrow()
+	{
+		filteredList.narrow();
+	}
+
+	public SearchIndex getSearchIndex()
+	{
+		return filteredList.getSearchIndex();
+	}
+
 	@Override
 	public int getRowCount()
 	{
@@ -37,6 +37,18 @@ public class FilteredTreeViewModel<C, E> implements TreeViewModel<E>, ListListen
 	private Filter<C, E> filter;
 	private TreeViewModel<E> model;
 	private C context;
+	private final SearchIndex searchIndex = new SearchIndex();
+
+	/**
+	 * True if the contents are the result of filtering the base model with the
+	 * current filter and context, so that they may be narrowed.
+	 */
+	private boolean filtered = false;
+
+	/**
+	 * The serial of the character context when the contents were filtered.
+	 */
+	private int filteredSerial;
 
 	@Override
 	public ListFacade<? extends TreeView<E>> getTreeViews()
@@ -69,6 +81,8 @@ public class FilteredTreeViewModel<C, E> implements TreeViewModel<E>, ListListen
 			this.model.getDataModel().removeListListener(this);
 		}
 		this.model = model;
+		searchIndex.clear();
+		filtered = false;
 		if (this.model != null)
 		{
 			this.model.getDataModel().addListListener(this);
@@ -76,9 +90,18 @@ public class FilteredTreeViewModel<C, E> implements TreeViewModel<E>, ListListen
 		}
 	}
 
+	/**
+	 * @return The index of the search text of the elements of the base model
+	 */
+	public SearchIndex getSearchIndex()
+	{
+		return searchIndex;
+	}
+
 	public void setContext(C context)
 	{
 		this.context = context;
+		filtered = false;
 		if (filter != null)
 		{
 			refilter();
@@ -88,6 +111,7 @@ public class FilteredTreeViewModel<C, E> implements TreeViewModel<E>, ListListen
 	public void setFilter(Filter<C, E> filter)
 	{
 		this.filter = filter;
+		filtered = false;
 		filterCheck();
 	}
 
@@ -101,16 +125,38 @@ public class FilteredTreeViewModel<C, E> implements TreeViewModel<E>, ListListen
 
 	public void refilter()
 	{
-		ListFacade<E> base = model.getDataModel();
-		List<E> list = new ArrayList<>(base.getSize());
-		for (E element : base)
+		data.updateContents(filterElements(model.getDataModel()));
+		filtered = true;
+		filteredSerial = FilteredListFacade.getSerial(context);
+	}
+
+	/**
+	 * Refilter only the elements currently accepted. This is only valid when
+	 * the filter has become more restrictive since the last refilter. If the
+	 * contents were not filtered with the current filter and context, or the
+	 * character being filtered for has changed since, a full refilter is done.
+	 */
+	public void narrow()
+	{
+		if (!filtered || filteredSerial != FilteredListFacade.getSerial(context))
+		{
+			refilter();
+			return;
+		}
+		data.updateContents(filterElements(data));
+	}
+
+	private List<E> filterElements(ListFacade<E> source)
+	{
+		List<E> list = new ArrayList<>(source.getSize());
+		for (E element : source)
 		{
 			if (filter == null || filter.accept(context, element))
 			{
 				list.add(element);
 			}
 		}
-		data.updateContents(list);
+		return list;
 	}
 
 	@Override
@@ -125,18 +171,21 @@ public class FilteredTreeViewModel<C, E> implements TreeViewModel<E>, ListListen
 	@Override
 	public void elementRemoved(ListEvent<E> e)
 	{
+		searchIndex.invalidate(e.getElement());
 		data.removeElement(e.getElement());
 	}
 
 	@Override
 	public void elementsChanged(ListEvent<E> e)
 	{
+		searchIndex.clear();
 		refilter();
 	}
 
 	@Override
 	public void elementModified(ListEvent<E> e)
 	{
+		searchIndex.invalidate(e.getElement());
 		if (!filter.accept(context, e.getElement()))
 		{
 			data.removeElement(e.getElement());
@@ -80,6 +80,19 @@ public class FilteredTreeViewTable<C, E> extends JTreeViewTable<E> implements Fi
 		updateDisplay();
 	}
 
+	@Override
+	public void narrowFilter()
+	{
+		filteredModel.narrow();
+		updateDisplay();
+	}
+
+	@Override
+	public SearchIndex getSearchIndex()
+	{
+		return (filteredModel == null) ? null : filteredModel.getSearchIndex();
+	}
+
 	@Override
 	public void scrollToTop()
 	{
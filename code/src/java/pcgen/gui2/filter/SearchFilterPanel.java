@@ -30,15 +30,9 @@ import javax.swing.JTextField;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 
-import pcgen.cdom.enumeration.ListKey;
-import pcgen.cdom.enumeration.StringKey;
-import pcgen.core.Campaign;
-import pcgen.facade.core.InfoFacade;
 import pcgen.gui2.tools.Icons;
 import pcgen.system.LanguageBundle;
 
-import org.apache.commons.lang3.Strings;
-
 /**
  * A text search filtering bar including the title, the text field and a clear 
  * button. When text is typed into the field the table contents will be 
@@ -53,6 +47,7 @@ public class SearchFilterPanel extends JPanel
 	private FilterHandler filterHandler;
 	private final JTextField searchField = new JTextField();
 	private final JButton clearButton = new JButton(Icons.CloseX9.getImageIcon());
+	private String searchText = ""; //$NON-NLS-1$
 
 	public SearchFilterPanel()
 	{
@@ -84,30 +79,31 @@ public class SearchFilterPanel extends JPanel
 
 	private void refreshFilter()
 	{
-		String text = searchField.getText();
-		filterHandler.setSearchEnabled(text != null && !text.isEmpty());
-		filterHandler.refilter();
+		String oldText = searchText;
+		searchText = SearchIndex.normalize(searchField.getText());
+		filterHandler.setSearchEnabled(!searchText.isEmpty());
+		if (!oldText.isEmpty() && searchText.contains(oldText))
+		{
+			// Anything matching the new text also matched the old text
+			filterHandler.narrowFilter();
+		}
+		else
+		{
+			filterHandler.refilter();
+		}
 		filterHandler.scrollToTop();
 	}
 
 	@Override
 	public boolean accept(Object context, Object element)
 	{
-		String typeStr = ""; //$NON-NLS-1$
-		String abbStr = ""; //$NON-NLS-1$
-		if (element instanceof InfoFacade)
-		{
-			typeStr = ((InfoFacade) element).getType();
-		}
-		else if (element instanceof Campaign)
+		if (searchText.isEmpty())
 		{
-			typeStr = ((Campaign) element).getListAsString(ListKey.BOOK_TYPE);
-			abbStr = ((Campaign) element).get(StringKey.SOURCE_SHORT);
+			return true;
 		}
-		final String searchText = searchField.getText();
-		return Strings.CI.contains(element.toString(), searchText)
-			|| Strings.CI.contains(typeStr, searchText)
-			|| Strings.CI.contains(abbStr, searchText);
+		SearchIndex index = (filterHandler == null) ? null : filterHandler.getSearchIndex();
+		String text = (index == null) ? SearchIndex.buildSearchText(element) : index.getSearchText(element);
+		return text.contains(searchText);
 	}
 
 	@Override
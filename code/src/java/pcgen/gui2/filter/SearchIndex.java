@@ -0,0 +1,121 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ * 
+ */
+package pcgen.gui2.filter;
+
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.StringKey;
+import pcgen.core.Campaign;
+import pcgen.facade.core.InfoFacade;
+
+/**
+ * SearchIndex holds the normalized text that the search filter matches
+ * against for each element (its name, type and source abbreviation). The
+ * text is built the first time an element is searched and then reused for
+ * every later keystroke, so a search does not rebuild the type and name
+ * strings of every element in the list.
+ * 
+ * Each filtered list owns the index of its own elements, and clears it when
+ * its contents are replaced. Elements are held by identity, as the equality
+ * of some elements (e.g. Equipment) changes when they are modified. Like the
+ * lists which own it, an index is only used on the event thread.
+ */
+public final class SearchIndex
+{
+
+	/**
+	 * Separates the individual fields of the indexed text so that a search
+	 * cannot match across the end of one field and the start of another.
+	 */
+	private static final char FIELD_SEPARATOR = '\n';
+
+	private final Map<Object, String> index = new IdentityHashMap<>();
+
+	/**
+	 * Returns the normalized search text for the given element, building it
+	 * if it is not already in the index.
+	 * 
+	 * @param element The element for which the search text should be returned
+	 * @return The lower case search text of the given element
+	 */
+	public String getSearchText(Object element)
+	{
+		return index.computeIfAbsent(element, SearchIndex::buildSearchText);
+	}
+
+	/**
+	 * Removes the given element from the index. This must be called when the
+	 * name or type of an element may have changed.
+	 * 
+	 * @param element The element to be removed from the index
+	 */
+	public void invalidate(Object element)
+	{
+		index.remove(element);
+	}
+
+	/**
+	 * Removes all elements from the index. This must be called when the
+	 * contents of the list which owns the index are replaced.
+	 */
+	public void clear()
+	{
+		index.clear();
+	}
+
+	/**
+	 * Normalizes text entered by the user so it can be matched against the
+	 * text returned by getSearchText.
+	 * 
+	 * @param text The text to be normalized
+	 * @return The normalized text, never null
+	 */
+	public static String normalize(String text)
+	{
+		return (text == null) ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Builds the normalized search text for the given element, for use where
+	 * no index is available.
+	 * 
+	 * @param element The element for which the search text should be built
+	 * @return The lower case search text of the given element
+	 */
+	public static String buildSearchText(Object element)
+	{
+		String typeStr = ""; //$NON-NLS-1$
+		String abbStr = ""; //$NON-NLS-1$
+		if (element instanceof InfoFacade info)
+		{
+			typeStr = info.getType();
+		}
+		else if (element instanceof Campaign campaign)
+		{
+			typeStr = campaign.getListAsString(ListKey.BOOK_TYPE);
+			abbStr = campaign.get(StringKey.SOURCE_SHORT);
+		}
+		StringBuilder sb = new StringBuilder(64);
+		sb.append(normalize(String.valueOf(element)));
+		sb.append(FIELD_SEPARATOR).append(normalize(typeStr));
+		sb.append(FIELD_SEPARATOR).append(normalize(abbStr));
+		return sb.toString();
+	}
+}
@@ -414,6 +414,11 @@ public class AbilityChooserTab extends FlippingSplitPane implements StateEditabl
 					{
 						text = character.getInfoFactory().getHTMLInfo((AbilityFacade) data);
 						infoPane.setText(text);
+						if (e.getSource() == availableTreeViewPanel.getSelectionModel())
+						{
+							character.getInfoFactory()
+								.prefetchHTMLInfo(availableTreeViewPanel.getObjectsNearSelection());
+						}
 					}
 					if (data instanceof AbilityCategory)
 					{
@@ -179,8 +179,10 @@ public class CharacterSheetInfoTab extends FlippingSplitPane implements Characte
 	@Override
 	public void tabSelected()
 	{
-		// Refresh the character sheet as we have been displayed.
-		csheet.refresh();
+		// Refresh the character sheet as we have been displayed. The preferences
+		// and output settings may have changed while we were hidden, which the
+		// character's serial does not track.
+		csheet.refresh(true);
 	}
 
 	private final class BoxHandler
@@ -266,7 +268,7 @@ public class CharacterSheetInfoTab extends FlippingSplitPane implements Characte
 			GuiAssertions.assertIsJavaFXThread();
 			File outputSheet = sheetBox.getSelectionModel().getSelectedItem();
 			csheet.setCharacterSheet(outputSheet);
-			csheet.refresh();
+			csheet.refresh(true);
 			if (outputSheet!=null)
 			{
 				character.setPreviewSheet(outputSheet.getName());
@@ -415,7 +417,7 @@ public class CharacterSheetInfoTab extends FlippingSplitPane implements Characte
 		{
 			TempBonusFacade bonus = sortedList.getElementAt(rowIndex);
 			character.setTempBonusActive(bonus, aValue == Boolean.TRUE);
-			csheet.refresh();
+			csheet.refresh(true);
 		}
 
 		@Override
@@ -497,7 +499,7 @@ public class CharacterSheetInfoTab extends FlippingSplitPane implements Characte
 		{
 			EquipmentSetFacade eqset = sortedList.getElementAt(rowIndex);
 			character.setEquipmentSet(eqset);
-			csheet.refresh();
+			csheet.refresh(true);
 		}
 
 		@Override
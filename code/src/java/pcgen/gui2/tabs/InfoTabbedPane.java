@@ -297,6 +297,15 @@ public final class InfoTabbedPane extends JTabbedPane implements CharacterSelect
 		handleDisplayAware();
 	}
 
+	/**
+	 * Tells the displayed tab it has been displayed again, so that it picks up
+	 * preferences which have changed while it was displayed.
+	 */
+	public void preferencesChanged()
+	{
+		handleDisplayAware();
+	}
+
 	public void characterRemoved(CharacterFacade character)
 	{
 		stateMap.removeAll(character);
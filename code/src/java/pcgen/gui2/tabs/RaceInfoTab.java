@@ -240,6 +240,10 @@ public final class RaceInfoTab extends FlippingSplitPane implements CharacterInf
 				{
 					text = character.getInfoFactory().getHTMLInfo((Race) obj);
 					infoPane.setText(text);
+					if (e.getSource() == raceTable.getSelectionModel())
+					{
+						character.getInfoFactory().prefetchHTMLInfo(raceTable.getObjectsNearSelection());
+					}
 				}
 				else
 				{
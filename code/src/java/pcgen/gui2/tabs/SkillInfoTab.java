@@ -646,6 +646,7 @@ public class SkillInfoTab extends FlippingSplitPane implements CharacterInfoTab,
 
 		private final CharacterFacade character;
 		private String text;
+		private Object prefetched;
 
 		InfoHandler(CharacterFacade character)
 		{
@@ -673,6 +674,13 @@ public class SkillInfoTab extends FlippingSplitPane implements CharacterInfoTab,
 				if (data != null && data instanceof Skill)
 				{
 					text = character.getInfoFactory().getHTMLInfo((Skill) data);
+					// Only prefetch when the user moves to another skill, not when
+					// the table reselects the same row as its model is refreshed
+					if (e.getSource() == skillTable.getSelectionModel() && data != prefetched)
+					{
+						prefetched = data;
+						character.getInfoFactory().prefetchHTMLInfo(skillTable.getObjectsNearSelection());
+					}
 				}
 				else
 				{
@@ -227,6 +227,10 @@ public class TemplateInfoTab extends FlippingSplitPane implements CharacterInfoT
 				{
 					text = character.getInfoFactory().getHTMLInfo((PCTemplate) obj);
 					infoPane.setText(text);
+					if (e.getSource() == availableTable.getSelectionModel())
+					{
+						character.getInfoFactory().prefetchHTMLInfo(availableTable.getObjectsNearSelection());
+					}
 				}
 			}
 		}
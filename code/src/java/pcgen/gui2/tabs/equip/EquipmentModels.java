@@ -60,6 +60,7 @@ import pcgen.facade.util.event.ReferenceListener;
 import pcgen.gui2.facade.EquipNode;
 import pcgen.gui2.filter.DisplayableFilter;
 import pcgen.gui2.filter.FilterHandler;
+import pcgen.gui2.filter.SearchIndex;
 import pcgen.gui2.tools.Icons;
 import pcgen.gui2.util.JTableEx;
 import pcgen.gui2.util.JTreeTable;
@@ -230,6 +231,18 @@ public class EquipmentModels
 			selectedModel.refilter();
 		}
 
+		@Override
+		public void narrowFilter()
+		{
+			selectedModel.narrow();
+		}
+
+		@Override
+		public SearchIndex getSearchIndex()
+		{
+			return selectedModel.getSearchIndex();
+		}
+
 		@Override
 		public void setSearchEnabled(boolean enable)
 		{
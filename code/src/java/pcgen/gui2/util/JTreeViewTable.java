@@ -275,6 +275,36 @@ public class JTreeViewTable<T> extends JTreeTable
 		return null;
 	}
 
+	/**
+	 * Returns the objects in the rows immediately above and below the
+	 * selected row, nearest first. This is intended for building information
+	 * about the rows the user is likely to select next.
+	 *
+	 * @return The neighbouring objects, empty if there is no selection.
+	 */
+	public List<Object> getObjectsNearSelection()
+	{
+		final int distance = 2;
+		int selectedRow = getSelectedRow();
+		if (selectedRow == -1)
+		{
+			return Collections.emptyList();
+		}
+		List<Object> neighbours = new ArrayList<>(distance * 2);
+		for (int i = 1; i <= distance; i++)
+		{
+			if (selectedRow + i < getRowCount())
+			{
+				neighbours.add(getModel().getValueAt(selectedRow + i, 0));
+			}
+			if (selectedRow - i >= 0)
+			{
+				neighbours.add(getModel().getValueAt(selectedRow - i, 0));
+			}
+		}
+		return neighbours;
+	}
+
 	public void refreshModelData()
 	{
 		if (treetableModel != null)
@@ -45,7 +45,8 @@ public class StatusWorker extends SwingWorker<List<LogRecord>, List<LogRecord>>
 	private final PCGenTask task;
 	private final PCGenStatusBar statusBar;
 	private boolean dirty = false;
-	private final List<LogRecord> errors = new ArrayList<>();
+	// Errors may be reported by the load diagnostics thread as well as the task
+	private final List<LogRecord> errors = Collections.synchronizedList(new ArrayList<>());
 
 	/**
 	 * @param statusMsg - text to display in status bar
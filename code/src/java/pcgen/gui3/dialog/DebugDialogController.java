@@ -34,16 +34,18 @@ import java.util.logging.LogRecord;
 
 import pcgen.system.LoggingRecorder;
 import pcgen.util.Logging;
+import pcgen.util.Metrics;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextArea;
 
 /**
- * A dialog that shows logs and memory usage.
+ * A dialog that shows logs, memory usage and the metrics recorded by {@link Metrics}.
  * Over time we could add more debug and troubleshooting information into the pane.
  */
 public class DebugDialogController
@@ -66,6 +68,10 @@ public class DebugDialogController
 	private final ObservableList<Map<String, String>> memoryTableData = FXCollections.observableArrayList();
 	@FXML
 	private TextArea logText;
+	@FXML
+	private TextArea metricsText;
+	@FXML
+	private CheckBox metricsEnabled;
 
 	private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
@@ -84,6 +90,8 @@ public class DebugDialogController
 		setMemoryTableData();
 		logText.setText(LoggingRecorder.getLogs());
 		Logging.registerHandler(new LogHandler());
+		metricsEnabled.setSelected(Metrics.isEnabled());
+		metricsText.setText(Metrics.getReport());
 	}
 
 	private void setMemoryTableData()
@@ -149,6 +157,26 @@ public class DebugDialogController
 		logText.setText(LoggingRecorder.getLogs());
 	}
 
+	@FXML
+	private void toggleMetrics(final ActionEvent actionEvent)
+	{
+		Metrics.setEnabled(metricsEnabled.isSelected());
+		metricsText.setText(Metrics.getReport());
+	}
+
+	@FXML
+	private void refreshMetrics(final ActionEvent actionEvent)
+	{
+		metricsText.setText(Metrics.getReport());
+	}
+
+	@FXML
+	private void resetMetrics(final ActionEvent actionEvent)
+	{
+		Metrics.reset();
+		metricsText.setText(Metrics.getReport());
+	}
+
 	void initTimer()
 	{
 		scheduler.scheduleAtFixedRate(this::setMemoryTableData, 0, 30, TimeUnit.SECONDS);
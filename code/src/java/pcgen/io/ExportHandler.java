@@ -78,6 +78,7 @@ import pcgen.io.exporttoken.WeaponhToken;
 import pcgen.system.PluginLoader;
 import pcgen.util.Delta;
 import pcgen.util.Logging;
+import pcgen.util.Metrics;
 import pcgen.util.enumeration.View;
 
 /**
@@ -154,6 +155,9 @@ public abstract class ExportHandler
 	/** TODO What is this used for? */
 	private boolean checkBefore;
 
+	/** The values of output tokens already written during the current export */
+	private ExportTokenMemo tokenMemo;
+
 
 	/**
 	 * Constructor.  Populates the token map (a list of possible output tokens) and
@@ -1648,11 +1652,11 @@ public abstract class ExportHandler
 				}
 				else if (token.isEncoded())
 				{
-					FileAccess.encodeWrite(output, token.getToken(tokenString, aPC, this));
+					FileAccess.encodeWrite(output, getTokenValue(token, tokenString, aPC));
 				}
 				else
 				{
-					FileAccess.write(output, token.getToken(tokenString, aPC, this));
+					FileAccess.write(output, getTokenValue(token, tokenString, aPC));
 				}
 			}
 			// Default case
@@ -1684,6 +1688,71 @@ public abstract class ExportHandler
 		}
 	}
 
+	/**
+	 * Get the value of an output token, reusing the value from earlier in the
+	 * export if the token allows it and the character has not changed since.
+	 * A value is only remembered when the token left the state of the export
+	 * alone, as a remembered value cannot repeat such changes.
+	 *
+	 * @param token The token to be evaluated
+	 * @param tokenString The full source of the token e.g. SKILL.0.MISC
+	 * @param aPC The PC currently being exported
+	 * @return The value of the token
+	 */
+	private String getTokenValue(Token token, String tokenString, PlayerCharacter aPC)
+	{
+		long start = Metrics.start();
+		try
+		{
+			return evaluateToken(token, tokenString, aPC);
+		}
+		finally
+		{
+			Metrics.stop(Metrics.Category.EXPORT_TOKEN, token.getTokenName(), start);
+		}
+	}
+
+	private String evaluateToken(Token token, String tokenString, PlayerCharacter aPC)
+	{
+		if ((tokenMemo == null) || !token.isCacheable() || existsOnly || checkBefore)
+		{
+			return token.getToken(tokenString, aPC, this);
+		}
+		int serial = aPC.getSerial();
+		String value = tokenMemo.get(aPC, serial, token.getTokenName(), tokenString);
+		if (value == null)
+		{
+			boolean wasClean = !noMoreItems && canWrite;
+			value = token.getToken(tokenString, aPC, this);
+			if (wasClean && !noMoreItems && canWrite && (value != null))
+			{
+				tokenMemo.put(aPC, serial, tokenString, value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Start remembering the values of output tokens, so that those which are
+	 * used more than once in the sheet are only calculated once.
+	 */
+	protected void startTokenMemo()
+	{
+		tokenMemo = new ExportTokenMemo();
+	}
+
+	/**
+	 * Stop remembering the values of output tokens, at the end of the export.
+	 */
+	protected void finishTokenMemo()
+	{
+		if ((tokenMemo != null) && Logging.isDebugMode())
+		{
+			Logging.debugPrint(tokenMemo.getStatistics());
+		}
+		tokenMemo = null;
+	}
+
 	/**
 	 * Helper method to determine if a line of text needs replacing or not
 	 *
@@ -2979,7 +3048,7 @@ public abstract class ExportHandler
 		// Set an output filter based on the type of template in use.
 		FileAccess.setCurrentOutputFilter(templateFile.getName());
 
-
+		startTokenMemo();
 		try (BufferedReader br = Files.newBufferedReader(templateFile.toPath(), StandardCharsets.UTF_8))
 		{
 			boolean betweenPipes = false;
@@ -3060,6 +3129,10 @@ public abstract class ExportHandler
 		{
 			Logging.errorPrint("Error in ExportHandler::write", exc);
 		}
+		finally
+		{
+			finishTokenMemo();
+		}
 	}
 
 	/**
@@ -0,0 +1,134 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.io;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The Class {@code ExportTokenMemo} remembers the values of output tokens
+ * written during a single export, so that a token which appears many times on
+ * a sheet (e.g. once per pass of a FOR loop, or in both the summary and the
+ * detail sections) is only calculated once.
+ * <p>
+ * Values are held separately for each character, and those for a character
+ * are discarded as soon as its serial changes, so a value is never reused
+ * once the character has been altered. The number of hits and misses is kept
+ * for each token name to show how effective the memo was.
+ */
+final class ExportTokenMemo
+{
+	private final Map<Object, CharacterValues> valuesByCharacter = new IdentityHashMap<>();
+	private final Map<String, int[]> countsByToken = new TreeMap<>();
+
+	/**
+	 * Retrieve the remembered value of a token.
+	 *
+	 * @param character The character being exported.
+	 * @param serial The current serial of the character.
+	 * @param tokenName The name of the token, used to count hits and misses.
+	 * @param tokenSource The full source of the token e.g. SKILL.0.MISC
+	 * @return The remembered value, or null if the token must be calculated.
+	 */
+	String get(Object character, int serial, String tokenName, String tokenSource)
+	{
+		CharacterValues values = valuesByCharacter.get(character);
+		String value = null;
+		if (values != null)
+		{
+			if (values.serial == serial)
+			{
+				value = values.values.get(tokenSource);
+			}
+			else
+			{
+				valuesByCharacter.remove(character);
+			}
+		}
+		int[] counts = countsByToken.computeIfAbsent(tokenName, k -> new int[2]);
+		counts[(value == null) ? 1 : 0]++;
+		return value;
+	}
+
+	/**
+	 * Remember the value of a token.
+	 *
+	 * @param character The character being exported.
+	 * @param serial The serial of the character when the value was calculated.
+	 * @param tokenSource The full source of the token e.g. SKILL.0.MISC
+	 * @param value The value of the token.
+	 */
+	void put(Object character, int serial, String tokenSource, String value)
+	{
+		CharacterValues values = valuesByCharacter.get(character);
+		if ((values == null) || (values.serial != serial))
+		{
+			values = new CharacterValues(serial);
+			valuesByCharacter.put(character, values);
+		}
+		values.values.put(tokenSource, value);
+	}
+
+	/**
+	 * @param tokenName The name of the token.
+	 * @return The number of times a remembered value of the token was used.
+	 */
+	int getHits(String tokenName)
+	{
+		int[] counts = countsByToken.get(tokenName);
+		return (counts == null) ? 0 : counts[0];
+	}
+
+	/**
+	 * @param tokenName The name of the token.
+	 * @return The number of times the token had to be calculated.
+	 */
+	int getMisses(String tokenName)
+	{
+		int[] counts = countsByToken.get(tokenName);
+		return (counts == null) ? 0 : counts[1];
+	}
+
+	/**
+	 * @return A description of the hit rate of each token, for logging.
+	 */
+	String getStatistics()
+	{
+		StringBuilder sb = new StringBuilder("Export token memo:");
+		countsByToken.forEach((tokenName, counts) -> {
+			int total = counts[0] + counts[1];
+			sb.append(' ').append(tokenName).append(' ').append(counts[0]).append('/').append(total)
+				.append(" (").append((100 * counts[0]) / total).append("%)");
+		});
+		return sb.toString();
+	}
+
+	/**
+	 * The values remembered for one character, valid while it has the serial.
+	 */
+	private static final class CharacterValues
+	{
+		private final int serial;
+		private final Map<String, String> values = new HashMap<>();
+
+		private CharacterValues(int serial)
+		{
+			this.serial = serial;
+		}
+	}
+}
@@ -46,7 +46,15 @@ public class FreeMarkerExportHandler extends ExportHandler
 		}
 		FileAccess.setCurrentOutputFilter(getTemplateFile().getName().substring(0, getTemplateFile().getName().length() - 4));
 
-		exportCharacterUsingFreemarker(aPC, out);
+		startTokenMemo();
+		try
+		{
+			exportCharacterUsingFreemarker(aPC, out);
+		}
+		finally
+		{
+			finishTokenMemo();
+		}
 	}
 
 
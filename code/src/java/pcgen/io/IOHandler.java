@@ -25,6 +25,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 
 import pcgen.core.Campaign;
@@ -123,7 +125,8 @@ public abstract class IOHandler
 
 	/**
 	 * Create a backup of the specified file, but only if backups are enabled, 
-	 * the file exists and the file is not empty.
+	 * the file exists and the file is not empty. The backup is a copy, so the 
+	 * file itself is left in place until it is replaced.
 	 *  
 	 * @param outFile The file to be backed up.
 	 */
@@ -141,11 +144,15 @@ public abstract class IOHandler
 			final String BAK_PREFIX = ".bak"; //$NON-NLS-1$
 			File bakFile = new File(backupPcgPath, file + BAK_PREFIX);
 
-			if (bakFile.exists() && outFile.exists() && outFile.length() > 0)
+			try
 			{
-				bakFile.delete();
+				Files.copy(outFile.toPath(), bakFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.COPY_ATTRIBUTES);
+			}
+			catch (IOException e)
+			{
+				Logging.errorPrint("Could not back up " + outFile + " to " + bakFile, e);
 			}
-			outFile.renameTo(bakFile);
 		}
 	}
 
@@ -25,7 +25,6 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -34,12 +33,18 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import pcgen.cdom.base.Constants;
@@ -237,35 +242,155 @@ public final class PCGIOHandler extends IOHandler
     }
 
     /**
-     * Writes the contents of the given PlayerCharacter to a file. This method also includes
-     * safely backing up the original character file, but only once we know we have
-     * successfully exported the character to a string ready for writing. This means that if
-     * the save fails, the file system is untouched.
+     * Writes the contents of the given PlayerCharacter to a file. The character is
+     * first streamed to a temporary file in the same directory. Only once that has
+     * succeeded is the original character file copied to its backup and replaced by
+     * the temporary file in a single rename. If the character cannot be written the
+     * original file is untouched, and if it cannot be replaced the temporary file is
+     * kept so the new content is not lost.
      *
      * @param pcToBeWritten the PlayerCharacter to write
      * @param mode          The character's game mode.
      * @param campaigns     The character's sources.
      * @param outFile       The file to write the character to.
+     * @return true if the character was saved, false if the save failed.
      */
-    public void write(PlayerCharacter pcToBeWritten, GameMode mode, List<Campaign> campaigns, File outFile)
+    public boolean write(PlayerCharacter pcToBeWritten, GameMode mode, List<Campaign> campaigns, File outFile)
     {
-        final String pcgString;
-        pcgString = (new PCGVer2Creator(pcToBeWritten, mode, campaigns)).createPCGString();
+        PCGVer2Creator creator = new PCGVer2Creator(pcToBeWritten, mode, campaigns);
+        Path tempFile;
+        try
+        {
+            tempFile = writeTempFile(outFile, creator::writePCG);
+        } catch (IOException ioe)
+        {
+            Logging.errorPrint("Exception in PCGIOHandler::write", ioe);
+            return false;
+        }
 
-        // Do backup now that we have the character ready to save
+        // Do backup now that we have the character safely written out
         createBackupForFile(outFile);
 
-        // Now save the character
-
-        try (FileWriter fileWriter = new FileWriter(outFile, StandardCharsets.UTF_8);
-             Writer bw = new BufferedWriter(fileWriter))
+        try
         {
-            pcToBeWritten.setDirty(false);
-            bw.write(pcgString);
+            replaceFile(tempFile, outFile);
         } catch (IOException ioe)
         {
-            Logging.errorPrint("Exception in PCGIOHandler::write", ioe);
+            Logging.errorPrint("Exception in PCGIOHandler::write, the character has been kept in " + tempFile, ioe);
+            return false;
+        }
+        pcToBeWritten.setDirty(false);
+        return true;
+    }
+
+    /**
+     * Writes previously created PCG content to a file, by way of a temporary file
+     * which then replaces the target in a single rename. No backup is made. This
+     * does not access any character so may be called from any thread.
+     *
+     * @param pcgString The PCG content to be written.
+     * @param outFile   The file to write the content to.
+     * @throws IOException If the content could not be written.
+     */
+    public static void writeAtomically(String pcgString, File outFile) throws IOException
+    {
+        Path tempFile = writeTempFile(outFile, writer -> writer.write(pcgString));
+        try
+        {
+            replaceFile(tempFile, outFile);
+        } catch (IOException e)
+        {
+            // Nothing is lost by removing this copy, the caller still holds the content
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes content to a new file beside the given file. The new file is created
+     * with the default permissions, and then given those of the given file if it
+     * exists, so that replacing the file does not change who may read it.
+     */
+    private static Path writeTempFile(File outFile, PCGContent content) throws IOException
+    {
+        Path target = getTargetPath(outFile);
+        Path tempFile = createSiblingFile(target);
+        try
+        {
+            copyPermissions(target, tempFile);
+            try (Writer bw = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8))
+            {
+                content.writeTo(bw);
+            }
+        } catch (IOException | RuntimeException e)
+        {
+            Files.deleteIfExists(tempFile);
+            throw e;
         }
+        return tempFile;
+    }
+
+    /**
+     * Identifies the file to be replaced. If the file exists through a symbolic
+     * link, the file the link points to is replaced, leaving the link in place,
+     * as writing to the file in place would.
+     */
+    private static Path getTargetPath(File outFile) throws IOException
+    {
+        Path target = outFile.toPath().toAbsolutePath();
+        return Files.exists(target) ? target.toRealPath() : target;
+    }
+
+    private static Path createSiblingFile(Path target) throws IOException
+    {
+        String prefix = target.getFileName() + ".";
+        while (true)
+        {
+            Path tempFile = target.resolveSibling(
+                prefix + Long.toHexString(ThreadLocalRandom.current().nextLong() >>> 1) + ".tmp");
+            try
+            {
+                // Unlike Files.createTempFile, this honours the umask
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e)
+            {
+                // Try another name
+            }
+        }
+    }
+
+    private static void copyPermissions(Path from, Path to) throws IOException
+    {
+        if (Files.exists(from)
+            && Files.getFileStore(to).supportsFileAttributeView(PosixFileAttributeView.class))
+        {
+            Files.setPosixFilePermissions(to, Files.getPosixFilePermissions(from));
+        }
+    }
+
+    /**
+     * Moves the temporary file over the target. If the move fails the temporary
+     * file is left in place.
+     */
+    private static void replaceFile(Path tempFile, File outFile) throws IOException
+    {
+        Path target = getTargetPath(outFile);
+        try
+        {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes PCG content to a Writer.
+     */
+    @FunctionalInterface
+    private interface PCGContent
+    {
+        void writeTo(Writer writer) throws IOException;
     }
 
     /*
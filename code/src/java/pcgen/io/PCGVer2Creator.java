@@ -22,6 +22,9 @@ package pcgen.io;
 
 import java.awt.Rectangle;
 import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -34,6 +37,7 @@ import java.util.StringTokenizer;
 import java.util.TreeSet;
 
 import pcgen.base.lang.StringUtil;
+import pcgen.base.lang.UnreachableError;
 import pcgen.cdom.base.CDOMList;
 import pcgen.cdom.base.CDOMListObject;
 import pcgen.cdom.base.CDOMObject;
@@ -155,6 +159,29 @@ public final class PCGVer2Creator
 	public String createPCGString()
 	{
 		// Guess that this should be about 1000
+		StringWriter writer = new StringWriter(1000);
+		try
+		{
+			writePCG(writer);
+		}
+		catch (IOException e)
+		{
+			// A StringWriter does not throw IOException
+			throw new UnreachableError(e);
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Write the PCG representation of the PlayerCharacter to the given Writer.
+	 * Each section is written out as soon as it is complete, so the whole
+	 * character never needs to be held in memory.
+	 *
+	 * @param out The Writer the PCG data is to be written to.
+	 * @throws IOException If the data could not be written.
+	 */
+	public void writePCG(Writer out) throws IOException
+	{
 		StringBuilder buffer = new StringBuilder(1000);
 
 		appendPCGVersionLine(buffer);
@@ -174,6 +201,7 @@ public final class PCGVer2Creator
 		 * hmmm, better have
 		 * CAMPAIGNS:>campaign_name<|CAMPAIGNS:>campaign_name<|...
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("System Information", buffer); //$NON-NLS-1$
 
@@ -220,6 +248,7 @@ public final class PCGVer2Creator
 		 * INTERESTS:text
 		 * CATCHPHRASE:text
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Bio", buffer); //$NON-NLS-1$
 		appendCharacterNameLine(buffer);
@@ -260,6 +289,7 @@ public final class PCGVer2Creator
 		 * hmmm better have
 		 * STAT:STR|SCORE:18
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Attributes", buffer); //$NON-NLS-1$
 		appendStatLines(buffer);
@@ -280,6 +310,7 @@ public final class PCGVer2Creator
 		 * CLASS:Fighter|LEVEL:3|SKILLPOOL:0
 		 * CLASS:Wizard|LEVEL:1|SKILLPOOL:0|CANCASTPERDAY:1,1
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Class(es)", buffer); //$NON-NLS-1$
 		appendClassLines(buffer);
@@ -288,6 +319,7 @@ public final class PCGVer2Creator
 		 * #Character Experience
 		 * EXPERIENCE:6000
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Experience", buffer); //$NON-NLS-1$
 		appendExperienceLine(buffer);
@@ -297,10 +329,12 @@ public final class PCGVer2Creator
 		 * #Character Templates
 		 * TEMPLATESAPPLIED:If any, else this would just have the comment line, and skip to the next
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Templates", buffer); //$NON-NLS-1$
 		appendTemplateLines(buffer);
 
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Region", buffer); //$NON-NLS-1$
 		appendRegionLine(buffer);
@@ -318,6 +352,7 @@ public final class PCGVer2Creator
 		 * SKILL:Alchemy|SYNERGY:....|OUTPUTORDER:1|CLASSBOUGHT:[CLASS:FIGHTER|RANKS:7|COST:2|CLASSSKILL:N]
 		 * SKILL:Spellcraft|SYNERGY:....|OUTPUTORDER:1|CLASSBOUGHT:[CLASS:WIZARD|RANKS:7|COST:1|CLASSSKILL:Y]
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Skills", buffer); //$NON-NLS-1$
 		appendSkillLines(buffer);
@@ -325,6 +360,7 @@ public final class PCGVer2Creator
 		/*
 		 * #Character Languages
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Languages", buffer); //$NON-NLS-1$
 		appendLanguageLine(buffer);
@@ -339,10 +375,12 @@ public final class PCGVer2Creator
 		 * hmmm, better have colons and pipes encoded as entities
 		 * FEAT:Alertness|TYPE:General|SAVE:BONUS&colon;SKILL&pipe;Listen,Spot&pipe;2|DESC:+2 on Listen and Spot checks
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Feats", buffer); //$NON-NLS-1$
 		appendFeatLines(buffer);
 
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Abilities", buffer); //$NON-NLS-1$
 		appendAbilityLines(buffer);
@@ -350,6 +388,7 @@ public final class PCGVer2Creator
 		/*
 		 * #Character Weapon proficiencies
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Weapon proficiencies", buffer); //$NON-NLS-1$
 		appendWeaponProficiencyLines(buffer);
@@ -363,6 +402,7 @@ public final class PCGVer2Creator
 		 * EQUIPNAME:Backpack|OUTPUTORDER:9|COST:5|WT:5
 		 * EQUIPNAME:Rope (Silk)|OUTPUTORDER:-1|COST:5|WT:5
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Equipment", buffer); //$NON-NLS-1$
 		appendMoneyLine(buffer);
@@ -372,6 +412,7 @@ public final class PCGVer2Creator
 		/*
 		 * Append Temporary Bonuses
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Temporary Bonuses", buffer); //$NON-NLS-1$
 		appendTempBonuses(buffer);
@@ -379,6 +420,7 @@ public final class PCGVer2Creator
 		/*
 		 * Append EquipSet Temp Bonuses
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("EquipSet Temp Bonuses", buffer); //$NON-NLS-1$
 		appendEqSetBonuses(buffer);
@@ -397,6 +439,7 @@ public final class PCGVer2Creator
 
 		if (thePC.isFeatureEnabled(CControl.DOMAINFEATURE))
 		{
+			writeSection(buffer, out);
 			appendNewline(buffer);
 			appendComment("Character Deity/Domain", buffer); //$NON-NLS-1$
 			appendDeityLine(buffer);
@@ -412,6 +455,7 @@ public final class PCGVer2Creator
 		 *
 		 * hmmm, moved CANCASTPERDAY to standard class line
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Spells Information", buffer); //$NON-NLS-1$
 		appendSpellBookLines(buffer);
@@ -423,6 +467,7 @@ public final class PCGVer2Creator
 		 * CHARACTERBIO:any text that's in the BIO field
 		 * CHARACTERDESC:any text that's in the BIO field
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Description/Bio/History", buffer); //$NON-NLS-1$
 		appendCharacterBioLine(buffer);
@@ -435,6 +480,7 @@ public final class PCGVer2Creator
 		/*
 		 * #Kits
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Kits", buffer); //$NON-NLS-1$
 		appendKitLines(buffer);
@@ -444,6 +490,7 @@ public final class PCGVer2Creator
 		 * MASTER:Mynex|TYPE:Follower|HITDICE:20|FILE:E$\DnD\dnd-chars\ravenlock.pcg
 		 * FOLLOWER:Raven|TYPE:Animal Companion|HITDICE:5|FILE:E$\DnD\dnd-chars\raven.pcg
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Master/Follower", buffer); //$NON-NLS-1$
 		appendFollowerLines(buffer);
@@ -451,6 +498,7 @@ public final class PCGVer2Creator
 		/*
 		 * #Character Notes Tab
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Character Notes Tab", buffer); //$NON-NLS-1$
 		appendNotesLines(buffer);
@@ -458,6 +506,7 @@ public final class PCGVer2Creator
 		/*
 		 * #AgeSet Kit selections
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Age Set Selections", buffer); //$NON-NLS-1$
 		appendAgeSetLine(buffer);
@@ -465,6 +514,7 @@ public final class PCGVer2Creator
 		/*
 		 * #Campaign History
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Campaign History", buffer); //$NON-NLS-1$
 		appendCampaignHistoryLines(buffer);
@@ -472,6 +522,7 @@ public final class PCGVer2Creator
 		/*
 		 * #Preview Sheet Variables
 		 */
+		writeSection(buffer, out);
 		appendNewline(buffer);
 		appendComment("Preview Sheet Variables", buffer); //$NON-NLS-1$
 		appendPreviewSheetVarLines(buffer);
@@ -482,7 +533,17 @@ public final class PCGVer2Creator
 		appendNewline(buffer);
 
 		// All done!
-		return buffer.toString();
+		writeSection(buffer, out);
+	}
+
+	/**
+	 * Write out the completed section held in the buffer and empty the buffer
+	 * ready for the next section.
+	 */
+	private static void writeSection(StringBuilder buffer, Writer out) throws IOException
+	{
+		out.append(buffer);
+		buffer.setLength(0);
 	}
 
 	private void appendPreviewSheetVarLines(StringBuilder buffer)
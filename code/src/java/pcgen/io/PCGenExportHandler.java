@@ -32,6 +32,7 @@ public class PCGenExportHandler extends ExportHandler
 		// Set an output filter based on the type of template in use.
 		FileAccess.setCurrentOutputFilter(getTemplateFile().getName());
 
+		startTokenMemo();
 		try (BufferedReader br = Files.newBufferedReader(getTemplateFile().toPath(), StandardCharsets.UTF_8))
 		{
 			// A Buffer to hold the result of the preparation
@@ -59,6 +60,10 @@ public class PCGenExportHandler extends ExportHandler
 		{
 			Logging.errorPrint("Error in ExportHandler::write", exc);
 		}
+		finally
+		{
+			finishTokenMemo();
+		}
 	}
 
 
@@ -64,6 +64,12 @@ public class EqToken extends Token
 		return TOKENNAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	@Override
 	public String getToken(String tokenSource, PlayerCharacter pc, ExportHandler eh)
 	{
@@ -43,6 +43,12 @@ public class EqTypeToken extends EqToken
 		return TOKEN_NAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	@Override
 	public String getToken(String tokenSource, PlayerCharacter pc, ExportHandler eh)
 	{
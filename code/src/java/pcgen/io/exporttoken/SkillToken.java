@@ -91,6 +91,12 @@ public class SkillToken extends Token
 		return TOKENNAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	@Override
 	public String getToken(String tokenSource, PlayerCharacter pc, ExportHandler eh)
 	{
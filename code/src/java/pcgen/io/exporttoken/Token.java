@@ -42,6 +42,18 @@ public abstract class Token
 		return true;
 	}
 
+	/**
+	 * True if the value of the token depends only on the token source and the
+	 * state of the character, so it may be reused for the rest of an export
+	 * while the character is unchanged. Each token which returns true declares
+	 * it itself, rather than inheriting it, as a subclass may read other state.
+	 * @return True if the value of the token may be reused within an export
+	 */
+	public boolean isCacheable()
+	{
+		return false;
+	}
+
 	/**
 	 * Get Token name
 	 * @return token name
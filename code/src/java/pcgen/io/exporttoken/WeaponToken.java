@@ -117,6 +117,12 @@ public class WeaponToken extends Token
 		return TOKENNAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	@Override
 	public String getToken(String tokenSource, PlayerCharacter pc, ExportHandler eh)
 	{
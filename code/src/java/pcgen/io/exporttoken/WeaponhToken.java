@@ -56,6 +56,12 @@ public class WeaponhToken extends WeaponToken
 		return TOKEN_NAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	/**
 	 * Get the value of the supplied output token.
 	 *
@@ -0,0 +1,39 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.output.base;
+
+import java.util.Collection;
+
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModelException;
+
+/**
+ * A KeyedHashModel is a TemplateHashModel which can list the keys it will
+ * answer. This allows the model to be walked without a template (e.g. to
+ * serialize it), while templates continue to see an ordinary hash.
+ */
+public interface KeyedHashModel extends TemplateHashModel
+{
+	/**
+	 * Returns the keys for which this KeyedHashModel will return a value from
+	 * get(String).
+	 *
+	 * @return The keys which can be retrieved from this KeyedHashModel
+	 * @throws TemplateModelException
+	 *             if the keys cannot be determined
+	 */
+	Collection<String> getOutputKeys() throws TemplateModelException;
+}
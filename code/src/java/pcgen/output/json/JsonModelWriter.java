@@ -0,0 +1,308 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.output.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.output.base.KeyedHashModel;
+import pcgen.output.publish.OutputDB;
+import pcgen.util.Logging;
+
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateDateModel;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateHashModelEx;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateModelIterator;
+import freemarker.template.TemplateNumberModel;
+import freemarker.template.TemplateScalarModel;
+import freemarker.template.TemplateSequenceModel;
+
+/**
+ * A JsonModelWriter writes the output model of a PlayerCharacter (as built by
+ * OutputDB for FreeMarker templates) as JSON, without using a template.
+ *
+ * The model is walked as it is written: hashes which can list their keys
+ * (KeyedHashModel or TemplateHashModelEx) become objects, sequences and
+ * collections become arrays, and scalars, numbers, booleans and dates become
+ * the matching JSON values. Members of an object are written in key order so
+ * that the output for a character is stable.
+ *
+ * Models which cannot be listed (methods, or hashes answering arbitrary keys
+ * such as global variables) are left out. A value which fails to be produced,
+ * whether with a TemplateModelException or a RuntimeException, is written as
+ * null rather than abandoning the character. As the objects of a character can
+ * refer to each other, objects are only expanded up to MAX_DEPTH; beyond that
+ * the name of an object is written instead.
+ */
+public class JsonModelWriter
+{
+	/**
+	 * The depth beyond which objects are written by name rather than expanded.
+	 */
+	public static final int MAX_DEPTH = 8;
+
+	private final JsonWriter json;
+
+	/**
+	 * Constructs a new JsonModelWriter which writes to the given JsonWriter.
+	 *
+	 * @param json
+	 *            The JsonWriter to which models should be written
+	 */
+	public JsonModelWriter(JsonWriter json)
+	{
+		this.json = Objects.requireNonNull(json);
+	}
+
+	/**
+	 * Writes the output model of the PlayerCharacter identified by the given
+	 * CharID as a single line of JSON (a line of NDJSON) to the given Writer.
+	 * The line is built in full before any of it is written, so a failure
+	 * never leaves a partial line in the output.
+	 *
+	 * @param id
+	 *            The CharID of the PlayerCharacter to be written
+	 * @param out
+	 *            The Writer to which the line should be written
+	 * @throws IOException
+	 *             if the Writer fails
+	 */
+	public static void writeCharacter(CharID id, Writer out) throws IOException
+	{
+		StringWriter line = new StringWriter(16384);
+		new JsonModelWriter(new JsonWriter(line)).writeValue(OutputDB.buildDataModel(id));
+		line.write('\n');
+		out.write(line.toString());
+	}
+
+	/**
+	 * Writes the given value, which may be a TemplateModel, a Map (as
+	 * produced by OutputDB for dotted names) or null.
+	 *
+	 * @param value
+	 *            The value to be written
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void writeValue(Object value) throws IOException
+	{
+		writeValue(value, 0);
+	}
+
+	private void writeValue(Object value, int depth) throws IOException
+	{
+		if (value == null)
+		{
+			json.nullValue();
+		}
+		else if (value instanceof Map<?, ?> map)
+		{
+			writeMap(map, depth);
+		}
+		else if (value instanceof TemplateModel model)
+		{
+			try
+			{
+				writeModel(model, depth);
+			}
+			catch (TemplateModelException | RuntimeException e)
+			{
+				Logging.debugPrint("Unable to write " + model.getClass().getSimpleName() + " as JSON", e);
+				json.nullValue();
+			}
+		}
+		else
+		{
+			json.value(value.toString());
+		}
+	}
+
+	private void writeMap(Map<?, ?> map, int depth) throws IOException
+	{
+		Map<String, Object> sorted = new TreeMap<>();
+		map.forEach((k, v) -> sorted.put(String.valueOf(k), v));
+		json.beginObject();
+		for (Map.Entry<String, Object> me : sorted.entrySet())
+		{
+			if (isWritable(me.getValue()))
+			{
+				json.name(me.getKey());
+				writeValue(me.getValue(), depth + 1);
+			}
+		}
+		json.endObject();
+	}
+
+	/**
+	 * Writes the given TemplateModel. An exception is only thrown before
+	 * anything has been written for the model, so the caller may write null
+	 * in its place.
+	 */
+	private void writeModel(TemplateModel model, int depth) throws IOException, TemplateModelException
+	{
+		if (depth >= MAX_DEPTH)
+		{
+			if (model instanceof TemplateScalarModel scalar)
+			{
+				json.value(scalar.getAsString());
+			}
+			else
+			{
+				json.nullValue();
+			}
+			return;
+		}
+		if (model instanceof KeyedHashModel hash)
+		{
+			Collection<String> keys = hash.getOutputKeys();
+			if (!keys.isEmpty() || !(model instanceof TemplateScalarModel))
+			{
+				writeHash(hash, new TreeSet<>(keys), depth);
+				return;
+			}
+		}
+		if (model instanceof TemplateSequenceModel sequence)
+		{
+			int size = sequence.size();
+			json.beginArray();
+			for (int i = 0; i < size; i++)
+			{
+				writeValue(getItem(sequence, i), depth + 1);
+			}
+			json.endArray();
+		}
+		else if (model instanceof TemplateScalarModel scalar)
+		{
+			json.value(scalar.getAsString());
+		}
+		else if (model instanceof TemplateNumberModel number)
+		{
+			json.value(number.getAsNumber());
+		}
+		else if (model instanceof TemplateBooleanModel bool)
+		{
+			json.value(bool.getAsBoolean());
+		}
+		else if (model instanceof TemplateDateModel date)
+		{
+			json.value(Instant.ofEpochMilli(date.getAsDate().getTime()).toString());
+		}
+		else if (model instanceof TemplateHashModelEx hash)
+		{
+			List<String> keys = new ArrayList<>();
+			TemplateModelIterator it = hash.keys().iterator();
+			while (it.hasNext())
+			{
+				TemplateModel key = it.next();
+				if (key instanceof TemplateScalarModel scalar)
+				{
+					keys.add(scalar.getAsString());
+				}
+			}
+			writeHash(hash, new TreeSet<>(keys), depth);
+		}
+		else if (model instanceof TemplateCollectionModel collection)
+		{
+			//Iterate fully first so a failure cannot leave the array half written
+			List<TemplateModel> items = new ArrayList<>();
+			TemplateModelIterator it = collection.iterator();
+			while (it.hasNext())
+			{
+				items.add(it.next());
+			}
+			json.beginArray();
+			for (TemplateModel item : items)
+			{
+				writeValue(item, depth + 1);
+			}
+			json.endArray();
+		}
+		else
+		{
+			json.nullValue();
+		}
+	}
+
+	private void writeHash(TemplateHashModel hash, Collection<String> keys, int depth) throws IOException
+	{
+		json.beginObject();
+		for (String key : keys)
+		{
+			TemplateModel value;
+			try
+			{
+				value = hash.get(key);
+			}
+			catch (TemplateModelException | RuntimeException e)
+			{
+				Logging.debugPrint("Unable to get " + key + " for JSON output", e);
+				value = null;
+			}
+			if (isWritable(value))
+			{
+				json.name(key);
+				writeValue(value, depth + 1);
+			}
+		}
+		json.endObject();
+	}
+
+	private static TemplateModel getItem(TemplateSequenceModel sequence, int index)
+	{
+		try
+		{
+			return sequence.get(index);
+		}
+		catch (TemplateModelException | RuntimeException e)
+		{
+			Logging.debugPrint("Unable to get item " + index + " for JSON output", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Returns true if the given value can be written. Methods and hashes whose
+	 * keys cannot be listed have no JSON form and are left out.
+	 */
+	private static boolean isWritable(Object value)
+	{
+		if (value instanceof TemplateMethodModelEx)
+		{
+			return false;
+		}
+		if (value instanceof TemplateHashModel)
+		{
+			return (value instanceof KeyedHashModel) || (value instanceof TemplateHashModelEx)
+				|| (value instanceof TemplateScalarModel) || (value instanceof TemplateSequenceModel);
+		}
+		return true;
+	}
+}
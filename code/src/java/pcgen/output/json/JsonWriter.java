@@ -0,0 +1,273 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.output.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * A JsonWriter writes a single JSON value to a Writer as it is produced, so
+ * that no tree of the document is held in memory.
+ *
+ * Objects and arrays are opened and closed explicitly and the separators
+ * between members are written by the JsonWriter. Nothing but whitespace-free
+ * JSON is written, so a value written per line produces NDJSON.
+ *
+ * A JsonWriter does not check that it is used to produce well-formed JSON
+ * beyond the separators (e.g. a name outside an object is not detected). It
+ * is not thread safe.
+ */
+public class JsonWriter
+{
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final Writer out;
+
+	/**
+	 * For each open object or array, true if a value has been written to it.
+	 */
+	private boolean[] hasValue = new boolean[16];
+
+	private int depth = 0;
+
+	/**
+	 * True if a name has just been written, so the next value belongs to it.
+	 */
+	private boolean afterName = false;
+
+	/**
+	 * Constructs a new JsonWriter which writes to the given Writer.
+	 *
+	 * @param out
+	 *            The Writer to which JSON should be written
+	 */
+	public JsonWriter(Writer out)
+	{
+		this.out = Objects.requireNonNull(out);
+	}
+
+	/**
+	 * Returns the number of objects and arrays currently open.
+	 *
+	 * @return The number of objects and arrays currently open
+	 */
+	public int getDepth()
+	{
+		return depth;
+	}
+
+	private void beforeValue() throws IOException
+	{
+		if (afterName)
+		{
+			afterName = false;
+		}
+		else if (depth > 0)
+		{
+			if (hasValue[depth - 1])
+			{
+				out.write(',');
+			}
+			hasValue[depth - 1] = true;
+		}
+	}
+
+	private void open(char c) throws IOException
+	{
+		beforeValue();
+		out.write(c);
+		if (depth == hasValue.length)
+		{
+			boolean[] larger = new boolean[depth * 2];
+			System.arraycopy(hasValue, 0, larger, 0, depth);
+			hasValue = larger;
+		}
+		hasValue[depth++] = false;
+	}
+
+	private void close(char c) throws IOException
+	{
+		if (depth == 0)
+		{
+			throw new IllegalStateException("Nothing to close");
+		}
+		depth--;
+		out.write(c);
+	}
+
+	/**
+	 * Opens a JSON object.
+	 *
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void beginObject() throws IOException
+	{
+		open('{');
+	}
+
+	/**
+	 * Closes the most recently opened JSON object.
+	 *
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void endObject() throws IOException
+	{
+		close('}');
+	}
+
+	/**
+	 * Opens a JSON array.
+	 *
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void beginArray() throws IOException
+	{
+		open('[');
+	}
+
+	/**
+	 * Closes the most recently opened JSON array.
+	 *
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void endArray() throws IOException
+	{
+		close(']');
+	}
+
+	/**
+	 * Writes the name of the next member of the current JSON object.
+	 *
+	 * @param name
+	 *            The name of the member
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void name(String name) throws IOException
+	{
+		beforeValue();
+		writeString(name);
+		out.write(':');
+		afterName = true;
+	}
+
+	/**
+	 * Writes the given String, or null if it is null.
+	 *
+	 * @param value
+	 *            The String to be written
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void value(String value) throws IOException
+	{
+		if (value == null)
+		{
+			nullValue();
+			return;
+		}
+		beforeValue();
+		writeString(value);
+	}
+
+	/**
+	 * Writes the given Number. Null, NaN and infinite values (which JSON
+	 * cannot represent) are written as null.
+	 *
+	 * @param value
+	 *            The Number to be written
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void value(Number value) throws IOException
+	{
+		if ((value == null) || ((value instanceof Double d) && !Double.isFinite(d))
+			|| ((value instanceof Float f) && !Float.isFinite(f)))
+		{
+			nullValue();
+			return;
+		}
+		beforeValue();
+		out.write(value.toString());
+	}
+
+	/**
+	 * Writes the given boolean.
+	 *
+	 * @param value
+	 *            The boolean to be written
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void value(boolean value) throws IOException
+	{
+		beforeValue();
+		out.write(value ? "true" : "false");
+	}
+
+	/**
+	 * Writes a JSON null.
+	 *
+	 * @throws IOException
+	 *             if the underlying Writer fails
+	 */
+	public void nullValue() throws IOException
+	{
+		beforeValue();
+		out.write("null");
+	}
+
+	private void writeString(String s) throws IOException
+	{
+		out.write('"');
+		int start = 0;
+		for (int i = 0; i < s.length(); i++)
+		{
+			char c = s.charAt(i);
+			if ((c >= 0x20) && (c != '"') && (c != '\\') && (c != '\u2028') && (c != '\u2029'))
+			{
+				continue;
+			}
+			out.write(s, start, i - start);
+			start = i + 1;
+			switch (c)
+			{
+				case '"' -> out.write("\\\"");
+				case '\\' -> out.write("\\\\");
+				case '\n' -> out.write("\\n");
+				case '\r' -> out.write("\\r");
+				case '\t' -> out.write("\\t");
+				case '\b' -> out.write("\\b");
+				case '\f' -> out.write("\\f");
+				default -> {
+					//Other control characters, plus the line separators JavaScript rejects
+					out.write("\\u");
+					out.write(HEX[(c >> 12) & 0xF]);
+					out.write(HEX[(c >> 8) & 0xF]);
+					out.write(HEX[(c >> 4) & 0xF]);
+					out.write(HEX[c & 0xF]);
+				}
+			}
+		}
+		out.write(s, start, s.length() - start);
+		out.write('"');
+	}
+}
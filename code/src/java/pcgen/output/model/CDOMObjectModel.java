@@ -17,6 +17,7 @@
  */
 package pcgen.output.model;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
@@ -25,9 +26,9 @@ import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.facet.CDOMWrapperInfoFacet;
 import pcgen.cdom.facet.FacetLibrary;
+import pcgen.output.base.KeyedHashModel;
 import pcgen.output.base.OutputActor;
 
-import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 import freemarker.template.TemplateScalarModel;
@@ -36,7 +37,7 @@ import freemarker.template.TemplateScalarModel;
  * A CDOMObjectModel is a wrapper around a CDOMObject which serves as a
  * TemplateHashModel to expose the appropriate objects within the CDOMObject.
  */
-public class CDOMObjectModel implements TemplateHashModel, TemplateScalarModel, Iterable<CDOMObject>
+public class CDOMObjectModel implements KeyedHashModel, TemplateScalarModel, Iterable<CDOMObject>
 {
 	private static final CDOMWrapperInfoFacet WRAPPER_FACET = FacetLibrary.getFacet(CDOMWrapperInfoFacet.class);
 
@@ -91,6 +92,12 @@ public class CDOMObjectModel implements TemplateHashModel, TemplateScalarModel,
 		return actor.process(id, obj);
 	}
 
+	@Override
+	public Collection<String> getOutputKeys()
+	{
+		return WRAPPER_FACET.getActorKeys(id.getDatasetID(), cdo.getClass());
+	}
+
 	@Override
 	public boolean isEmpty()
 	{
@@ -17,6 +17,8 @@
  */
 package pcgen.output.model;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import pcgen.cdom.base.Category;
@@ -25,8 +27,8 @@ import pcgen.cdom.facet.FacetLibrary;
 import pcgen.cdom.facet.ObjectWrapperFacet;
 import pcgen.cdom.helper.CNAbilitySelection;
 import pcgen.core.Ability;
+import pcgen.output.base.KeyedHashModel;
 
-import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 
@@ -34,10 +36,12 @@ import freemarker.template.TemplateModelException;
  * A CNAbilitySelectionModel is a TemplateHashModel that wraps a
  * CNAbilitySelection object
  */
-public class CNAbilitySelectionModel implements TemplateHashModel
+public class CNAbilitySelectionModel implements KeyedHashModel
 {
 	private static final ObjectWrapperFacet WRAPPER_FACET = FacetLibrary.getFacet(ObjectWrapperFacet.class);
 
+	private static final List<String> KEYS = List.of("ability", "category", "nature", "pool", "selection");
+
 	/**
 	 * The underlying CNAbilitySelection for this CNAbilitySelectionModel
 	 */
@@ -99,6 +103,12 @@ public class CNAbilitySelectionModel implements TemplateHashModel
 		return WRAPPER_FACET.wrap(id, towrap);
 	}
 
+	@Override
+	public Collection<String> getOutputKeys()
+	{
+		return KEYS;
+	}
+
 	@Override
 	public boolean isEmpty()
 	{
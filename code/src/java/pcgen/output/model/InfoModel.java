@@ -18,6 +18,9 @@
 package pcgen.output.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import pcgen.base.lang.CaseInsensitiveString;
@@ -27,16 +30,16 @@ import pcgen.cdom.enumeration.MapKey;
 import pcgen.cdom.facet.FacetLibrary;
 import pcgen.cdom.facet.ObjectWrapperFacet;
 import pcgen.cdom.helper.InfoUtilities;
+import pcgen.output.base.KeyedHashModel;
 import pcgen.util.Logging;
 
-import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 
 /**
  * A InfoModel is a TemplateHashModel that wraps the Info data in a CDOMObject
  */
-public class InfoModel implements TemplateHashModel
+public class InfoModel implements KeyedHashModel
 {
 	/**
 	 * The underlying CharID for this InfoModel
@@ -93,6 +96,17 @@ public class InfoModel implements TemplateHashModel
 		return FacetLibrary.getFacet(ObjectWrapperFacet.class).wrap(id, sb.toString());
 	}
 
+	@Override
+	public Collection<String> getOutputKeys()
+	{
+		List<String> keys = new ArrayList<>();
+		for (CaseInsensitiveString cis : cdo.getKeysFor(MapKey.INFO))
+		{
+			keys.add(cis.toString());
+		}
+		return keys;
+	}
+
 	@Override
 	public boolean isEmpty()
 	{
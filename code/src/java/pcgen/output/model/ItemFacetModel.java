@@ -17,6 +17,7 @@
  */
 package pcgen.output.model;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
@@ -27,6 +28,7 @@ import pcgen.cdom.base.ItemFacet;
 import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.facet.FacetLibrary;
 import pcgen.cdom.facet.ObjectWrapperFacet;
+import pcgen.output.base.KeyedHashModel;
 
 import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
@@ -41,7 +43,7 @@ import freemarker.template.TemplateScalarModel;
  *            The Type of object contained in the ItemFacet contained by this
  *            ItemFacetModel
  */
-public class ItemFacetModel<T> implements TemplateHashModel, TemplateScalarModel, Iterable<T>
+public class ItemFacetModel<T> implements KeyedHashModel, TemplateScalarModel, Iterable<T>
 {
 	//Make sure to use PCGen's Wrappers since we don't know the underlying type
 	private static final ObjectWrapperFacet WRAPPER_FACET = FacetLibrary.getFacet(ObjectWrapperFacet.class);
@@ -112,6 +114,17 @@ public class ItemFacetModel<T> implements TemplateHashModel, TemplateScalarModel
 		return cache;
 	}
 
+	@Override
+	public Collection<String> getOutputKeys() throws TemplateModelException
+	{
+		TemplateHashModel model = getInternalHashModel();
+		if (model instanceof KeyedHashModel keyed)
+		{
+			return keyed.getOutputKeys();
+		}
+		return Collections.emptyList();
+	}
+
 	@Override
 	public boolean isEmpty() throws TemplateModelException
 	{
@@ -17,7 +17,9 @@
  */
 package pcgen.output.model;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.base.Constants;
@@ -27,9 +29,9 @@ import pcgen.cdom.enumeration.StringKey;
 import pcgen.cdom.facet.FacetLibrary;
 import pcgen.cdom.facet.ObjectWrapperFacet;
 import pcgen.core.Campaign;
+import pcgen.output.base.KeyedHashModel;
 import pcgen.output.base.SimpleWrapperLibrary;
 
-import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 
@@ -38,11 +40,14 @@ import freemarker.template.TemplateModelException;
  * a TemplateHashModel representing the source information about an underlying
  * CDOMObject.
  */
-public class SourceModel implements TemplateHashModel
+public class SourceModel implements KeyedHashModel
 {
 
 	private static final ObjectWrapperFacet WRAPPER_FACET = FacetLibrary.getFacet(ObjectWrapperFacet.class);
 
+	private static final List<String> KEYS = List.of("campaignsource", "custom", "date", "long", "page", "pubname",
+		"pubnameweb", "short", "web");
+
 	/**
 	 * The underlying CharID used to get items from the underlying SourceModel
 	 */
@@ -87,9 +92,9 @@ public class SourceModel implements TemplateHashModel
 			case "date" -> {
 				Date sourceDate = cdo.get(ObjectKey.SOURCE_DATE);
 				//Fall back on Campaign if necessary
-				if (sourceDate == null)
+				Campaign campaign = cdo.get(ObjectKey.SOURCE_CAMPAIGN);
+				if ((sourceDate == null) && (campaign != null))
 				{
-					Campaign campaign = cdo.get(ObjectKey.SOURCE_CAMPAIGN);
 					sourceDate = campaign.get(ObjectKey.SOURCE_DATE);
 				}
 				return SimpleWrapperLibrary.wrap(sourceDate);
@@ -104,15 +109,15 @@ public class SourceModel implements TemplateHashModel
 			}
 			case "campaignsource" -> {
 				Campaign campaign = cdo.get(ObjectKey.SOURCE_CAMPAIGN);
-				return WRAPPER_FACET.wrap(id, campaign.get(StringKey.SOURCE_SHORT));
+				return WRAPPER_FACET.wrap(id, (campaign == null) ? null : campaign.get(StringKey.SOURCE_SHORT));
 			}
 			case "pubname" -> {
 				Campaign campaign = cdo.get(ObjectKey.SOURCE_CAMPAIGN);
-				return WRAPPER_FACET.wrap(id, campaign.getSafe(StringKey.PUB_NAME_LONG));
+				return WRAPPER_FACET.wrap(id, (campaign == null) ? "" : campaign.getSafe(StringKey.PUB_NAME_LONG));
 			}
 			case "pubnameweb" -> {
 				Campaign campaign = cdo.get(ObjectKey.SOURCE_CAMPAIGN);
-				return WRAPPER_FACET.wrap(id, campaign.getSafe(StringKey.PUB_NAME_WEB));
+				return WRAPPER_FACET.wrap(id, (campaign == null) ? "" : campaign.getSafe(StringKey.PUB_NAME_WEB));
 			}
 		}
 		throw new TemplateModelException("source info does not have output of type " + key);
@@ -121,15 +126,24 @@ public class SourceModel implements TemplateHashModel
 	private String getSource(StringKey sourceWeb)
 	{
 		String sourceValue = cdo.get(sourceWeb);
-		//Fall back on Campaign if necessary
+		//Fall back on Campaign if necessary (objects from the game mode have none)
 		if (sourceValue == null)
 		{
 			Campaign campaign = cdo.get(ObjectKey.SOURCE_CAMPAIGN);
-			sourceValue = campaign.get(sourceWeb);
+			if (campaign != null)
+			{
+				sourceValue = campaign.get(sourceWeb);
+			}
 		}
 		return sourceValue;
 	}
 
+	@Override
+	public Collection<String> getOutputKeys()
+	{
+		return KEYS;
+	}
+
 	@Override
 	public boolean isEmpty()
 	{
@@ -17,12 +17,14 @@
  */
 package pcgen.output.model;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import pcgen.core.UnitSet;
+import pcgen.output.base.KeyedHashModel;
 import pcgen.output.base.SimpleWrapperLibrary;
 
-import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 import freemarker.template.TemplateScalarModel;
@@ -31,9 +33,11 @@ import freemarker.template.TemplateScalarModel;
  * An UnitSetModel wraps a UnitSet and serves as a TemplateHashModel for that
  * UnitSet.
  */
-public class UnitSetModel implements TemplateHashModel, TemplateScalarModel
+public class UnitSetModel implements KeyedHashModel, TemplateScalarModel
 {
 
+	private static final List<String> KEYS = List.of("distance", "height", "weight");
+
 	/**
 	 * The underlying UnitSet.
 	 */
@@ -74,6 +78,12 @@ public class UnitSetModel implements TemplateHashModel, TemplateScalarModel
 		return SimpleWrapperLibrary.wrap(unit);
 	}
 
+	@Override
+	public Collection<String> getOutputKeys()
+	{
+		return KEYS;
+	}
+
 	@Override
 	public boolean isEmpty()
 	{
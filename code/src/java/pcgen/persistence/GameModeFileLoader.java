@@ -265,7 +265,7 @@ public class GameModeFileLoader extends PCGenTask
 		{
 			LstFileLoader.readFromURI(uri)
 					.ifPresentOrElse((String data) -> {
-						String[] fileLines = data.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
+						String[] fileLines = LstFileLoader.splitLines(data);
 						String xpTable = "";
 						for (int i = 0; i < fileLines.length; i++)
 						{
@@ -311,7 +311,7 @@ public class GameModeFileLoader extends PCGenTask
 		{
 			return LstFileLoader.readFromURI(uri)
 					.map((String data) -> {
-						String[] fileLines = data.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
+						String[] fileLines = LstFileLoader.splitLines(data);
 
 						GameMode gameMode = new GameMode(aName);
 						SystemCollections.addToGameModeList(gameMode);
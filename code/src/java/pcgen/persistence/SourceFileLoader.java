@@ -39,6 +39,7 @@ import pcgen.base.formula.base.ImplementedScope;
 import pcgen.base.util.AbstractMapToList;
 import pcgen.base.util.FormatManager;
 import pcgen.base.util.HashMapToList;
+import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.base.Constants;
 import pcgen.cdom.content.fact.FactDefinition;
 import pcgen.cdom.content.factset.FactSetDefinition;
@@ -120,6 +121,7 @@ import pcgen.system.ConfigurationSettings;
 import pcgen.system.LanguageBundle;
 import pcgen.system.PCGenSettings;
 import pcgen.system.PCGenTask;
+import pcgen.util.LoadDiagnostics;
 import pcgen.util.Logging;
 
 public class SourceFileLoader extends PCGenTask implements Observer
@@ -226,6 +228,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
         Globals.initPreferences();
         Globals.emptyLists();
 
+        LoadDiagnostics.reset();
         Handler handler = new LoadHandler();
         Logging.registerHandler(handler);
         try
@@ -236,6 +239,8 @@ public class SourceFileLoader extends PCGenTask implements Observer
             Logging.errorPrint("Failed to load sources", e);
             uiDelegate.showErrorMessage(Constants.APPLICATION_NAME, "Failed to load sources, see log for details.");
         }
+        // Make sure the handler sees every diagnostic from this load
+        LoadDiagnostics.flush();
         Logging.removeHandler(handler);
     }
 
@@ -470,6 +475,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
         // -- sage_sam
         try
         {
+            LstFileLoader.resetReadStatistics();
             LoadContext context = Globals.getContext();
             loadCampaigns(selectedGame, selectedCampaigns, context);
 
@@ -491,6 +497,12 @@ public class SourceFileLoader extends PCGenTask implements Observer
              */
             context.loadCampaignFacets();
 
+            compactLoadedObjects(context);
+            if (Logging.isDebugMode())
+            {
+                Logging.debugPrint(LstFileLoader.getReadStatistics());
+            }
+
             dataset = new DataSet(context, selectedGame, new DefaultListFacade<>(selectedCampaigns));
             //			//  Show the licenses
             //			showLicensesIfNeeded();
@@ -703,6 +715,23 @@ public class SourceFileLoader extends PCGenTask implements Observer
         return dataDefFileList;
     }
 
+    /**
+     * Converts the key storage of every loaded object into its compact, read-only
+     * form now that the load is complete.
+     *
+     * @param context The LoadContext holding the loaded objects
+     */
+    private static void compactLoadedObjects(LoadContext context)
+    {
+        for (Object o : context.getReferenceContext().getAllConstructedObjects())
+        {
+            if (o instanceof CDOMObject cdo)
+            {
+                cdo.compactKeyStorage();
+            }
+        }
+    }
+
     public static void processFactDefinitions(LoadContext context)
     {
         context.getReferenceContext().getConstructedCDOMObjects(FactDefinition.class)
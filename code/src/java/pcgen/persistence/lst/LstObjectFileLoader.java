@@ -38,6 +38,7 @@ import pcgen.persistence.PersistenceLayerException;
 import pcgen.rules.context.LoadContext;
 import pcgen.system.LanguageBundle;
 import pcgen.system.PCGenSettings;
+import pcgen.util.LoadDiagnostics;
 import pcgen.util.Logging;
 
 /**
@@ -313,7 +314,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 			// Support the new file type. All lines that start with a tab belong to the previous line.
 			aString = aString.replaceAll("\r?\n\t", "\t");
 		}
-		String[] fileLines = aString.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
+		String[] fileLines = LstFileLoader.splitLines(aString);
 		for (int i = 0; i < fileLines.length; i++)
 		{
 			String line = fileLines[i];
@@ -380,6 +381,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 			}
 			else
 			{
+				LoadDiagnostics.setCurrentLine(i + 1);
 				try
 				{
 					target = parseLine(context, target, line, sourceEntry);
@@ -409,6 +411,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 				}
 			}
 		}
+		LoadDiagnostics.setCurrentLine(0);
 		if (classModLines != null)
 		{
 			modEntryList.add(classModLines);
@@ -563,6 +566,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 			for (ModEntry element : entryList)
 			{
 				context.setSourceURI(element.source.getURI());
+				LoadDiagnostics.setCurrentLine(element.getLineNumber());
 				try
 				{
 					String origPage = object.get(StringKey.SOURCE_PAGE);
@@ -590,6 +594,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 					setChanged();
 				}
 			}
+			LoadDiagnostics.setCurrentLine(0);
 		}
 		completeObject(context, entry.getSource(), object);
 	}
@@ -603,8 +608,10 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		for (ModEntry me : copyLineList)
 		{
 			context.setSourceURI(me.source.getURI());
+			LoadDiagnostics.setCurrentLine(me.getLineNumber());
 			performCopy(context, me);
 		}
+		LoadDiagnostics.setCurrentLine(0);
 		copyLineList.clear();
 	}
 
@@ -142,7 +142,7 @@ public final class LstUtils
 		else
 		{
 			context.rollback();
-			Logging.replayParsedMessages();
+			Logging.replayParsedMessages(key, context.getSourceURI());
 		}
 		Logging.clearParseMessages();
 		return successful;
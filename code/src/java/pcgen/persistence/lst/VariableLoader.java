@@ -119,7 +119,7 @@ public class VariableLoader extends Observable
 			context.setSourceURI(uri);
 		}
 
-		String[] fileLines = aString.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
+		String[] fileLines = LstFileLoader.splitLines(aString);
 
 		for (int i = 0; i < fileLines.length; i++)
 		{
@@ -18,8 +18,10 @@
 package pcgen.rules.context;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -48,6 +50,48 @@ public abstract class AbstractObjectContext implements ObjectCommitStrategy
 {
 	private final TrackingObjectCommitStrategy edits = new TrackingObjectCommitStrategy();
 
+	/**
+	 * Actions which reverse the changes written directly to objects by the
+	 * AtomicToken being processed, in the order the changes were made.
+	 */
+	private final List<Runnable> undoLog = new ArrayList<>();
+
+	/**
+	 * true if single valued keys are currently written directly to the object
+	 * rather than being tracked until the token is committed.
+	 */
+	private boolean direct = false;
+
+	/**
+	 * Indicates whether the token about to be processed is an AtomicToken. Such
+	 * a token has its single valued keys written directly to the object, as
+	 * long as the commit strategy writes to the objects themselves and no other
+	 * change is waiting to be committed (so the order of the changes cannot be
+	 * affected). The direct writes are undone if the token is rolled back.
+	 *
+	 * @param atomic
+	 *            true if the token about to be processed is an AtomicToken
+	 * @return true if writes were direct before this method was called, so
+	 *         the caller can restore that state once the token is processed
+	 */
+	public boolean setAtomicToken(boolean atomic)
+	{
+		boolean wasDirect = direct;
+		direct = atomic && (getCommitStrategy() instanceof ConsolidatedObjectCommitStrategy) && edits.isEmpty();
+		return wasDirect;
+	}
+
+	/**
+	 * Restores the state returned by setAtomicToken.
+	 *
+	 * @param wasDirect
+	 *            The value returned by the matching call to setAtomicToken
+	 */
+	public void restoreAtomicToken(boolean wasDirect)
+	{
+		direct = wasDirect;
+	}
+
 	@Override
 	public void setSourceURI(URI sourceURI)
 	{
@@ -83,7 +127,15 @@ public abstract class AbstractObjectContext implements ObjectCommitStrategy
 	@Override
 	public void put(CDOMObject cdo, FormulaKey fk, Formula f)
 	{
-		edits.put(cdo, fk, f);
+		if (direct)
+		{
+			recordUndo(cdo, fk);
+			getCommitStrategy().put(cdo, fk, f);
+		}
+		else
+		{
+			edits.put(cdo, fk, f);
+		}
 	}
 
 	@Override
@@ -101,55 +153,131 @@ public abstract class AbstractObjectContext implements ObjectCommitStrategy
 	@Override
 	public void put(CDOMObject cdo, IntegerKey ik, Integer i)
 	{
-		edits.put(cdo, ik, i);
+		if (direct)
+		{
+			recordUndo(cdo, ik);
+			getCommitStrategy().put(cdo, ik, i);
+		}
+		else
+		{
+			edits.put(cdo, ik, i);
+		}
 	}
 
 	@Override
 	public void remove(CDOMObject cdo, IntegerKey ik)
 	{
-		edits.remove(cdo, ik);
+		if (direct)
+		{
+			recordUndo(cdo, ik);
+			getCommitStrategy().remove(cdo, ik);
+		}
+		else
+		{
+			edits.remove(cdo, ik);
+		}
 	}
 
 	@Override
 	public <T> void put(CDOMObject cdo, ObjectKey<T> sk, T s)
 	{
-		edits.put(cdo, sk, s);
+		if (direct)
+		{
+			recordUndo(cdo, sk);
+			getCommitStrategy().put(cdo, sk, s);
+		}
+		else
+		{
+			edits.put(cdo, sk, s);
+		}
 	}
 
 	@Override
 	public void remove(CDOMObject cdo, ObjectKey<?> sk)
 	{
-		edits.remove(cdo, sk);
+		if (direct)
+		{
+			recordUndo(cdo, sk);
+			getCommitStrategy().remove(cdo, sk);
+		}
+		else
+		{
+			edits.remove(cdo, sk);
+		}
 	}
 
 	@Override
 	public <T> void put(CDOMObject cdo, FactKey<T> sk, Indirect<T> s)
 	{
-		edits.put(cdo, sk, s);
+		if (direct)
+		{
+			recordUndo(cdo, sk);
+			getCommitStrategy().put(cdo, sk, s);
+		}
+		else
+		{
+			edits.put(cdo, sk, s);
+		}
 	}
 
 	@Override
 	public void remove(CDOMObject cdo, FactKey<?> sk)
 	{
-		edits.remove(cdo, sk);
+		if (direct)
+		{
+			recordUndo(cdo, sk);
+			getCommitStrategy().remove(cdo, sk);
+		}
+		else
+		{
+			edits.remove(cdo, sk);
+		}
 	}
 
 	@Override
 	public void put(CDOMObject cdo, StringKey sk, String s)
 	{
-		edits.put(cdo, sk, s);
+		if (direct)
+		{
+			if (s != null && s.startsWith(Constants.LST_DOT_CLEAR))
+			{
+				throw new IllegalArgumentException("Cannot set a value to " + s);
+			}
+			recordUndo(cdo, sk);
+			getCommitStrategy().put(cdo, sk, s);
+		}
+		else
+		{
+			edits.put(cdo, sk, s);
+		}
 	}
 
 	@Override
 	public void remove(CDOMObject cdo, StringKey sk)
 	{
-		edits.remove(cdo, sk);
+		if (direct)
+		{
+			recordUndo(cdo, sk);
+			getCommitStrategy().remove(cdo, sk);
+		}
+		else
+		{
+			edits.remove(cdo, sk);
+		}
 	}
 
 	@Override
 	public void put(CDOMObject cdo, VariableKey vk, Formula f)
 	{
-		edits.put(cdo, vk, f);
+		if (direct)
+		{
+			recordUndo(cdo, vk);
+			getCommitStrategy().put(cdo, vk, f);
+		}
+		else
+		{
+			edits.put(cdo, vk, f);
+		}
 	}
 
 	@Override
@@ -184,6 +312,8 @@ public abstract class AbstractObjectContext implements ObjectCommitStrategy
 
 	void commit()
 	{
+		//Direct writes are already in place, so they are simply kept
+		undoLog.clear();
 		ObjectCommitStrategy commit = getCommitStrategy();
 		for (URI uri : edits.preClearSet.getKeySet())
 		{
@@ -381,9 +511,104 @@ public abstract class AbstractObjectContext implements ObjectCommitStrategy
 
 	void rollback()
 	{
+		for (int i = undoLog.size() - 1; i >= 0; i--)
+		{
+			undoLog.get(i).run();
+		}
+		undoLog.clear();
 		edits.decommit();
 	}
 
+	private void recordUndo(CDOMObject cdo, StringKey key)
+	{
+		String old = cdo.get(key);
+		undoLog.add(() -> {
+			if (old == null)
+			{
+				cdo.remove(key);
+			}
+			else
+			{
+				cdo.put(key, old);
+			}
+		});
+	}
+
+	private void recordUndo(CDOMObject cdo, IntegerKey key)
+	{
+		Integer old = cdo.get(key);
+		undoLog.add(() -> {
+			if (old == null)
+			{
+				cdo.remove(key);
+			}
+			else
+			{
+				cdo.put(key, old);
+			}
+		});
+	}
+
+	private void recordUndo(CDOMObject cdo, FormulaKey key)
+	{
+		Formula old = cdo.get(key);
+		undoLog.add(() -> {
+			if (old == null)
+			{
+				cdo.remove(key);
+			}
+			else
+			{
+				cdo.put(key, old);
+			}
+		});
+	}
+
+	private void recordUndo(CDOMObject cdo, VariableKey key)
+	{
+		Formula old = cdo.get(key);
+		undoLog.add(() -> {
+			if (old == null)
+			{
+				cdo.remove(key);
+			}
+			else
+			{
+				cdo.put(key, old);
+			}
+		});
+	}
+
+	private <T> void recordUndo(CDOMObject cdo, ObjectKey<T> key)
+	{
+		T old = cdo.get(key);
+		undoLog.add(() -> {
+			if (old == null)
+			{
+				cdo.remove(key);
+			}
+			else
+			{
+				cdo.put(key, old);
+			}
+		});
+	}
+
+	private <T> void recordUndo(CDOMObject cdo, FactKey<T> key)
+	{
+		Indirect<T> old = cdo.get(key);
+		undoLog.add(() -> {
+			if (old == null)
+			{
+				cdo.remove(key);
+			}
+			else
+			{
+				cdo.put(key, old);
+			}
+		});
+	}
+
 	@Override
 	public Formula getFormula(CDOMObject cdo, FormulaKey fk)
 	{
@@ -737,6 +962,15 @@ public abstract class AbstractObjectContext implements ObjectCommitStrategy
 			this.sourceURI = sourceURI;
 		}
 
+		/**
+		 * @return true if no change is waiting to be committed
+		 */
+		public boolean isEmpty()
+		{
+			return positiveMap.isEmpty() && negativeMap.isEmpty() && globalClearSet.isEmpty()
+				&& preClearSet.isEmpty() && patternClearSet.isEmpty();
+		}
+
 		public void decommit()
 		{
 			positiveMap.clear();
@@ -105,6 +105,12 @@ class TrackingManufacturer<T extends Loadable> implements ReferenceManufacturer<
 		return rm.getAllObjects();
 	}
 
+	@Override
+	public Collection<T> getObjectsOfType(String... types)
+	{
+		return rm.getObjectsOfType(types);
+	}
+
 	@Override
 	public CDOMGroupRef<T> getAllReference()
 	{
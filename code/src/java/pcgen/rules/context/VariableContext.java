@@ -54,6 +54,7 @@ import pcgen.base.util.FormatManager;
 import pcgen.cdom.base.FormulaFactory;
 import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.formula.ManagerKey;
+import pcgen.cdom.formula.MeasuredFunctionLibrary;
 import pcgen.cdom.formula.PluginFunctionLibrary;
 import pcgen.cdom.formula.VariableChannel;
 import pcgen.cdom.formula.VariableChannelFactory;
@@ -80,7 +81,8 @@ public class VariableContext implements VariableChannelFactory,
 	 * The FunctionLibrary for this VariableContext. Local so that we can add functions
 	 * based on plugins and data.
 	 */
-	private final WriteableFunctionLibrary myFunctionLibrary = new SimpleFunctionLibrary();
+	private final WriteableFunctionLibrary myFunctionLibrary =
+			new MeasuredFunctionLibrary(new SimpleFunctionLibrary());
 
 	/**
 	 * The ValueStore for this VariableContext. Local so that we can set the defaults for
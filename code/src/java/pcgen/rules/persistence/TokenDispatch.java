@@ -0,0 +1,63 @@
+/*
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.rules.persistence;
+
+import java.util.List;
+
+import pcgen.rules.persistence.token.CDOMInterfaceToken;
+import pcgen.rules.persistence.token.CDOMToken;
+
+/**
+ * A TokenDispatch is the result of resolving a token name for a concrete class
+ * of object: the interface token which takes precedence for that class, if any,
+ * and otherwise the tokens (from each TokenFamily, walking up the class
+ * hierarchy) which should be tried in turn.
+ *
+ * A TokenDispatch is immutable, so it can be shared between LoadContexts and
+ * threads.
+ */
+final class TokenDispatch
+{
+	private final CDOMInterfaceToken<?, ?> interfaceToken;
+	private final List<CDOMToken<?>> tokens;
+
+	TokenDispatch(CDOMInterfaceToken<?, ?> interfaceToken, List<CDOMToken<?>> tokens)
+	{
+		this.interfaceToken = interfaceToken;
+		this.tokens = List.copyOf(tokens);
+	}
+
+	/**
+	 * Returns the interface token which should process the token for the class,
+	 * or null if the class tokens should be used.
+	 *
+	 * @return The interface token which should process the token for the class
+	 */
+	CDOMInterfaceToken<?, ?> getInterfaceToken()
+	{
+		return interfaceToken;
+	}
+
+	/**
+	 * Returns the class tokens to be tried, in order, for the class.
+	 *
+	 * @return The class tokens to be tried for the class
+	 */
+	List<CDOMToken<?>> getTokens()
+	{
+		return tokens;
+	}
+}
@@ -28,7 +28,9 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
+import pcgen.base.lang.CaseInsensitiveString;
 import pcgen.base.lang.UnreachableError;
 import pcgen.base.util.CaseInsensitiveMap;
 import pcgen.base.util.DoubleKeyMap;
@@ -86,6 +88,21 @@ public final class TokenLibrary implements PluginLoader
 	private static final Set<TokenFamily> TOKEN_FAMILIES = new TreeSet<>();
 	private static final CaseInsensitiveMap<Class<? extends BonusObj>> BONUS_TAG_MAP = new CaseInsensitiveMap<>();
 
+	/**
+	 * The tokens resolved for each concrete class and token name. This is shared
+	 * by all LoadContexts, so that resolving a token (which searches every
+	 * TokenFamily up the class hierarchy) is only done once for each class and
+	 * token name. It is cleared whenever the tokens in this library change.
+	 */
+	private static final Map<Class<?>, Map<String, TokenDispatch>> DISPATCH_TABLE = new ConcurrentHashMap<>();
+
+	/**
+	 * The subtokens resolved for each concrete class, token name and subtoken
+	 * name. As with DISPATCH_TABLE, this is cleared whenever the tokens in this
+	 * library change.
+	 */
+	private static final Map<SubTokenKey, List<CDOMToken<?>>> SUB_TOKEN_DISPATCH_TABLE = new ConcurrentHashMap<>();
+
 	private static TokenLibrary instance = null;
 
 	static
@@ -95,6 +112,7 @@ public final class TokenLibrary implements PluginLoader
 
 	public static void reset()
 	{
+		clearDispatchTables();
 		POST_DEFERRED_TOKENS.clear();
 		QUALIFIER_MAP.clear();
 		PRIMITIVE_MAP.clear();
@@ -244,6 +262,7 @@ public final class TokenLibrary implements PluginLoader
 
 	public static void addToTokenMap(Object newToken)
 	{
+		clearDispatchTables();
 		if (newToken instanceof PostDeferredToken<?> pdt)
 		{
 			POST_DEFERRED_TOKENS.addToListFor(pdt.getPriority(), pdt);
@@ -355,6 +374,94 @@ public final class TokenLibrary implements PluginLoader
 		}
 	}
 
+	private static void clearDispatchTables()
+	{
+		DISPATCH_TABLE.clear();
+		SUB_TOKEN_DISPATCH_TABLE.clear();
+	}
+
+	/**
+	 * Returns the tokens to be used to process a token of the given name on an
+	 * object of the given class. This is safe to call from any thread once the
+	 * tokens have been loaded.
+	 * 
+	 * @param cl
+	 *            The concrete class of the object being loaded
+	 * @param name
+	 *            The name of the token
+	 * @return The TokenDispatch for the class and token name
+	 */
+	static TokenDispatch getDispatch(Class<? extends Loadable> cl, String name)
+	{
+		Map<String, TokenDispatch> classDispatch = DISPATCH_TABLE.get(cl);
+		if (classDispatch == null)
+		{
+			classDispatch = DISPATCH_TABLE.computeIfAbsent(cl, k -> new ConcurrentHashMap<>());
+		}
+		TokenDispatch dispatch = classDispatch.get(name);
+		if (dispatch == null)
+		{
+			dispatch = classDispatch.computeIfAbsent(name, n -> resolveDispatch(cl, n));
+		}
+		return dispatch;
+	}
+
+	private static <T extends Loadable> TokenDispatch resolveDispatch(Class<T> cl, String name)
+	{
+		//Interface tokens override everything else... even if NOT VALID!
+		CDOMInterfaceToken<?, ?> interfaceToken = IF_TOKEN_MAP.get(name);
+		if ((interfaceToken != null) && !(interfaceToken.getTokenClass().isAssignableFrom(cl)
+			&& interfaceToken.getReadInterface().isAssignableFrom(cl)))
+		{
+			//Fall through to class tokens if the interface token isn't usable
+			interfaceToken = null;
+		}
+		List<CDOMToken<?>> tokens = new ArrayList<>();
+		for (Iterator<CDOMToken<? super T>> it = new TokenIterator<>(cl, name); it.hasNext();)
+		{
+			tokens.add(it.next());
+		}
+		return new TokenDispatch(interfaceToken, tokens);
+	}
+
+	/**
+	 * Returns the subtokens to be tried, in order, to process the given subtoken
+	 * of the given token on an object of the given class. This is safe to call
+	 * from any thread once the tokens have been loaded.
+	 * 
+	 * @param cl
+	 *            The concrete class of the object being loaded
+	 * @param name
+	 *            The name of the parent token
+	 * @param subToken
+	 *            The name of the subtoken
+	 * @return The subtokens for the class, token name and subtoken name
+	 */
+	static List<CDOMToken<?>> getSubTokenDispatch(Class<?> cl, String name, String subToken)
+	{
+		return SUB_TOKEN_DISPATCH_TABLE.computeIfAbsent(
+			new SubTokenKey(cl, new CaseInsensitiveString(name), new CaseInsensitiveString(subToken)),
+			k -> resolveSubTokens(cl, name, subToken));
+	}
+
+	private static <T> List<CDOMToken<?>> resolveSubTokens(Class<T> cl, String name, String subToken)
+	{
+		List<CDOMToken<?>> tokens = new ArrayList<>();
+		for (Iterator<CDOMSubToken<? super T>> it = new SubTokenIterator<>(cl, name, subToken); it.hasNext();)
+		{
+			tokens.add(it.next());
+		}
+		return List.copyOf(tokens);
+	}
+
+	/**
+	 * The key of a resolved subtoken. Token and subtoken names are case
+	 * insensitive.
+	 */
+	private record SubTokenKey(Class<?> tokenClass, CaseInsensitiveString name, CaseInsensitiveString subToken)
+	{
+	}
+
 	public static TokenLibrary getInstance()
 	{
 		if (instance == null)
@@ -19,27 +19,21 @@ package pcgen.rules.persistence;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import pcgen.base.proxy.DeferredMethodController;
 import pcgen.base.proxy.StagingInfo;
-import pcgen.base.util.CaseInsensitiveMap;
-import pcgen.base.util.DoubleKeyMapToList;
 import pcgen.util.ProxyUtilities;
-import pcgen.base.util.TripleKeyMapToList;
 import pcgen.util.WeightedCollection;
 import pcgen.cdom.base.GroupDefinition;
 import pcgen.cdom.base.Loadable;
+import pcgen.rules.context.AbstractObjectContext;
 import pcgen.rules.context.LoadContext;
-import pcgen.rules.persistence.TokenLibrary.SubTokenIterator;
-import pcgen.rules.persistence.TokenLibrary.TokenIterator;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMInterfaceToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.CDOMSecondaryToken;
-import pcgen.rules.persistence.token.CDOMSubToken;
 import pcgen.rules.persistence.token.CDOMToken;
 import pcgen.rules.persistence.token.ComplexParseResult;
 import pcgen.rules.persistence.token.DeferredToken;
@@ -54,11 +48,6 @@ public class TokenSupport
 {
 	private final TokenFamily localTokens = new TokenFamily(new Revision(0, 0, 0));
 
-	private final DoubleKeyMapToList<Class<?>, String, CDOMToken<?>> tokenCache = new DoubleKeyMapToList<>();
-
-	private final TripleKeyMapToList<Class<?>, String, String, CDOMToken<?>> subTokenCache =
-			new TripleKeyMapToList<>(HashMap.class, CaseInsensitiveMap.class, CaseInsensitiveMap.class);
-
 	/**
 	 * Processes the given token information in the scope of the given LoadContext and
 	 * object.
@@ -75,55 +64,37 @@ public class TokenSupport
 	 */
 	public <T extends Loadable> boolean processToken(LoadContext context, T target, String tokenName, String tokenValue)
 	{
+		//Must be true
+		@SuppressWarnings("unchecked")
+		Class<T> cl = (Class<T>) target.getClass();
+		TokenDispatch dispatch = TokenLibrary.getDispatch(cl, tokenName);
 		//Interface tokens override everything else... even if NOT VALID!
-		CDOMInterfaceToken<?, ?> interfaceToken = TokenLibrary.getInterfaceToken(tokenName);
+		CDOMInterfaceToken<?, ?> interfaceToken = dispatch.getInterfaceToken();
 		if (interfaceToken != null)
 		{
-			Class<? extends Loadable> targetClass = target.getClass();
-			if (interfaceToken.getTokenClass().isAssignableFrom(targetClass)
-				&& interfaceToken.getReadInterface().isAssignableFrom(targetClass))
-			{
-				return processInterfaceToken(context, target, tokenName, tokenValue, interfaceToken);
-			}
-			//We want to fall through to class tokens if the interface token isn't usable
+			return processInterfaceToken(context, target, tokenName, tokenValue, interfaceToken);
 		}
-		return processClassTokens(context, target, tokenName, tokenValue);
+		return processClassTokens(context, target, cl, tokenName, tokenValue, dispatch);
 	}
 
-	private <T extends Loadable> boolean processClassTokens(LoadContext context, T target, String tokenName,
-		String tokenValue)
+	private <T extends Loadable> boolean processClassTokens(LoadContext context, T target, Class<T> cl,
+		String tokenName, String tokenValue, TokenDispatch dispatch)
 	{
-		//Must be true
+		//Tokens local to this context are tried first
 		@SuppressWarnings("unchecked")
-		Class<T> cl = (Class<T>) target.getClass();
-		List<? extends CDOMToken<T>> tokenList = getTokens(cl, tokenName);
-		if (tokenList != null)
+		CDOMToken<T> local = (CDOMToken<T>) localTokens.getToken(cl, tokenName);
+		if ((local != null) && parseClassToken(context, target, cl, local, tokenName, tokenValue))
 		{
-			for (CDOMToken<T> token : tokenList)
+			return true;
+		}
+		for (CDOMToken<?> token : dispatch.getTokens())
+		{
+			//Must be true, as the dispatch was resolved for this class
+			@SuppressWarnings("unchecked")
+			CDOMToken<T> classToken = (CDOMToken<T>) token;
+			if (parseClassToken(context, target, cl, classToken, tokenName, tokenValue))
 			{
-				ParseResult parse;
-				try
-				{
-					parse = token.parseToken(context, target, tokenValue);
-				}
-				catch (IllegalArgumentException e)
-				{
-					Logging.errorPrint("IllegalArgumentException", e);
-					Logging.addParseMessage(Logging.LST_ERROR,
-						"Token generated an IllegalArgumentException: " + e.getLocalizedMessage());
-					parse = new ParseResult.Fail("Token processing failed");
-				}
-				// Need to add messages as there may be warnings.
-				parse.addMessagesToLog(context.getSourceURI());
-				if (parse.passed())
-				{
-					return true;
-				}
-				if (Logging.isLoggable(Logging.LST_ERROR))
-				{
-					Logging.addParseMessage(Logging.LST_ERROR, "Failed in parsing typeStr: " + tokenName + ' '
-						+ tokenValue + " for " + cl.getName() + ' ' + target.getDisplayName());
-				}
+				return true;
 			}
 		}
 		if (tokenName.startsWith(" "))
@@ -140,6 +111,41 @@ public class TokenSupport
 		return false;
 	}
 
+	private <T extends Loadable> boolean parseClassToken(LoadContext context, T target, Class<T> cl,
+		CDOMToken<T> token, String tokenName, String tokenValue)
+	{
+		ParseResult parse;
+		AbstractObjectContext objContext = context.getObjectContext();
+		boolean wasDirect = objContext.setAtomicToken(token instanceof AtomicToken);
+		try
+		{
+			parse = token.parseToken(context, target, tokenValue);
+		}
+		catch (IllegalArgumentException e)
+		{
+			Logging.errorPrint("IllegalArgumentException", e);
+			Logging.addParseMessage(Logging.LST_ERROR,
+				"Token generated an IllegalArgumentException: " + e.getLocalizedMessage());
+			parse = new ParseResult.Fail("Token processing failed");
+		}
+		finally
+		{
+			objContext.restoreAtomicToken(wasDirect);
+		}
+		// Need to add messages as there may be warnings.
+		parse.addMessagesToLog(context.getSourceURI());
+		if (parse.passed())
+		{
+			return true;
+		}
+		if (Logging.isLoggable(Logging.LST_ERROR))
+		{
+			Logging.addParseMessage(Logging.LST_ERROR, "Failed in parsing typeStr: " + tokenName + ' '
+				+ tokenValue + " for " + cl.getName() + ' ' + target.getDisplayName());
+		}
+		return false;
+	}
+
 	private <R, W> boolean processInterfaceToken(LoadContext context, Object target,
 		String tokenName, String tokenValue, CDOMInterfaceToken<R, W> interfaceToken)
 	{
@@ -179,63 +185,37 @@ public class TokenSupport
 		return false;
 	}
 
-	private <T extends Loadable> List<? extends CDOMToken<T>> getTokens(Class<T> cl, String name)
-	{
-		List list = tokenCache.getListFor(cl, name);
-		if (list == null)
-		{
-			CDOMToken<?> local = localTokens.getToken(cl, name);
-			if (local != null)
-			{
-				tokenCache.addToListFor(cl, name, local);
-			}
-			for (Iterator<? extends CDOMToken<T>> it = new TokenIterator<>(cl, name); it.hasNext();)
-			{
-				CDOMToken<T> token = it.next();
-				tokenCache.addToListFor(cl, name, token);
-			}
-			list = tokenCache.getListFor(cl, name);
-		}
-		return list;
-	}
-
-	private <T> List<? extends CDOMToken<T>> getTokens(Class<T> cl, String name, String subtoken)
+	public <T> ParseResult processSubToken(LoadContext context, T cdo, String tokenName, String key, String value)
 	{
-		List list = subTokenCache.getListFor(cl, name, subtoken);
-		if (list == null)
+		ComplexParseResult cpr = new ComplexParseResult();
+		//Must be true
+		@SuppressWarnings("unchecked")
+		Class<T> cl = (Class<T>) cdo.getClass();
+		//Tokens local to this context are tried first
+		@SuppressWarnings("unchecked")
+		CDOMToken<T> local = (CDOMToken<T>) localTokens.getSubToken(cl, tokenName, key);
+		if (local != null)
 		{
-			CDOMToken<?> local = localTokens.getSubToken(cl, name, subtoken);
-			if (local != null)
-			{
-				subTokenCache.addToListFor(cl, name, subtoken, local);
-			}
-			for (Iterator<CDOMSubToken<T>> it = new SubTokenIterator<>(cl, name, subtoken); it.hasNext();)
+			ParseResult pr = local.parseToken(context, cdo, value);
+			if (pr.passed())
 			{
-				CDOMToken<T> token = it.next();
-				subTokenCache.addToListFor(cl, name, subtoken, token);
+				return pr;
 			}
-			list = subTokenCache.getListFor(cl, name, subtoken);
+			cpr.copyMessages(pr);
+			cpr.addErrorMessage("Failed in parsing subtoken: " + key + " of " + value);
 		}
-		return list;
-	}
-
-	public <T> ParseResult processSubToken(LoadContext context, T cdo, String tokenName, String key, String value)
-	{
-		ComplexParseResult cpr = new ComplexParseResult();
-		Class<T> cl = (Class<T>) cdo.getClass();
-		List<? extends CDOMToken<T>> tokenList = getTokens(cl, tokenName, key);
-		if (tokenList != null)
+		for (CDOMToken<?> token : TokenLibrary.getSubTokenDispatch(cl, tokenName, key))
 		{
-			for (CDOMToken<T> token : tokenList)
+			//Must be true, as the dispatch was resolved for this class
+			@SuppressWarnings("unchecked")
+			CDOMToken<T> subToken = (CDOMToken<T>) token;
+			ParseResult pr = subToken.parseToken(context, cdo, value);
+			if (pr.passed())
 			{
-				ParseResult pr = token.parseToken(context, cdo, value);
-				if (pr.passed())
-				{
-					return pr;
-				}
-				cpr.copyMessages(pr);
-				cpr.addErrorMessage("Failed in parsing subtoken: " + key + " of " + value);
+				return pr;
 			}
+			cpr.copyMessages(pr);
+			cpr.addErrorMessage("Failed in parsing subtoken: " + key + " of " + value);
 		}
 		/*
 		 * CONSIDER a better option than toString, given that T != CDOMObject
@@ -0,0 +1,36 @@
+/*
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.rules.persistence.token;
+
+/**
+ * An AtomicToken is a token which cannot partially fail. It validates the
+ * complete value before making any change to the object, and it only writes
+ * single valued keys (StringKey, IntegerKey, ObjectKey, FactKey, FormulaKey
+ * and VariableKey) through the ObjectContext.
+ *
+ * Such tokens do not need their changes to be staged until the token is
+ * committed, so at runtime they are written directly to the object being
+ * loaded, and an undo action is recorded for each write in case the token is
+ * rolled back.
+ *
+ * Only implement this on a concrete token once its parsing has been checked,
+ * not on a shared parent class: a subclass may override the parse to make
+ * other changes, as UMULT does when it removes its key on .CLEAR.
+ */
+public interface AtomicToken
+{
+	//Marker interface
+}
@@ -62,13 +62,17 @@ public interface ParseResult
 	{
 		public final Level level;
 		public final String message;
+		/**
+		 * Where the message was raised. This is only captured in debug mode,
+		 * as it is costly to capture and is otherwise null.
+		 */
 		public final StackTraceElement[] stackTrace;
 
 		public QueuedMessage(Level lvl, String msg)
 		{
 			level = lvl;
 			message = msg;
-			stackTrace = Thread.currentThread().getStackTrace();
+			stackTrace = Logging.isDebugMode() ? Thread.currentThread().getStackTrace() : null;
 		}
 	}
 
@@ -32,6 +32,12 @@ import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import pcgen.cdom.base.Constants;
@@ -39,6 +45,7 @@ import pcgen.core.SettingsHandler;
 import pcgen.core.utils.MessageType;
 import pcgen.core.utils.ShowMessageDelegate;
 import pcgen.facade.core.CharacterFacade;
+import pcgen.facade.core.DataSetFacade;
 import pcgen.facade.core.PartyFacade;
 import pcgen.facade.core.SourceSelectionFacade;
 import pcgen.facade.core.UIDelegate;
@@ -47,7 +54,7 @@ import pcgen.io.ExportException;
 import pcgen.io.ExportHandler;
 import pcgen.io.ExportUtilities;
 import pcgen.io.PCGFile;
-import pcgen.persistence.SourceFileLoader;
+import pcgen.output.json.JsonModelWriter;
 import pcgen.util.Logging;
 import pcgen.util.fop.FopTask;
 
@@ -121,11 +128,10 @@ public class BatchExporter
 		SourceSelectionFacade sourcesForCharacter = CharacterManager.getRequiredSourcesForCharacter(file, uiDelegate);
 		Logging.log(Logging.INFO, "Loading sources " + sourcesForCharacter.getCampaigns() + " using game mode "
 			+ sourcesForCharacter.getGameMode());
-		SourceFileLoader loader = new SourceFileLoader(uiDelegate, sourcesForCharacter.getCampaigns(), sourcesForCharacter.getGameMode().get().getName());
-		loader.run();
+		DataSetFacade dataSet = DataSetCache.getDataSet(sourcesForCharacter, uiDelegate);
 
 		// Load character
-		CharacterFacade character = CharacterManager.openCharacter(file, uiDelegate, loader.getDataSetFacade());
+		CharacterFacade character = CharacterManager.openCharacter(file, uiDelegate, dataSet);
 		if (character == null)
 		{
 			return false;
@@ -175,11 +181,10 @@ public class BatchExporter
 
 		// Load data
 		SourceSelectionFacade sourcesForCharacter = CharacterManager.getRequiredSourcesForParty(file, uiDelegate);
-		SourceFileLoader loader = new SourceFileLoader(uiDelegate, sourcesForCharacter.getCampaigns(), sourcesForCharacter.getGameMode().get().getName());
-		loader.run();
+		DataSetFacade dataSet = DataSetCache.getDataSet(sourcesForCharacter, uiDelegate);
 
 		// Load party
-		PartyFacade party = CharacterManager.openParty(file, uiDelegate, loader.getDataSetFacade());
+		PartyFacade party = CharacterManager.openParty(file, uiDelegate, dataSet);
 
 		// Export party
 		File templateFile = new File(exportTemplateFilename);
@@ -194,6 +199,96 @@ public class BatchExporter
 		}
 	}
 
+	/**
+	 * Export every character file in the directory as one line of JSON in a
+	 * single NDJSON file. No export template is used: each line holds the
+	 * output model of a character, as seen by FreeMarker templates. If the
+	 * output file is null then characters.ndjson in the directory is used.
+	 * <p>
+	 * Characters using the same sources are exported together, so each set of
+	 * sources is only loaded once. Each character is closed once written.
+	 *
+	 * @param directory The directory containing the PCG files.
+	 * @param outputFile The path to the NDJSON file to be created. May be null.
+	 * @param uiDelegate The object through which to report any issues to the user.
+	 * @return true if every character was exported, false if any failed.
+	 */
+	static boolean exportCharactersToJson(File directory, String outputFile, UIDelegate uiDelegate)
+	{
+		File outFile = (outputFile == null) ? new File(directory, "characters.ndjson") : new File(outputFile);
+		List<File> files;
+		try (Stream<Path> paths = Files.list(directory.toPath()))
+		{
+			files = paths.map(Path::toFile).filter(PCGFile::isPCGenCharacterFile).sorted().toList();
+		}
+		catch (IOException e)
+		{
+			Logging.errorPrint("Unable to list character files in " + directory.getAbsolutePath(), e);
+			return false;
+		}
+		Logging.log(Logging.INFO, "Started JSON export of " + files.size() + " characters in "
+			+ directory.getAbsolutePath() + " to " + outFile.getAbsolutePath());
+
+		// Group the characters by sources, keeping the order in which they are first used
+		boolean success = true;
+		Map<String, SourceSelectionFacade> sourcesByKey = new LinkedHashMap<>();
+		Map<String, List<File>> filesByKey = new HashMap<>();
+		for (File file : files)
+		{
+			SourceSelectionFacade sources = CharacterManager.getRequiredSourcesForCharacter(file, uiDelegate);
+			if (sources == null)
+			{
+				success = false;
+				continue;
+			}
+			String key = sources.getGameMode().get().getName() + DataSetCache.getCampaignKeys(sources);
+			sourcesByKey.putIfAbsent(key, sources);
+			filesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(file);
+		}
+
+		int written = 0;
+		long start = System.nanoTime();
+		try (BufferedWriter bw = Files.newBufferedWriter(outFile.toPath(), StandardCharsets.UTF_8))
+		{
+			for (Map.Entry<String, SourceSelectionFacade> me : sourcesByKey.entrySet())
+			{
+				DataSetFacade dataSet = DataSetCache.getDataSet(me.getValue(), uiDelegate);
+				for (File file : filesByKey.get(me.getKey()))
+				{
+					CharacterFacade character = CharacterManager.openCharacter(file, uiDelegate, dataSet);
+					if (character == null)
+					{
+						success = false;
+						continue;
+					}
+					try
+					{
+						JsonModelWriter.writeCharacter(character.getCharID(), bw);
+						written++;
+					}
+					catch (RuntimeException e)
+					{
+						// Nothing has been written for the character, so carry on with the rest
+						Logging.errorPrint("Unable to export " + file.getAbsolutePath() + " as JSON", e);
+						success = false;
+					}
+					finally
+					{
+						CharacterManager.removeBatchCharacter(character);
+					}
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			Logging.errorPrint("Unable to write output file " + outFile.getAbsolutePath(), e);
+			return false;
+		}
+		Logging.log(Logging.INFO, "Exported " + written + " of " + files.size() + " characters as JSON in "
+			+ Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms");
+		return success;
+	}
+
 	/**
 	 * Write a PDF character sheet for the character to the output file. The 
 	 * character sheet will be built according to the template file. If the 
@@ -405,11 +500,10 @@ public class BatchExporter
 	{
 		try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)))
 		{
-			for (final CharacterFacade character : party)
-			{
+			CharacterManager.runForParty(party, "Party export", character -> { //$NON-NLS-1$
 				File templateFile = getXMLTemplate(character);
 				character.export(ExportHandler.createExportHandler(templateFile), bw);
-			}
+			});
 		}
 	}
 
@@ -428,10 +522,8 @@ public class BatchExporter
 	{
 		try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)))
 		{
-			for (final CharacterFacade character : party)
-			{
-				character.export(ExportHandler.createExportHandler(templateFile), bw);
-			}
+			CharacterManager.runForParty(party, "Party export", //$NON-NLS-1$
+				character -> character.export(ExportHandler.createExportHandler(templateFile), bw));
 		}
 	}
 
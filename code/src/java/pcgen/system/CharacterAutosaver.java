@@ -0,0 +1,196 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.system;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.Timer;
+
+import pcgen.facade.core.CharacterFacade;
+import pcgen.gui2.facade.CharacterFacadeImpl;
+import pcgen.gui3.GuiAssertions;
+import pcgen.io.PCGIOHandler;
+import pcgen.util.Logging;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The CharacterAutosaver periodically saves a copy of each open character
+ * which has changed to an autosave file next to the character's file. The
+ * content of each character is produced on the event dispatch thread, as the
+ * character may only be read there, but the files are written on a background
+ * thread so that the user is not kept waiting for the disk. Each save goes via
+ * a temporary file, so a crash part way through never leaves a truncated
+ * autosave file. The character's own file is never touched.
+ * <p>
+ * An autosave file is removed when its character is saved or closed, so one
+ * is only left behind if PCGen stops with the character open. The user is
+ * then offered the autosave when the character is next opened.
+ */
+public final class CharacterAutosaver
+{
+	/**
+	 * The extension added to the name of a character file to get the name of
+	 * its autosave file.
+	 */
+	public static final String AUTOSAVE_EXTENSION = ".autosave"; //$NON-NLS-1$
+
+	/**
+	 * Writes the autosave files, one at a time and in the order requested.
+	 */
+	private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "pcg-autosave-thread"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		return thread;
+	});
+
+	private static Timer timer = null;
+
+	private CharacterAutosaver()
+	{
+	}
+
+	/**
+	 * Start autosaving characters at the interval given in the preferences. Any
+	 * timer already running is replaced, so this may also be used when the
+	 * preference is changed.
+	 */
+	public static void start()
+	{
+		GuiAssertions.assertIsSwingThread();
+		stop();
+		int minutes = PCGenSettings.getAutosaveMinutes();
+		if (minutes <= 0)
+		{
+			return;
+		}
+		int delay = (int) TimeUnit.MINUTES.toMillis(minutes);
+		timer = new Timer(delay, e -> autosaveCharacters());
+		timer.start();
+	}
+
+	/**
+	 * Stop autosaving characters.
+	 */
+	public static void stop()
+	{
+		GuiAssertions.assertIsSwingThread();
+		if (timer != null)
+		{
+			timer.stop();
+			timer = null;
+		}
+	}
+
+	/**
+	 * Stop autosaving characters and wait for any pending autosave writes and
+	 * removals to finish. This must be called before PCGen exits, as otherwise
+	 * an autosave the user chose to throw away could be left behind and
+	 * offered for recovery the next time the character is opened.
+	 */
+	public static void shutdown()
+	{
+		if (timer != null)
+		{
+			timer.stop();
+			timer = null;
+		}
+		WRITER.shutdown();
+		try
+		{
+			if (!WRITER.awaitTermination(10, TimeUnit.SECONDS))
+			{
+				Logging.errorPrint("Timed out waiting for autosave files to be written and removed");
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Autosave each open character that has changed since it was last saved or
+	 * autosaved.
+	 */
+	static void autosaveCharacters()
+	{
+		for (CharacterFacade character : CharacterManager.getCharacters())
+		{
+			File pcFile = character.getFileRef().get();
+			if (!(character instanceof CharacterFacadeImpl characterFacade) || pcFile == null
+				|| StringUtils.isBlank(pcFile.getName()))
+			{
+				continue;
+			}
+			String content = characterFacade.createAutosaveContent();
+			if (content != null)
+			{
+				File autosaveFile = getAutosaveFile(pcFile);
+				WRITER.execute(() -> writeAutosave(content, autosaveFile));
+			}
+		}
+	}
+
+	/**
+	 * Remove the autosave file for a character, e.g. once it has been saved.
+	 * This is done after any pending autosave of the character has been written.
+	 *
+	 * @param pcFile The character's file.
+	 */
+	public static void discard(File pcFile)
+	{
+		File autosaveFile = getAutosaveFile(pcFile);
+		WRITER.execute(() -> {
+			try
+			{
+				Files.deleteIfExists(autosaveFile.toPath());
+			}
+			catch (IOException e)
+			{
+				Logging.errorPrint("Could not remove autosave file " + autosaveFile, e);
+			}
+		});
+	}
+
+	/**
+	 * @param pcFile The character's file.
+	 * @return The file a character is autosaved to.
+	 */
+	public static File getAutosaveFile(File pcFile)
+	{
+		return new File(pcFile.getParentFile(), pcFile.getName() + AUTOSAVE_EXTENSION);
+	}
+
+	private static void writeAutosave(String content, File autosaveFile)
+	{
+		try
+		{
+			PCGIOHandler.writeAtomically(content, autosaveFile);
+			Logging.debugPrint("Autosaved to " + autosaveFile); //$NON-NLS-1$
+		}
+		catch (IOException e)
+		{
+			Logging.errorPrint("Could not autosave to " + autosaveFile, e);
+		}
+	}
+}
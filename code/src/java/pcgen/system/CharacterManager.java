@@ -18,9 +18,13 @@
 package pcgen.system;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 
@@ -140,7 +144,25 @@ public final class CharacterManager
 	 */
 	public static CharacterFacade openCharacter(File file, UIDelegate delegate, DataSetFacade dataset)
 	{
-		final PlayerCharacter newPC = openPcInternal(file, delegate, dataset, false);
+		return openCharacter(file, delegate, dataset, false);
+	}
+
+	/**
+	 * This opens an existing character from a file and adds it to the
+	 * list of open characters. If there is a character already open
+	 * that uses this file, then this method does nothing.
+	 * @param file the file to load this character from
+	 * @param delegate the UIDelegate that this character will use
+	 * @param dataset the dataset that this will be loaded with
+	 * @param allowRecovery Should the user be offered an autosave of the
+	 *        character newer than its file. Only an interactive open should
+	 *        allow this; otherwise the requested file is always read.
+	 * @return The character that was opened.
+	 */
+	public static CharacterFacade openCharacter(File file, UIDelegate delegate, DataSetFacade dataset,
+		boolean allowRecovery)
+	{
+		final PlayerCharacter newPC = openPcInternal(file, delegate, dataset, false, allowRecovery);
 
 		if (newPC == null)
 		{
@@ -163,7 +185,7 @@ public final class CharacterManager
 	public static PlayerCharacter openPlayerCharacter(File file, UIDelegate delegate, DataSetFacade dataset,
 		boolean blockLoadedMessage)
 	{
-		final PlayerCharacter newPC = openPcInternal(file, delegate, dataset, blockLoadedMessage);
+		final PlayerCharacter newPC = openPcInternal(file, delegate, dataset, blockLoadedMessage, false);
 
 		if (newPC == null)
 		{
@@ -175,7 +197,7 @@ public final class CharacterManager
 	}
 
     private static PlayerCharacter openPcInternal(File file, UIDelegate delegate, DataSetFacade dataset,
-		boolean blockLoadedMessage)
+		boolean blockLoadedMessage, boolean allowRecovery)
 	{
 		if (dataset == null)
 		{
@@ -191,11 +213,17 @@ public final class CharacterManager
 		{
 			final PlayerCharacter newPC = new PlayerCharacter(campaigns);
 			newPC.setFileName(file.getAbsolutePath());
+			final File readFile = allowRecovery ? chooseFileToRead(file, delegate) : file;
 			final PCGIOHandler ioHandler = new PCGIOHandler();
-			ioHandler.read(newPC, file.getAbsolutePath());
+			ioHandler.read(newPC, readFile.getAbsolutePath());
 			// Ensure any custom equipment held by the character is added to the dataset's list
 			dataset.refreshEquipment();
 			newPC.calcActiveBonuses();
+			if (!readFile.equals(file))
+			{
+				// The recovered changes are not yet in the character's own file
+				newPC.setDirty(true);
+			}
 
 			if (!showLoadNotices(true, ioHandler.getErrors(), file.getName(), delegate))
 			{
@@ -229,6 +257,34 @@ public final class CharacterManager
 		}
 	}
 
+	/**
+	 * Identify the file a character should be read from. If the character has
+	 * an autosave newer than its file, which happens when PCGen stopped before
+	 * the character was saved or closed, the user is offered the autosave
+	 * instead. An autosave which is declined is removed.
+	 *
+	 * @param file The character's file
+	 * @param delegate The UIDelegate used to ask the user
+	 * @return The file to read the character from
+	 */
+	private static File chooseFileToRead(File file, UIDelegate delegate)
+	{
+		File autosaveFile = CharacterAutosaver.getAutosaveFile(file);
+		if (!autosaveFile.isFile() || (autosaveFile.lastModified() <= file.lastModified()))
+		{
+			return file;
+		}
+		if (delegate.showWarningConfirm(LanguageBundle.getString("in_cmRecoverAutosaveTitle"), //$NON-NLS-1$
+			LanguageBundle.getFormattedString("in_cmRecoverAutosaveMessage", //$NON-NLS-1$
+				file.getName(), autosaveFile.getName())))
+		{
+			Logging.log(Logging.INFO, "Recovering character from " + autosaveFile); //$NON-NLS-1$
+			return autosaveFile;
+		}
+		CharacterAutosaver.discard(file);
+		return file;
+	}
+
 	private static CharacterFacade createChracterFacade(UIDelegate delegate, DataSetFacade dataset,
 		final PlayerCharacter newPC)
 	{
@@ -297,9 +353,27 @@ public final class CharacterManager
 	 * @return The party that was opened.
 	 */
 	public static PartyFacade openParty(File file, final UIDelegate delegate, final DataSetFacade dataset)
+	{
+		return openParty(file, delegate, dataset, false);
+	}
+
+	/**
+	 * This opens an existing party from a file and adds all characters to the
+	 * list of open characters.
+	 *
+	 * @param file the file to load this party from
+	 * @param delegate the UIDelegate that these characters will use
+	 * @param dataset the dataset that this will be loaded with
+	 * @param allowRecovery Should the user be offered the autosave of any
+	 *        character newer than its file.
+	 * @return The party that was opened.
+	 */
+	public static PartyFacade openParty(File file, final UIDelegate delegate, final DataSetFacade dataset,
+		boolean allowRecovery)
 	{
 		Logging.log(Logging.INFO, "Loading party " + file.getAbsolutePath()); //$NON-NLS-1$
-		PCGIOHandler.readCharacterFileList(file).forEach(charFile -> openCharacter(charFile, delegate, dataset));
+		PCGIOHandler.readCharacterFileList(file)
+			.forEach(charFile -> openCharacter(charFile, delegate, dataset, allowRecovery));
 		CHARACTERS.setFile(file);
 		return CHARACTERS;
 	}
@@ -412,7 +486,13 @@ public final class CharacterManager
 			UIDelegate delegate = character.getUIDelegate();
 			try
 			{
-				characterFacade.save();
+				if (!characterFacade.save())
+				{
+					// Keep the autosave, it may now be the only good copy of the character
+					delegate.showErrorMessage(Constants.APPLICATION_NAME,
+						"Could not save " + character.getNameRef().get() + " to " + file.getAbsolutePath());
+					return false;
+				}
 			}
 			catch (final NullPointerException e)
 			{
@@ -428,6 +508,7 @@ public final class CharacterManager
 			return false;
 		}
 
+		CharacterAutosaver.discard(file);
 		RECENT_CHARACTERS.addRecentFile(file);
 		return true;
 	}
@@ -456,6 +537,7 @@ public final class CharacterManager
 		// This advises the message handler also.
 		character.closeCharacter();
 		File charFile = character.getFileRef().get();
+		discardAutosave(charFile);
 		RECENT_CHARACTERS.addRecentFile(charFile);
 		if (CHARACTERS.isEmpty())
 		{
@@ -466,6 +548,32 @@ public final class CharacterManager
 			+ " - " + charFile.getAbsolutePath()); //$NON-NLS-1$
 	}
 
+	/**
+	 * Removes a character opened by a batch operation from the list of open
+	 * characters. Unlike removeCharacter, the character's autosave and the
+	 * user's recent files are left alone, as the user never opened it.
+	 * Note: this operation does not save the character!
+	 * @param character the character to be closed
+	 */
+	public static void removeBatchCharacter(CharacterFacade character)
+	{
+		CHARACTERS.removeElement(character);
+		// This advises the message handler also.
+		character.closeCharacter();
+	}
+
+	/**
+	 * Remove the autosave of a character being closed. Any changes the user
+	 * wanted kept have been saved by now, so the autosave is no longer needed.
+	 */
+	private static void discardAutosave(File charFile)
+	{
+		if ((charFile != null) && !StringUtils.isBlank(charFile.getName()))
+		{
+			CharacterAutosaver.discard(charFile);
+		}
+	}
+
 	public static void removeAllCharacters()
 	{
 		for (final CharacterFacade characterFacade : CHARACTERS)
@@ -473,6 +581,7 @@ public final class CharacterManager
 			RECENT_CHARACTERS.addRecentFile(characterFacade.getFileRef().get());
 			// This advises the message handler also.
 			characterFacade.closeCharacter();
+			discardAutosave(characterFacade.getFileRef().get());
 		}
 		CHARACTERS.clearContents();
 		RECENT_PARTIES.addRecentFile(CHARACTERS.getFileRef().get());
@@ -485,6 +594,72 @@ public final class CharacterManager
 		return CHARACTERS;
 	}
 
+	/**
+	 * Run a task for each character in a party, in party order, timing the
+	 * task for each character. The timings are logged in debug mode, along
+	 * with the character which took longest.
+	 * <p>
+	 * The characters are processed one at a time on the calling thread. A
+	 * PlayerCharacter may only be used by one thread at a time, and the facets
+	 * which hold character state share a single unsynchronized store between
+	 * all characters, so different characters cannot yet be safely processed
+	 * at the same time either.
+	 *
+	 * @param party The characters to be processed.
+	 * @param taskName A description of the task, used when reporting timings.
+	 * @param task The work to be done for each character.
+	 * @param <E> The type of exception the task may throw.
+	 * @return The time the task took for each character, in party order.
+	 * @throws E If the task failed for a character. Any later characters are
+	 *         not processed.
+	 */
+	public static <E extends Exception> Map<CharacterFacade, Duration> runForParty(
+		Iterable<CharacterFacade> party, String taskName, PartyTask<E> task) throws E
+	{
+		Map<CharacterFacade, Duration> timings = new LinkedHashMap<>();
+		for (CharacterFacade character : party)
+		{
+			long start = System.nanoTime();
+			task.run(character);
+			timings.put(character, Duration.ofNanos(System.nanoTime() - start));
+		}
+		if (Logging.isDebugMode() && !timings.isEmpty())
+		{
+			Duration total = Duration.ZERO;
+			CharacterFacade slowest = null;
+			for (Map.Entry<CharacterFacade, Duration> entry : timings.entrySet())
+			{
+				Logging.debugPrint(taskName + " for " + entry.getKey().getNameRef().get() + " took " //$NON-NLS-1$ //$NON-NLS-2$
+					+ entry.getValue().toMillis() + "ms"); //$NON-NLS-1$
+				total = total.plus(entry.getValue());
+				if ((slowest == null) || (entry.getValue().compareTo(timings.get(slowest)) > 0))
+				{
+					slowest = entry.getKey();
+				}
+			}
+			Logging.debugPrint(taskName + " for " + timings.size() + " characters took " + total.toMillis() //$NON-NLS-1$ //$NON-NLS-2$
+				+ "ms, slowest was " + slowest.getNameRef().get()); //$NON-NLS-1$
+		}
+		return Collections.unmodifiableMap(timings);
+	}
+
+	/**
+	 * The work to be done for each character by runForParty.
+	 *
+	 * @param <E> The type of exception the work may throw.
+	 */
+	@FunctionalInterface
+	public interface PartyTask<E extends Exception>
+	{
+		/**
+		 * Do the work for a character.
+		 *
+		 * @param character The character to be processed.
+		 * @throws E If the work failed.
+		 */
+		void run(CharacterFacade character) throws E;
+	}
+
 	/**
 	 * Retrieve the loaded character matching the character stub. The character
 	 * may not have been saved yet, so may not have a file name, in which case
@@ -79,6 +79,14 @@ public class CommandLineArguments
         parser.addArgument("-p", "--party").nargs(1)
                 .type(Arguments.fileType().verifyCanRead().verifyExists().verifyIsFile());
 
+        parser.addArgument("-j", "--json").nargs(1)
+                .help("export every character in the directory as a line of JSON, without a template")
+                .type(Arguments.fileType().verifyIsDirectory().verifyCanRead().verifyExists());
+
+        parser.addArgument("--metrics")
+                .help("record facet, PRE, BONUS, solver, function and export token timings and print them on exit")
+                .type(Boolean.class).action(Arguments.storeTrue());
+
         return parser;
     }
 
@@ -124,6 +132,11 @@ public class CommandLineArguments
         return getSingle(namespace.get("character"));
     }
 
+    public Optional<File> getJsonDirectory()
+    {
+        return getSingle(namespace.get("json"));
+    }
+
     public Optional<File> getOutputFile()
     {
         return getSingle(namespace.get("outputfile"));
@@ -135,6 +148,12 @@ public class CommandLineArguments
                 .orElse(false);
     }
 
+    public boolean isMetrics()
+    {
+        return Optional.ofNullable(namespace.getBoolean("metrics"))
+                .orElse(false);
+    }
+
     public boolean isVerbose()
     {
         // Why allow the flag multiple times and count them if we just evaluate them to boolean afterward?
@@ -0,0 +1,118 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.system;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import pcgen.core.Campaign;
+import pcgen.core.GameMode;
+import pcgen.core.Globals;
+import pcgen.core.SettingsHandler;
+import pcgen.facade.core.DataSetFacade;
+import pcgen.facade.core.SourceSelectionFacade;
+import pcgen.facade.core.UIDelegate;
+import pcgen.persistence.SourceFileLoader;
+import pcgen.rules.context.LoadContext;
+import pcgen.util.Logging;
+
+/**
+ * DataSetCache remembers the data set most recently loaded for a source
+ * selection, so that loading the same game mode and campaigns again (e.g. for
+ * each character of a batch export) reuses the loaded data rather than
+ * parsing it all a second time.
+ *
+ * Loaded data is not yet self-contained: loading sources clears and refills
+ * the LoadContext held by the GameMode and static constants such as FactKey
+ * and RaceType. Only the data set of the most recent load can therefore be
+ * used, and it is only handed out while the GameMode and LoadContext it was
+ * loaded into are still the current ones.
+ */
+public final class DataSetCache
+{
+	private static Entry current;
+
+	private DataSetCache()
+	{
+		//Don't allow instantiation of utility class
+	}
+
+	/**
+	 * Returns the data set for the given source selection, loading it unless
+	 * the same selection is the one currently loaded.
+	 *
+	 * @param sources The game mode and campaigns to be loaded
+	 * @param delegate The UIDelegate used to report problems while loading
+	 * @return The data set for the sources, or null if they failed to load
+	 */
+	public static synchronized DataSetFacade getDataSet(SourceSelectionFacade sources, UIDelegate delegate)
+	{
+		GameMode gameMode = sources.getGameMode().get();
+		Set<String> campaignKeys = getCampaignKeys(sources);
+		if (current != null && current.isCurrent() && current.gameMode == gameMode
+			&& current.campaignKeys.equals(campaignKeys))
+		{
+			Logging.log(Logging.INFO, "Reusing loaded sources " + campaignKeys + " for game mode " + gameMode);
+			return current.dataSet;
+		}
+		current = null;
+
+		Runtime runtime = Runtime.getRuntime();
+		long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+		SourceFileLoader loader = new SourceFileLoader(delegate, sources.getCampaigns(), gameMode.getName());
+		loader.run();
+		DataSetFacade dataSet = loader.getDataSetFacade();
+		if (dataSet != null)
+		{
+			long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+			current = new Entry(gameMode, campaignKeys, Globals.getContext(), dataSet);
+			Logging.log(Logging.INFO, "Loaded sources " + campaignKeys + " for game mode " + gameMode
+				+ " using about " + (Math.max(0, usedAfter - usedBefore) >> 20) + " MB");
+		}
+		return dataSet;
+	}
+
+	/**
+	 * Forgets the remembered data set, so the next request loads its sources.
+	 */
+	public static synchronized void clear()
+	{
+		current = null;
+	}
+
+	static Set<String> getCampaignKeys(SourceSelectionFacade sources)
+	{
+		// SourceFileLoader orders the campaigns itself, so the selection order does not matter
+		Set<String> keys = new TreeSet<>();
+		for (Campaign campaign : sources.getCampaigns())
+		{
+			keys.add(campaign.getKeyName());
+		}
+		return keys;
+	}
+
+	private record Entry(GameMode gameMode, Set<String> campaignKeys, LoadContext context, DataSetFacade dataSet)
+	{
+		/**
+		 * Returns true if nothing has been loaded since this Entry, so its data
+		 * set is still the one held by the GameMode.
+		 */
+		private boolean isCurrent()
+		{
+			return SettingsHandler.getGameAsProperty().get() == gameMode && Globals.getContext() == context;
+		}
+	}
+}
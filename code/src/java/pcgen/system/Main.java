@@ -61,6 +61,7 @@ import pcgen.system.application.LoggingUncaughtExceptionHandler;
 import pcgen.system.application.PCGenLoggingDeadlockHandler;
 import pcgen.util.GracefulExit;
 import pcgen.util.Logging;
+import pcgen.util.Metrics;
 import pcgen.util.PJEP;
 
 import javafx.embed.swing.JFXPanel;
@@ -134,7 +135,7 @@ public final class Main
 			GracefulExit.exit(0);
 		}
 
-		if (commandLineArguments.getExportSheet().isEmpty())
+		if (commandLineArguments.getExportSheet().isEmpty() && commandLineArguments.getJsonDirectory().isEmpty())
 		{
 			startupWithGUI();
 		}
@@ -175,6 +176,10 @@ public final class Main
 		{
 			Logging.setCurrentLoggingLevel(Logging.DEBUG);
 		}
+		if (result.isMetrics())
+		{
+			Metrics.setEnabled(true);
+		}
 
 		return result;
 	}
@@ -360,6 +365,12 @@ public final class Main
 
 		UIDelegate uiDelegate = new ConsoleUIDelegate();
 
+		if (commandLineArguments.getJsonDirectory().isPresent())
+		{
+			return BatchExporter.exportCharactersToJson(commandLineArguments.getJsonDirectory().orElseThrow(),
+				commandLineArguments.getOutputFile().map(File::getPath).orElse(null), uiDelegate);
+		}
+
 		BatchExporter exporter = new BatchExporter(commandLineArguments.getExportSheet().map(File::getPath).orElse(null), uiDelegate);
 
 		boolean result = true;
@@ -390,6 +401,12 @@ public final class Main
 			CustomData.writeCustomItems();
 		}
 
+		if (Metrics.isEnabled())
+		{
+			System.err.print(Metrics.getReport());
+		}
+
+		CharacterAutosaver.shutdown();
 		GracefulExit.exit(success ? 0 : 1);
 	}
 
@@ -54,6 +54,7 @@ public final class PCGenSettings extends PropertyContext
 	public static final String OPTION_ALLOW_OVERRIDE_DUPLICATES = "allowOverrideDuplicates";
 	public static final String OPTION_SKILL_FILTER = "skillsOutputFilter";
 	public static final String OPTION_GENERATE_TEMP_FILE_WITH_PDF = "generateTempFileWithPdf";
+	public static final String OPTION_AUTOSAVE_MINUTES = "autosaveMinutes";
 	/**
 	 * The key for the path to the character files.
 	 */
@@ -157,6 +158,15 @@ public final class PCGenSettings extends PropertyContext
 		return OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_CREATE_PCG_BACKUP, true);
 	}
 
+	/**
+	 * @return The number of minutes between autosaves of changed characters, or
+	 *         zero if characters are not to be autosaved.
+	 */
+	public static int getAutosaveMinutes()
+	{
+		return OPTIONS_CONTEXT.initInt(PCGenSettings.OPTION_AUTOSAVE_MINUTES, 5);
+	}
+
 	public static String getVendorDataDir()
 	{
 		return getDirectory(VENDOR_DATA_DIR);
@@ -0,0 +1,363 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * LoadDiagnostics is the channel through which problems found in the data
+ * while loading sources are reported. Each problem is recorded as a
+ * {@link Diagnostic} holding the level, token, file and line it relates to.
+ * <p>
+ * Recording a diagnostic only places it in a fixed size ring buffer, which is
+ * drained by a background thread that passes it on to the log. This keeps the
+ * cost of badly formed data sets, which can produce tens of thousands of
+ * messages, off the load itself. Should the buffer ever be full the diagnostic
+ * is logged directly instead, so nothing is lost.
+ * <p>
+ * The diagnostics recorded since the last {@link #reset()} are kept, along
+ * with counts by file and by token, so they may be examined once the load has
+ * finished. {@link #flush()} must be called before doing so, or before
+ * relying on the messages having reached the log handlers.
+ */
+public final class LoadDiagnostics
+{
+	/**
+	 * The number of diagnostics which can be waiting to be written. Must be a
+	 * power of two.
+	 */
+	private static final int CAPACITY = 8192;
+
+	private static final int MASK = CAPACITY - 1;
+
+	/**
+	 * The logger diagnostics are written to, so that they are controlled by
+	 * the same level as the rest of the data loading code.
+	 */
+	private static final Logger LOGGER = Logger.getLogger("pcgen.persistence.lst"); //$NON-NLS-1$
+
+	private static final AtomicReferenceArray<Diagnostic> RING = new AtomicReferenceArray<>(CAPACITY);
+
+	/**
+	 * The sequence number of the next diagnostic to be added to the ring.
+	 */
+	private static final AtomicLong HEAD = new AtomicLong();
+
+	/**
+	 * The sequence number of the next diagnostic to be removed from the ring.
+	 * Only changed while holding the DRAIN_LOCK.
+	 */
+	private static final AtomicLong TAIL = new AtomicLong();
+
+	private static final Object DRAIN_LOCK = new Object();
+
+	private static final List<Diagnostic> RECORDED = Collections.synchronizedList(new ArrayList<>());
+
+	private static final Map<URI, LongAdder> COUNT_BY_FILE = new ConcurrentHashMap<>();
+
+	private static final Map<String, LongAdder> COUNT_BY_TOKEN = new ConcurrentHashMap<>();
+
+	private static final Thread WRITER = createWriter();
+
+	/**
+	 * The line of the file currently being loaded by each thread.
+	 */
+	private static final ThreadLocal<int[]> CURRENT_LINE = ThreadLocal.withInitial(() -> new int[1]);
+
+	private LoadDiagnostics()
+	{
+	}
+
+	private static Thread createWriter()
+	{
+		Thread thread = new Thread(() -> {
+			while (true)
+			{
+				drain();
+				LockSupport.park();
+			}
+		}, "pcgen-load-diagnostics"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.start();
+		return thread;
+	}
+
+	/**
+	 * Identify the line of the file which the current thread is loading, so
+	 * that it can be included in any diagnostics recorded for it.
+	 *
+	 * @param line The line being loaded, or 0 once the file is complete
+	 */
+	public static void setCurrentLine(int line)
+	{
+		CURRENT_LINE.get()[0] = line;
+	}
+
+	/**
+	 * Record a problem found while loading data, at the line last identified
+	 * by setCurrentLine.
+	 *
+	 * @param level The level of the problem, normally Logging.LST_ERROR or
+	 *            Logging.LST_WARNING
+	 * @param token The token being processed, or null if not known
+	 * @param sourceURI The file being loaded, or null if not known
+	 * @param message The text of the message
+	 */
+	public static void record(Level level, String token, URI sourceURI, String message)
+	{
+		record(level, token, sourceURI, CURRENT_LINE.get()[0], message);
+	}
+
+	/**
+	 * Record a problem found while loading data.
+	 *
+	 * @param level The level of the problem, normally Logging.LST_ERROR or
+	 *            Logging.LST_WARNING
+	 * @param token The token being processed, or null if not known
+	 * @param sourceURI The file being loaded, or null if not known
+	 * @param line The line of the file being loaded, or 0 if not known
+	 * @param message The text of the message
+	 */
+	public static void record(Level level, String token, URI sourceURI, int line, String message)
+	{
+		Diagnostic diagnostic = new Diagnostic(level, token, sourceURI, line, message);
+		if (sourceURI != null)
+		{
+			COUNT_BY_FILE.computeIfAbsent(sourceURI, k -> new LongAdder()).increment();
+		}
+		if (token != null)
+		{
+			COUNT_BY_TOKEN.computeIfAbsent(token, k -> new LongAdder()).increment();
+		}
+		long seq;
+		do
+		{
+			seq = HEAD.get();
+			if (seq - TAIL.get() >= CAPACITY)
+			{
+				// The writer has fallen behind, so don't wait for it
+				synchronized (DRAIN_LOCK)
+				{
+					drain();
+					write(diagnostic);
+				}
+				return;
+			}
+		}
+		while (!HEAD.compareAndSet(seq, seq + 1));
+		RING.set((int) seq & MASK, diagnostic);
+		LockSupport.unpark(WRITER);
+	}
+
+	/**
+	 * Wait until every diagnostic recorded so far has been written to the log.
+	 */
+	public static void flush()
+	{
+		long target = HEAD.get();
+		while (TAIL.get() < target)
+		{
+			drain();
+			if (TAIL.get() < target)
+			{
+				// A diagnostic has been claimed but not yet stored
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	/**
+	 * Forget the diagnostics and counts recorded so far, e.g. at the start of
+	 * a new load. Any diagnostics not yet written are written first.
+	 */
+	public static void reset()
+	{
+		flush();
+		RECORDED.clear();
+		COUNT_BY_FILE.clear();
+		COUNT_BY_TOKEN.clear();
+	}
+
+	/**
+	 * @return The diagnostics written since the last reset, in the order they
+	 *         were recorded.
+	 */
+	public static List<Diagnostic> getDiagnostics()
+	{
+		synchronized (RECORDED)
+		{
+			return new ArrayList<>(RECORDED);
+		}
+	}
+
+	/**
+	 * @param level The minimum level of interest
+	 * @return The diagnostics written since the last reset which are at the
+	 *         given level or above.
+	 */
+	public static List<Diagnostic> getDiagnostics(Level level)
+	{
+		List<Diagnostic> result = new ArrayList<>();
+		synchronized (RECORDED)
+		{
+			for (Diagnostic diagnostic : RECORDED)
+			{
+				if (diagnostic.getLevel().intValue() >= level.intValue())
+				{
+					result.add(diagnostic);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return The number of diagnostics recorded for each file since the last
+	 *         reset.
+	 */
+	public static Map<URI, Long> getCountByFile()
+	{
+		return snapshot(COUNT_BY_FILE);
+	}
+
+	/**
+	 * @return The number of diagnostics recorded for each token since the last
+	 *         reset.
+	 */
+	public static Map<String, Long> getCountByToken()
+	{
+		return snapshot(COUNT_BY_TOKEN);
+	}
+
+	private static <K> Map<K, Long> snapshot(Map<K, LongAdder> counts)
+	{
+		Map<K, Long> result = new HashMap<>();
+		counts.forEach((key, count) -> result.put(key, count.sum()));
+		return result;
+	}
+
+	/**
+	 * Write all of the diagnostics which are ready to the log.
+	 */
+	private static void drain()
+	{
+		synchronized (DRAIN_LOCK)
+		{
+			long seq = TAIL.get();
+			while (true)
+			{
+				int index = (int) seq & MASK;
+				Diagnostic diagnostic = RING.get(index);
+				if (diagnostic == null)
+				{
+					return;
+				}
+				RING.set(index, null);
+				seq++;
+				TAIL.set(seq);
+				write(diagnostic);
+			}
+		}
+	}
+
+	private static void write(Diagnostic diagnostic)
+	{
+		RECORDED.add(diagnostic);
+		if (LOGGER.isLoggable(diagnostic.getLevel()))
+		{
+			LOGGER.log(diagnostic.getLevel(), diagnostic.getMessage());
+		}
+	}
+
+	/**
+	 * A Diagnostic is a single problem found while loading data.
+	 */
+	public static final class Diagnostic
+	{
+		private final Level level;
+		private final String token;
+		private final URI sourceURI;
+		private final int line;
+		private final String message;
+
+		private Diagnostic(Level level, String token, URI sourceURI, int line, String message)
+		{
+			this.level = level;
+			this.token = token;
+			this.sourceURI = sourceURI;
+			this.line = line;
+			this.message = message;
+		}
+
+		/**
+		 * @return The level of the problem.
+		 */
+		public Level getLevel()
+		{
+			return level;
+		}
+
+		/**
+		 * @return The token being processed, or null if not known.
+		 */
+		public String getToken()
+		{
+			return token;
+		}
+
+		/**
+		 * @return The file being loaded, or null if not known.
+		 */
+		public URI getSourceURI()
+		{
+			return sourceURI;
+		}
+
+		/**
+		 * @return The line of the file being loaded, or 0 if not known.
+		 */
+		public int getLine()
+		{
+			return line;
+		}
+
+		/**
+		 * @return The text of the message.
+		 */
+		public String getMessage()
+		{
+			return message;
+		}
+
+		@Override
+		public String toString()
+		{
+			return level + " " + token + " " + sourceURI + ":" + line + " " + message;
+		}
+	}
+}
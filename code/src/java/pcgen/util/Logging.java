@@ -491,14 +491,21 @@ public final class Logging
 	 *
 	 * @param lvl        The detail level of the message
 	 * @param msg        String message
-	 * @param stackTrace The stack trace
+	 * @param stackTrace The stack trace, or null if it was not captured
 	 */
 	public static void log(Level lvl, String msg, StackTraceElement[] stackTrace)
 	{
 		Logger l = getLogger();
 		if (l.isLoggable(lvl))
 		{
-			l.log(lvl, msg, stackTrace);
+			if (stackTrace == null)
+			{
+				l.log(lvl, msg);
+			}
+			else
+			{
+				l.log(lvl, msg, stackTrace);
+			}
 		}
 	}
 
@@ -674,13 +681,37 @@ public final class Logging
 		{
 			if (l.isLoggable(msg.level))
 			{
-				l.log(msg.level, msg.message, msg.stackTrace);
+				if (msg.stackTrace == null)
+				{
+					l.log(msg.level, msg.message);
+				}
+				else
+				{
+					l.log(msg.level, msg.message, msg.stackTrace);
+				}
 			}
 
 		}
 		queuedMessageMark = -1;
 	}
 
+	/**
+	 * Record the queued parse messages as load diagnostics for the token that
+	 * produced them. The messages are written to the log in the background
+	 * rather than by the loading thread.
+	 *
+	 * @param token The token which was being processed
+	 * @param sourceURI The file which was being loaded
+	 */
+	public static void replayParsedMessages(String token, URI sourceURI)
+	{
+		for (QueuedMessage msg : queuedMessages)
+		{
+			LoadDiagnostics.record(msg.level, token, sourceURI, msg.message);
+		}
+		queuedMessageMark = -1;
+	}
+
 	public static void clearParseMessages()
 	{
 		queuedMessageMark = -1;
@@ -697,7 +728,7 @@ public final class Logging
 		{
 			level = lvl;
 			message = msg;
-			stackTrace = Thread.currentThread().getStackTrace();
+			stackTrace = debugMode ? Thread.currentThread().getStackTrace() : null;
 		}
 
 		/*
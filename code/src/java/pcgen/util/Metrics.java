@@ -0,0 +1,298 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics records how often, and for how long, the parts of the core which
+ * dominate the time spent on a character are run: facet change events, PRE
+ * tests, BONUS calculation, variable solving, formula functions and output
+ * tokens. This allows the time spent on a slow character to be traced to the
+ * data responsible without attaching a profiler.
+ * <p>
+ * Recording is off unless enabled, either by the --metrics command line
+ * option or from the debug dialog. While off, {@link #start()} costs a single
+ * volatile read and {@link #stop(Category, Object, long)} does nothing.
+ * <p>
+ * Times are inclusive, so the time of a facet event includes the events fired
+ * by its listeners and the time of a PREMULT includes the PRE tests within it.
+ * <p>
+ * A typical use is:
+ * <pre>
+ * long start = Metrics.start();
+ * try
+ * {
+ *     ...
+ * }
+ * finally
+ * {
+ *     Metrics.stop(Metrics.Category.PREREQ, prereq.getKind(), start);
+ * }
+ * </pre>
+ */
+public final class Metrics
+{
+	/**
+	 * The value returned by start() when recording is off.
+	 */
+	private static final long NOT_STARTED = Long.MIN_VALUE;
+
+	private static final Map<Category, Map<Object, Timer>> TIMERS = new EnumMap<>(Category.class);
+
+	static
+	{
+		for (Category category : Category.values())
+		{
+			TIMERS.put(category, new ConcurrentHashMap<>());
+		}
+	}
+
+	private static volatile boolean enabled = false;
+
+	private Metrics()
+	{
+	}
+
+	/**
+	 * The kinds of work measured, each of which is broken down by its own key.
+	 */
+	public enum Category
+	{
+		/**
+		 * DataFacetChangeEvents sent to listeners, keyed by the class of the
+		 * facet sending them.
+		 */
+		FACET("Facet events"),
+
+		/**
+		 * Prerequisite tests, keyed by the kind of PRE token.
+		 */
+		PREREQ("PRE tests"),
+
+		/**
+		 * Calculation of active bonuses, keyed by the BONUS type.
+		 */
+		BONUS("BONUS calculations"),
+
+		/**
+		 * Solving a variable after a modifier to it changes, keyed by the
+		 * variable name.
+		 */
+		SOLVER("Variable solves"),
+
+		/**
+		 * Evaluation of formula functions, keyed by the function name.
+		 */
+		FUNCTION("Formula functions"),
+
+		/**
+		 * Evaluation of output tokens in an export, keyed by the token name.
+		 */
+		EXPORT_TOKEN("Export tokens");
+
+		private final String title;
+
+		Category(String title)
+		{
+			this.title = title;
+		}
+
+		/**
+		 * @return The heading under which the category is reported
+		 */
+		public String getTitle()
+		{
+			return title;
+		}
+	}
+
+	/**
+	 * @return true if metrics are being recorded
+	 */
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Start or stop recording metrics. Metrics already recorded are kept.
+	 *
+	 * @param enable true to record metrics
+	 */
+	public static void setEnabled(boolean enable)
+	{
+		enabled = enable;
+	}
+
+	/**
+	 * Start timing a unit of work.
+	 *
+	 * @return The value to be passed to stop() once the work is complete
+	 */
+	public static long start()
+	{
+		return enabled ? System.nanoTime() : NOT_STARTED;
+	}
+
+	/**
+	 * Record a unit of work started by start(). Does nothing if recording was
+	 * off when the work started.
+	 *
+	 * @param category The kind of work
+	 * @param key Identifies what the work was for. Classes are reported by
+	 *            their simple name, other objects by their String form.
+	 * @param start The value returned by start()
+	 */
+	public static void stop(Category category, Object key, long start)
+	{
+		if (start != NOT_STARTED)
+		{
+			long elapsed = System.nanoTime() - start;
+			Object timerKey = (key == null) ? "(none)" : key;
+			TIMERS.get(category).computeIfAbsent(timerKey, Timer::new).record(elapsed);
+		}
+	}
+
+	/**
+	 * Forget the metrics recorded so far.
+	 */
+	public static void reset()
+	{
+		for (Map<Object, Timer> timers : TIMERS.values())
+		{
+			timers.clear();
+		}
+	}
+
+	/**
+	 * Returns the timers of a category, with the most total time first.
+	 *
+	 * @param category The category of interest
+	 * @return The timers recorded for the category
+	 */
+	public static List<Timer> getTimers(Category category)
+	{
+		List<Timer> timers = new ArrayList<>(TIMERS.get(category).values());
+		timers.sort(Comparator.comparingLong(Timer::getTotalNanos).reversed());
+		return timers;
+	}
+
+	/**
+	 * Returns a plain text report of the metrics recorded so far, one section
+	 * per category which has been recorded.
+	 *
+	 * @return The report
+	 */
+	public static String getReport()
+	{
+		StringBuilder sb = new StringBuilder(4096);
+		String lineSep = System.lineSeparator();
+		for (Category category : Category.values())
+		{
+			List<Timer> timers = getTimers(category);
+			if (timers.isEmpty())
+			{
+				continue;
+			}
+			sb.append(String.format(Locale.ROOT, "%-50s %10s %12s %10s %10s", category.getTitle(), "Count",
+				"Total ms", "Mean us", "Max us")).append(lineSep);
+			for (Timer timer : timers)
+			{
+				long count = timer.getCount();
+				sb.append(String.format(Locale.ROOT, "  %-48s %10d %12.3f %10.2f %10.2f", timer.getName(), count,
+					timer.getTotalNanos() / 1.0e6, (count == 0) ? 0.0 : timer.getTotalNanos() / 1.0e3 / count,
+					timer.getMaxNanos() / 1.0e3)).append(lineSep);
+			}
+			sb.append(lineSep);
+		}
+		if (sb.isEmpty())
+		{
+			sb.append("No metrics recorded").append(lineSep);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The count and time of the work recorded for one key of a category.
+	 */
+	public static final class Timer
+	{
+		private final String name;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+		private Timer(Object key)
+		{
+			if (key instanceof Class<?> cl)
+			{
+				name = cl.getSimpleName().isEmpty() ? cl.getName() : cl.getSimpleName();
+			}
+			else
+			{
+				name = String.valueOf(key);
+			}
+		}
+
+		private void record(long elapsed)
+		{
+			count.increment();
+			totalNanos.add(elapsed);
+			maxNanos.accumulate(elapsed);
+		}
+
+		/**
+		 * @return The name of the key the work was recorded for
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * @return The number of times the work was done
+		 */
+		public long getCount()
+		{
+			return count.sum();
+		}
+
+		/**
+		 * @return The total time taken, in nanoseconds
+		 */
+		public long getTotalNanos()
+		{
+			return totalNanos.sum();
+		}
+
+		/**
+		 * @return The longest time taken by one unit of the work, in nanoseconds
+		 */
+		public long getMaxNanos()
+		{
+			return maxNanos.get();
+		}
+	}
+}
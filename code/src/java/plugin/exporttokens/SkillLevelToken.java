@@ -43,6 +43,12 @@ public class SkillLevelToken extends SkillToken
 		return TOKEN_NAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	@Override
 	public String getToken(String tokenSource, PlayerCharacter pc, ExportHandler eh)
 	{
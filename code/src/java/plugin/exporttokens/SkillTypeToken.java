@@ -48,6 +48,12 @@ public class SkillTypeToken extends SkillToken
 		return TOKEN_NAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	@Override
 	public String getToken(String tokenSource, PlayerCharacter pc, ExportHandler eh)
 	{
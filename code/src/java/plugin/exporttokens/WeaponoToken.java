@@ -48,6 +48,12 @@ public class WeaponoToken extends WeaponToken
 		return TOKEN_NAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	/**
 	 * Get the value of the supplied output token.
 	 *
@@ -45,6 +45,12 @@ public class WeaponpToken extends WeaponToken
 		return TOKEN_NAME;
 	}
 
+	@Override
+	public boolean isCacheable()
+	{
+		return true;
+	}
+
 	/**
 	 * Get the value of the token.
 	 *
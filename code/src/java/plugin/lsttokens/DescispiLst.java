@@ -20,9 +20,10 @@ package plugin.lsttokens;
 import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
-public class DescispiLst extends AbstractYesNoToken<CDOMObject> implements CDOMPrimaryToken<CDOMObject>
+public class DescispiLst extends AbstractYesNoToken<CDOMObject> implements CDOMPrimaryToken<CDOMObject>, AtomicToken
 {
 
 	@Override
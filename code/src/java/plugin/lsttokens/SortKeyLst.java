@@ -25,6 +25,7 @@ import pcgen.cdom.base.SortKeyRequired;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.PostValidationToken;
 import pcgen.util.Logging;
@@ -36,7 +37,7 @@ import pcgen.util.Logging;
  * 
  */
 public class SortKeyLst extends AbstractStringToken<CDOMObject>
-		implements CDOMPrimaryToken<CDOMObject>, PostValidationToken<CDOMObject>
+		implements CDOMPrimaryToken<CDOMObject>, PostValidationToken<CDOMObject>, AtomicToken
 {
 
 	@Override
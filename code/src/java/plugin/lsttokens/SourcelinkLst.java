@@ -8,10 +8,11 @@ import pcgen.cdom.enumeration.StringKey;
 import pcgen.core.Campaign;
 import pcgen.persistence.lst.InstallLstToken;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 public class SourcelinkLst extends AbstractStringToken<CDOMObject>
-		implements CDOMPrimaryToken<CDOMObject>, InstallLstToken
+		implements CDOMPrimaryToken<CDOMObject>, InstallLstToken, AtomicToken
 {
 
 	@Override
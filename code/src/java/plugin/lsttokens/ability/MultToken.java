@@ -22,6 +22,7 @@ import pcgen.core.Ability;
 import pcgen.core.AbilityUtilities;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.PostDeferredToken;
 import pcgen.util.Logging;
@@ -30,7 +31,7 @@ import pcgen.util.Logging;
  * Deals with the MULT token
  */
 public class MultToken extends AbstractYesNoToken<Ability>
-		implements CDOMPrimaryToken<Ability>, PostDeferredToken<Ability>
+		implements CDOMPrimaryToken<Ability>, PostDeferredToken<Ability>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.ability;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.Ability;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Deal with STACK token
  */
-public class StackToken extends AbstractYesNoToken<Ability> implements CDOMPrimaryToken<Ability>
+public class StackToken extends AbstractYesNoToken<Ability> implements CDOMPrimaryToken<Ability>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.campaign;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.core.Campaign;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with HELP Token
  */
-public class HelpToken extends AbstractStringToken<Campaign> implements CDOMPrimaryToken<Campaign>
+public class HelpToken extends AbstractStringToken<Campaign> implements CDOMPrimaryToken<Campaign>, AtomicToken
 {
 
 	@Override
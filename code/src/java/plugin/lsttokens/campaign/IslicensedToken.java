@@ -20,12 +20,13 @@ package plugin.lsttokens.campaign;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.Campaign;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with ISLICENSED Token
  */
-public class IslicensedToken extends AbstractYesNoToken<Campaign> implements CDOMPrimaryToken<Campaign>
+public class IslicensedToken extends AbstractYesNoToken<Campaign> implements CDOMPrimaryToken<Campaign>, AtomicToken
 {
 
 	@Override
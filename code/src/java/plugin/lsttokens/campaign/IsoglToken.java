@@ -20,12 +20,13 @@ package plugin.lsttokens.campaign;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.Campaign;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with ISOGL Token
  */
-public class IsoglToken extends AbstractYesNoToken<Campaign> implements CDOMPrimaryToken<Campaign>
+public class IsoglToken extends AbstractYesNoToken<Campaign> implements CDOMPrimaryToken<Campaign>, AtomicToken
 {
 
 	@Override
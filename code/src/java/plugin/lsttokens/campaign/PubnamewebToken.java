@@ -23,13 +23,14 @@ import pcgen.cdom.enumeration.StringKey;
 import pcgen.core.Campaign;
 import pcgen.persistence.lst.InstallLstToken;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with PUBNAMEWEB Token
  */
 public class PubnamewebToken extends AbstractStringToken<Campaign>
-		implements CDOMPrimaryToken<Campaign>, InstallLstToken
+		implements CDOMPrimaryToken<Campaign>, InstallLstToken, AtomicToken
 {
 
 	@Override
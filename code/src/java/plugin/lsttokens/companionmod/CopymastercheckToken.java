@@ -20,12 +20,14 @@ package plugin.lsttokens.companionmod;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.core.character.CompanionMod;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with COPYMASTERCHECK Token
  */
-public class CopymastercheckToken extends AbstractStringToken<CompanionMod> implements CDOMPrimaryToken<CompanionMod>
+public class CopymastercheckToken extends AbstractStringToken<CompanionMod>
+		implements CDOMPrimaryToken<CompanionMod>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,14 @@ package plugin.lsttokens.companionmod;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.core.character.CompanionMod;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with COPYMASTERHP Token
  */
-public class CopymasterhdToken extends AbstractStringToken<CompanionMod> implements CDOMPrimaryToken<CompanionMod>
+public class CopymasterhdToken extends AbstractStringToken<CompanionMod>
+		implements CDOMPrimaryToken<CompanionMod>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.companionmod;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.character.CompanionMod;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with HD Token
  */
-public class HdToken extends AbstractIntToken<CompanionMod> implements CDOMPrimaryToken<CompanionMod>
+public class HdToken extends AbstractIntToken<CompanionMod> implements CDOMPrimaryToken<CompanionMod>, AtomicToken
 {
 	@Override
 	public String getTokenName()
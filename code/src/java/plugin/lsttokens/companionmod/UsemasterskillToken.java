@@ -20,12 +20,14 @@ package plugin.lsttokens.companionmod;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.character.CompanionMod;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with USEMASTERSKILL Token
  */
-public class UsemasterskillToken extends AbstractYesNoToken<CompanionMod> implements CDOMPrimaryToken<CompanionMod>
+public class UsemasterskillToken extends AbstractYesNoToken<CompanionMod>
+		implements CDOMPrimaryToken<CompanionMod>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.equipment;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.Equipment;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Deals with BASEQTY token
  */
-public class BaseqtyToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>
+public class BaseqtyToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>, AtomicToken
 {
 	@Override
 	public String getTokenName()
@@ -23,13 +23,14 @@ import pcgen.cdom.util.ControlUtilities;
 import pcgen.core.Equipment;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.ParseResult;
 
 /**
  * Deals with EDR token
  */
-public class EdrToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>
+public class EdrToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>, AtomicToken
 {
 
 	@Override
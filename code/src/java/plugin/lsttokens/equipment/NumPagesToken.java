@@ -21,6 +21,7 @@ package plugin.lsttokens.equipment;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.Equipment;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
@@ -29,7 +30,7 @@ import pcgen.rules.persistence.token.CDOMPrimaryToken;
  * (Tue, 14 Mar 2006) $
  * 
  */
-public class NumPagesToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>
+public class NumPagesToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>, AtomicToken
 {
 
 	@Override
@@ -23,6 +23,7 @@ import pcgen.cdom.util.ControlUtilities;
 import pcgen.core.Equipment;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.ParseResult;
 import pcgen.util.Logging;
@@ -30,7 +31,7 @@ import pcgen.util.Logging;
 /**
  * Deals with RANGE token
  */
-public class RangeToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>
+public class RangeToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>, AtomicToken
 {
 
 	@Override
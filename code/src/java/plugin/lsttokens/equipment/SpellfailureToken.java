@@ -23,6 +23,7 @@ import pcgen.cdom.util.ControlUtilities;
 import pcgen.core.Equipment;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.ComplexParseResult;
 import pcgen.rules.persistence.token.ParseResult;
@@ -30,7 +31,7 @@ import pcgen.rules.persistence.token.ParseResult;
 /**
  * Deals with SPELLFAILURE token
  */
-public class SpellfailureToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>
+public class SpellfailureToken extends AbstractIntToken<Equipment> implements CDOMPrimaryToken<Equipment>, AtomicToken
 {
 	@Override
 	public String getTokenName()
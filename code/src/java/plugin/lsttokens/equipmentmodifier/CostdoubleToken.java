@@ -20,13 +20,14 @@ package plugin.lsttokens.equipmentmodifier;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.EquipmentModifier;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Deals with COSTDOUBLE token
  */
 public class CostdoubleToken extends AbstractYesNoToken<EquipmentModifier>
-		implements CDOMPrimaryToken<EquipmentModifier>
+		implements CDOMPrimaryToken<EquipmentModifier>, AtomicToken
 {
 
 	@Override
@@ -23,6 +23,7 @@ import pcgen.cdom.util.ControlUtilities;
 import pcgen.core.EquipmentModifier;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.ParseResult;
 
@@ -30,7 +31,7 @@ import pcgen.rules.persistence.token.ParseResult;
  * Deals with FUMBLERANGE token
  */
 public class FumblerangeToken extends AbstractStringToken<EquipmentModifier>
-		implements CDOMPrimaryToken<EquipmentModifier>
+		implements CDOMPrimaryToken<EquipmentModifier>, AtomicToken
 {
 
 	@Override
@@ -20,13 +20,15 @@ package plugin.lsttokens.equipmentmodifier;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.EquipmentModifier;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.ParseResult;
 
 /**
  * Deals with PLUS token
  */
-public class PlusToken extends AbstractIntToken<EquipmentModifier> implements CDOMPrimaryToken<EquipmentModifier>
+public class PlusToken extends AbstractIntToken<EquipmentModifier>
+		implements CDOMPrimaryToken<EquipmentModifier>, AtomicToken
 {
 
 	@Override
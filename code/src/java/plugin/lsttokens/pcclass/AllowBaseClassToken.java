@@ -20,6 +20,7 @@ package plugin.lsttokens.pcclass;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.PCClass;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
@@ -27,7 +28,7 @@ import pcgen.rules.persistence.token.CDOMPrimaryToken;
  * Added for [ 1849571 ] New Class tag: ALLOWBASECLASS:x
  * 
  */
-public class AllowBaseClassToken extends AbstractYesNoToken<PCClass> implements CDOMPrimaryToken<PCClass>
+public class AllowBaseClassToken extends AbstractYesNoToken<PCClass> implements CDOMPrimaryToken<PCClass>, AtomicToken
 {
 	@Override
 	public String getTokenName()
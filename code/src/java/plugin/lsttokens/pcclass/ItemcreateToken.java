@@ -20,12 +20,13 @@ package plugin.lsttokens.pcclass;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.core.PCClass;
 import pcgen.rules.persistence.token.AbstractStringToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with ITEMCREATE Token
  */
-public class ItemcreateToken extends AbstractStringToken<PCClass> implements CDOMPrimaryToken<PCClass>
+public class ItemcreateToken extends AbstractStringToken<PCClass> implements CDOMPrimaryToken<PCClass>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,14 @@ package plugin.lsttokens.pcclass;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.PCClass;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with KNOWNSPELLSFROMSPECIALTY Token
  */
-public class KnownspellsfromspecialtyToken extends AbstractIntToken<PCClass> implements CDOMPrimaryToken<PCClass>
+public class KnownspellsfromspecialtyToken extends AbstractIntToken<PCClass>
+		implements CDOMPrimaryToken<PCClass>, AtomicToken
 {
 
 	@Override
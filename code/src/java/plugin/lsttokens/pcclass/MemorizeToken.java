@@ -20,12 +20,13 @@ package plugin.lsttokens.pcclass;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.PCClass;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with MEMORIZE Token
  */
-public class MemorizeToken extends AbstractYesNoToken<PCClass> implements CDOMPrimaryToken<PCClass>
+public class MemorizeToken extends AbstractYesNoToken<PCClass> implements CDOMPrimaryToken<PCClass>, AtomicToken
 {
 
 	@Override
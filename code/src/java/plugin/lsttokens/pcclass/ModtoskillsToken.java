@@ -20,12 +20,13 @@ package plugin.lsttokens.pcclass;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.PCClass;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with MODTOSKILLS Token
  */
-public class ModtoskillsToken extends AbstractYesNoToken<PCClass> implements CDOMPrimaryToken<PCClass>
+public class ModtoskillsToken extends AbstractYesNoToken<PCClass> implements CDOMPrimaryToken<PCClass>, AtomicToken
 {
 
 	@Override
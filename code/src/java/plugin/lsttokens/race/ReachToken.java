@@ -23,13 +23,14 @@ import pcgen.cdom.util.ControlUtilities;
 import pcgen.core.Race;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.ParseResult;
 
 /**
  * Class deals with REACH Token
  */
-public class ReachToken extends AbstractIntToken<Race> implements CDOMPrimaryToken<Race>
+public class ReachToken extends AbstractIntToken<Race> implements CDOMPrimaryToken<Race>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.race;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.Race;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with SKILLMULT Token
  */
-public class SkillmultToken extends AbstractIntToken<Race> implements CDOMPrimaryToken<Race>
+public class SkillmultToken extends AbstractIntToken<Race> implements CDOMPrimaryToken<Race>, AtomicToken
 {
 
 	@Override
@@ -23,6 +23,7 @@ import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.SizeAdjustment;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.PostValidationToken;
 import pcgen.util.Logging;
@@ -31,7 +32,7 @@ import pcgen.util.Logging;
  * Class deals with ISDEFAULTSIZE Token
  */
 public class IsdefaultsizeToken extends AbstractYesNoToken<SizeAdjustment>
-		implements CDOMPrimaryToken<SizeAdjustment>, PostValidationToken<SizeAdjustment>
+		implements CDOMPrimaryToken<SizeAdjustment>, PostValidationToken<SizeAdjustment>, AtomicToken
 {
 
 	@Override
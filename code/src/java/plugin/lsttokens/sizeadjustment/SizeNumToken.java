@@ -25,6 +25,7 @@ import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.SizeAdjustment;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.PostValidationToken;
 import pcgen.util.Logging;
@@ -33,7 +34,7 @@ import pcgen.util.Logging;
  * Class deals with LEGS Token
  */
 public class SizeNumToken extends AbstractIntToken<SizeAdjustment>
-		implements CDOMPrimaryToken<SizeAdjustment>, PostValidationToken<SizeAdjustment>
+		implements CDOMPrimaryToken<SizeAdjustment>, PostValidationToken<SizeAdjustment>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.skill;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.Skill;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with EXCLUSIVE Token
  */
-public class ExclusiveToken extends AbstractYesNoToken<Skill> implements CDOMPrimaryToken<Skill>
+public class ExclusiveToken extends AbstractYesNoToken<Skill> implements CDOMPrimaryToken<Skill>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.spell;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.spell.Spell;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with XPCOST Token
  */
-public class XpcostToken extends AbstractIntToken<Spell> implements CDOMPrimaryToken<Spell>
+public class XpcostToken extends AbstractIntToken<Spell> implements CDOMPrimaryToken<Spell>, AtomicToken
 {
 
 	/**
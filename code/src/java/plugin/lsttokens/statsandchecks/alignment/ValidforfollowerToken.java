@@ -20,12 +20,14 @@ package plugin.lsttokens.statsandchecks.alignment;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.PCAlignment;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with VALIDFORFOLLOWER Token
  */
-public class ValidforfollowerToken extends AbstractYesNoToken<PCAlignment> implements CDOMPrimaryToken<PCAlignment>
+public class ValidforfollowerToken extends AbstractYesNoToken<PCAlignment>
+		implements CDOMPrimaryToken<PCAlignment>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.statsandchecks.stat;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.PCStat;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with PENALTYVAR Token
  */
-public class RolledToken extends AbstractYesNoToken<PCStat> implements CDOMPrimaryToken<PCStat>
+public class RolledToken extends AbstractYesNoToken<PCStat> implements CDOMPrimaryToken<PCStat>, AtomicToken
 {
 
 	@Override
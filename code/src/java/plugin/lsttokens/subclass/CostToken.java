@@ -20,12 +20,13 @@ package plugin.lsttokens.subclass;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.SubClass;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with COST Token
  */
-public class CostToken extends AbstractIntToken<SubClass> implements CDOMPrimaryToken<SubClass>
+public class CostToken extends AbstractIntToken<SubClass> implements CDOMPrimaryToken<SubClass>, AtomicToken
 {
 
 	@Override
@@ -20,12 +20,13 @@ package plugin.lsttokens.subclass;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.SubClass;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with PROHIBITCOST Token
  */
-public class ProhibitcostToken extends AbstractIntToken<SubClass> implements CDOMPrimaryToken<SubClass>
+public class ProhibitcostToken extends AbstractIntToken<SubClass> implements CDOMPrimaryToken<SubClass>, AtomicToken
 {
 
 	@Override
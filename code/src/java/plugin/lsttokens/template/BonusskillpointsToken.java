@@ -20,12 +20,14 @@ package plugin.lsttokens.template;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.core.PCTemplate;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with BONUSSKILLPOINTS Token
  */
-public class BonusskillpointsToken extends AbstractIntToken<PCTemplate> implements CDOMPrimaryToken<PCTemplate>
+public class BonusskillpointsToken extends AbstractIntToken<PCTemplate>
+		implements CDOMPrimaryToken<PCTemplate>, AtomicToken
 {
 
 	@Override
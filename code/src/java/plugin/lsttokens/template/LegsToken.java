@@ -23,13 +23,14 @@ import pcgen.cdom.util.ControlUtilities;
 import pcgen.core.PCTemplate;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.token.AbstractIntToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 import pcgen.rules.persistence.token.ParseResult;
 
 /**
  * Class deals with LEGS Token
  */
-public class LegsToken extends AbstractIntToken<PCTemplate> implements CDOMPrimaryToken<PCTemplate>
+public class LegsToken extends AbstractIntToken<PCTemplate> implements CDOMPrimaryToken<PCTemplate>, AtomicToken
 {
 
 	@Override
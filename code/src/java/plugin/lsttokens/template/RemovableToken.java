@@ -20,12 +20,13 @@ package plugin.lsttokens.template;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.core.PCTemplate;
 import pcgen.rules.persistence.token.AbstractYesNoToken;
+import pcgen.rules.persistence.token.AtomicToken;
 import pcgen.rules.persistence.token.CDOMPrimaryToken;
 
 /**
  * Class deals with REMOVABLE Token
  */
-public class RemovableToken extends AbstractYesNoToken<PCTemplate> implements CDOMPrimaryToken<PCTemplate>
+public class RemovableToken extends AbstractYesNoToken<PCTemplate> implements CDOMPrimaryToken<PCTemplate>, AtomicToken
 {
 
 	@Override
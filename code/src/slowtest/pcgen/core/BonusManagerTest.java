@@ -112,4 +112,27 @@ class BonusManagerTest extends AbstractCharacterTestCase
 		}
 	}
 
+	/**
+	 * Validate that the total for a bonus includes each of its typed bonuses, but
+	 * not those of another bonus whose name starts with the same text.
+	 */
+	@Test
+	void testTotalIncludesTypedBonuses()
+	{
+		PCTemplate testObj = TestHelper.makeTemplate("Typed");
+		LoadContext context = Globals.getContext();
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(context, "COMBAT|AC|2|TYPE=Armor"));
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(context, "COMBAT|AC|1|TYPE=Luck"));
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(context, "COMBAT|ACCHECK|-3"));
+
+		PlayerCharacter pc = getCharacter();
+		pc.addTemplate(testObj);
+		pc.calcActiveBonuses();
+
+		assertEquals(3.0, pc.getTotalBonusTo("COMBAT", "AC"), 0.0001, "Incorrect bonus total");
+		assertEquals(2.0, pc.getBonusDueToType("COMBAT", "AC", "Armor"), 0.0001, "Incorrect typed bonus total");
+		assertEquals(-3.0, pc.getTotalBonusTo("COMBAT", "ACCHECK"), 0.0001, "Incorrect bonus total");
+		assertEquals(0.0, pc.getTotalBonusTo("COMBAT", "BAB"), 0.0001, "Incorrect bonus total");
+	}
+
 }
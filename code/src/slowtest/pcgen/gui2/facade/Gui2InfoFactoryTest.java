@@ -17,6 +17,8 @@
  */
 package pcgen.gui2.facade;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import pcgen.AbstractCharacterTestCase;
@@ -92,6 +94,29 @@ class Gui2InfoFactoryTest extends AbstractCharacterTestCase
 				+ "<b>Desc:</b>&nbsp;CE Desc<br><b>Source:</b>&nbsp;</html>", infoFactory.getHTMLInfo(tbf), "Unexpected temp bonus result");
 	}	
 
+	/**
+	 * Verify getHTMLInfo reuses the info until the character changes.
+	 */
+	@Test
+	void testGetHTMLInfoCachedUntilCharacterChanges()
+	{
+		PlayerCharacter pc = getCharacter();
+		Gui2InfoFactory infoFactory = new Gui2InfoFactory(pc);
+
+		Ability ability =
+				TestHelper.makeAbility("Alertness", BuildUtilities.getFeatCat(), "General");
+		Globals.getContext().commit();
+
+		String info = infoFactory.getHTMLInfo(ability);
+		assertTrue(info.contains("Alertness"), "Unexpected ability info " + info);
+		assertSame(info, infoFactory.getHTMLInfo(ability), "Info should be reused while the character is unchanged");
+
+		pc.setDirty(true);
+		String rebuilt = infoFactory.getHTMLInfo(ability);
+		assertNotSame(info, rebuilt, "Info should be rebuilt once the character changes");
+		assertEquals(info, rebuilt, "Rebuilt info should match for an unchanged ability");
+	}
+
 	@BeforeEach
 	@Override
 	public void setUp() throws Exception
@@ -0,0 +1,125 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.gui2.facade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import pcgen.AbstractCharacterTestCase;
+import pcgen.cdom.base.FormulaFactory;
+import pcgen.cdom.enumeration.ObjectKey;
+import pcgen.cdom.util.CControl;
+import pcgen.core.Kit;
+import pcgen.core.PlayerCharacter;
+import pcgen.core.QualifiedObject;
+import pcgen.core.SettingsHandler;
+import pcgen.gui2.facade.KitEvaluator.KitEvaluation;
+import pcgen.output.channel.ChannelUtilities;
+import pcgen.util.enumeration.Visibility;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class {@code KitEvaluatorTest} verifies that KitEvaluator keeps the
+ * visibility and cost of each kit until the character or the gear buy rate
+ * changes.
+ */
+class KitEvaluatorTest extends AbstractCharacterTestCase
+{
+	private int buyRate;
+	private PlayerCharacter pc;
+	private KitEvaluator evaluator;
+	private Kit kit;
+
+	@BeforeEach
+	@Override
+	public void setUp() throws Exception
+	{
+		super.setUp();
+		buyRate = SettingsHandler.getGearTab_BuyRate();
+		SettingsHandler.setGearTab_BuyRate(100);
+		pc = getCharacter();
+		evaluator = new KitEvaluator(pc);
+		kit = new Kit();
+		kit.setName("Adventurer");
+		kit.put(ObjectKey.KIT_TOTAL_COST, new QualifiedObject<>(FormulaFactory.getFormulaFor(200)));
+	}
+
+	@AfterEach
+	@Override
+	public void tearDown() throws Exception
+	{
+		SettingsHandler.setGearTab_BuyRate(buyRate);
+		super.tearDown();
+	}
+
+	@Test
+	void testEvaluationKeptWhileCharacterUnchanged()
+	{
+		KitEvaluation evaluation = evaluator.evaluate(kit);
+		assertTrue(evaluation.isVisible());
+		assertEquals(0, new BigDecimal(200).compareTo(evaluation.getTotalCost()));
+		assertSame(evaluation, evaluator.evaluate(kit));
+	}
+
+	@Test
+	void testEvaluationDroppedWhenCharacterChanges()
+	{
+		KitEvaluation evaluation = evaluator.evaluate(kit);
+		kit.put(ObjectKey.VISIBILITY, Visibility.HIDDEN);
+		assertSame(evaluation, evaluator.evaluate(kit));
+
+		pc.setDirty(true);
+		KitEvaluation changed = evaluator.evaluate(kit);
+		assertNotSame(evaluation, changed);
+		assertFalse(changed.isVisible());
+	}
+
+	@Test
+	void testEvaluationDroppedWhenBuyRateChanges()
+	{
+		evaluator.evaluate(kit);
+		SettingsHandler.setGearTab_BuyRate(50);
+		assertEquals(0, new BigDecimal(100).compareTo(evaluator.evaluate(kit).getTotalCost()));
+	}
+
+	@Test
+	void testCanAffordReadsCurrentGold()
+	{
+		ChannelUtilities.setControlledChannel(pc.getCharID(), CControl.GOLDINPUT, new BigDecimal("150"));
+		assertFalse(evaluator.canAfford(kit));
+
+		ChannelUtilities.setControlledChannel(pc.getCharID(), CControl.GOLDINPUT, new BigDecimal("250"));
+		assertTrue(evaluator.canAfford(kit));
+	}
+
+	@Test
+	void testKitWithoutCost()
+	{
+		Kit free = new Kit();
+		free.setName("Free");
+		assertNull(evaluator.evaluate(free).getTotalCost());
+		assertTrue(evaluator.canAfford(free));
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import pcgen.cdom.enumeration.IntegerKey;
+import pcgen.cdom.enumeration.ObjectKey;
+import pcgen.core.Skill;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that compacting the key storage of a CDOMObject preserves its values
+ * and that it can still be modified afterwards.
+ */
+class CDOMObjectCompactTest
+{
+
+	@Test
+	void testValuesPreserved() throws CloneNotSupportedException
+	{
+		Skill skill = new Skill();
+		skill.put(IntegerKey.AC_CHECK, 2);
+		skill.put(ObjectKey.EXCLUSIVE, Boolean.TRUE);
+		CDOMObject reference = skill.clone();
+
+		skill.compactKeyStorage();
+
+		assertEquals(Integer.valueOf(2), skill.get(IntegerKey.AC_CHECK));
+		assertEquals(Boolean.TRUE, skill.get(ObjectKey.EXCLUSIVE));
+		assertNull(skill.get(IntegerKey.CASTING_THRESHOLD));
+		assertTrue(skill.isCDOMEqual(reference));
+	}
+
+	@Test
+	void testModifiableAfterCompact()
+	{
+		Skill skill = new Skill();
+		skill.put(IntegerKey.AC_CHECK, 2);
+		skill.put(IntegerKey.CASTING_THRESHOLD, 3);
+		skill.compactKeyStorage();
+
+		assertEquals(Integer.valueOf(2), skill.put(IntegerKey.AC_CHECK, 4));
+		assertEquals(Integer.valueOf(4), skill.get(IntegerKey.AC_CHECK));
+		assertEquals(Integer.valueOf(3), skill.remove(IntegerKey.CASTING_THRESHOLD));
+		assertFalse(skill.containsKey(IntegerKey.CASTING_THRESHOLD));
+		assertNull(skill.remove(IntegerKey.CASTING_THRESHOLD));
+
+		skill.compactKeyStorage();
+		assertEquals(Integer.valueOf(4), skill.remove(IntegerKey.AC_CHECK));
+		assertTrue(skill.getIntegerKeys().isEmpty());
+	}
+
+	@Test
+	void testNullKeyAfterCompact()
+	{
+		Skill skill = new Skill();
+		skill.put(IntegerKey.AC_CHECK, 2);
+		skill.put(ObjectKey.EXCLUSIVE, Boolean.TRUE);
+		skill.compactKeyStorage();
+
+		assertFalse(skill.containsKey((IntegerKey) null));
+		assertNull(skill.get((IntegerKey) null));
+		assertNull(skill.remove((IntegerKey) null));
+		assertFalse(skill.containsKey((ObjectKey<?>) null));
+		assertEquals(Integer.valueOf(2), skill.get(IntegerKey.AC_CHECK));
+	}
+
+	@Test
+	void testNullKeyNotCompacted()
+	{
+		Skill skill = new Skill();
+		skill.put((IntegerKey) null, 1);
+		skill.put(IntegerKey.AC_CHECK, 2);
+		skill.compactKeyStorage();
+
+		assertTrue(skill.containsKey((IntegerKey) null));
+		assertEquals(Integer.valueOf(1), skill.get((IntegerKey) null));
+		assertEquals(Integer.valueOf(2), skill.get(IntegerKey.AC_CHECK));
+	}
+}
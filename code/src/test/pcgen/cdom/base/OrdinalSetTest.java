@@ -0,0 +1,56 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that OrdinalSet combines collections as retainAll and removeAll on a
+ * copy of the universe would.
+ */
+class OrdinalSetTest
+{
+	@Test
+	void testRetainAll()
+	{
+		OrdinalSet<String> set = new OrdinalSet<>(List.of("Acrobatics", "Bluff", "Climb", "Diplomacy"));
+		set.retainAll(List.of("Diplomacy", "Bluff", "Swim"));
+		assertEquals(List.of("Bluff", "Diplomacy"), set.toList());
+		set.retainAll(Set.of("Bluff", "Climb"));
+		assertEquals(List.of("Bluff"), set.toList());
+		assertFalse(set.isEmpty());
+		set.retainAll(List.of());
+		assertTrue(set.isEmpty());
+		assertTrue(set.toSet().isEmpty());
+	}
+
+	@Test
+	void testRemoveAll()
+	{
+		OrdinalSet<String> set = new OrdinalSet<>(List.of("Acrobatics", "Bluff", "Bluff", "Climb"));
+		assertEquals(List.of("Acrobatics", "Bluff", "Climb"), set.toList());
+		set.removeAll(List.of("Bluff", "Swim"));
+		assertEquals(List.of("Acrobatics", "Climb"), set.toList());
+		assertEquals(List.of("Acrobatics", "Climb"), List.copyOf(set.toSet()));
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import pcgen.core.Language;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class {@code TypeQueryTest} tests that type Strings are parsed as
+ * PObject.isType has always read them.
+ *
+ * Fixture names are namespaced ("TypeQueryTest_*") so they don't collide with
+ * data-load fixtures registered by other tests sharing the JVM.
+ */
+class TypeQueryTest
+{
+	@Test
+	void testParsing()
+	{
+		TypeQuery query = TypeQuery.getQuery("TYPE=TypeQueryTest_Weapon..Melee");
+		assertSame(query, TypeQuery.getQuery("TYPE=TypeQueryTest_Weapon..Melee"));
+		assertEquals(List.of("TYPEQUERYTEST_WEAPON", "MELEE"), query.getNames());
+		assertEquals(List.of(Type.getConstant("TypeQueryTest_Weapon"), Type.MELEE), query.getTypes());
+
+		TypeQuery negated = TypeQuery.getQuery("!TYPE.Melee");
+		assertEquals(List.of("!TYPE", "MELEE"), negated.getNames());
+		assertEquals(List.of(Type.getConstant("TYPE"), Type.MELEE), negated.getTypes());
+
+		assertTrue(TypeQuery.getQuery("").isEmpty());
+		assertTrue(TypeQuery.getQuery("TYPE=").getNames().isEmpty());
+	}
+
+	@Test
+	void testPObjectIsType()
+	{
+		Language lang = new Language();
+		lang.addToListFor(ListKey.TYPE, Type.getConstant("TypeQueryTest_Spoken"));
+		lang.addToListFor(ListKey.TYPE, Type.getConstant("TypeQueryTest_Written"));
+
+		assertTrue(lang.isType("TypeQueryTest_Spoken"));
+		assertTrue(lang.isType("TYPE=typequerytest_written.TypeQueryTest_Spoken"));
+		assertTrue(lang.isType("!TypeQueryTest_Spoken"));
+		assertTrue(lang.isType(TypeQuery.getQuery("TYPE.TypeQueryTest_Written")));
+		assertFalse(lang.isType("TypeQueryTest_Spoken.TypeQueryTest_Secret"));
+		assertFalse(lang.isType(""));
+		assertTrue(lang.isType("TYPE="));
+	}
+}
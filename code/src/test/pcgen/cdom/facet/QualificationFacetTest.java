@@ -0,0 +1,155 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.facet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import pcgen.cdom.base.QualifyingObject;
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+import pcgen.cdom.facet.QualificationFacet.Fact;
+import pcgen.cdom.facet.model.ClassFacet;
+import pcgen.cdom.facet.model.LanguageFacet;
+import pcgen.cdom.facet.model.TemplateFacet;
+import pcgen.core.PCTemplate;
+import pcgen.core.QualifiedObject;
+import pcgen.core.prereq.Prerequisite;
+import pcgen.persistence.PersistenceLayerException;
+import pcgen.persistence.lst.prereq.PreParserFactory;
+import plugin.lsttokens.testsupport.TokenRegistration;
+import plugin.pretokens.parser.PreClassParser;
+import plugin.pretokens.parser.PreLanguageParser;
+import plugin.pretokens.parser.PreMultParser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QualificationFacetTest
+{
+	private CharID id;
+	private QualificationFacet facet;
+	private TemplateFacet templateFacet;
+	private CountingPrerequisiteFacet prerequisiteFacet;
+
+	@BeforeEach
+	void setUp()
+	{
+		id = CharID.getID(DataSetID.getID());
+		templateFacet = new TemplateFacet();
+		prerequisiteFacet = new CountingPrerequisiteFacet();
+		facet = new QualificationFacet();
+		facet.setPrerequisiteFacet(prerequisiteFacet);
+		facet.setClassFacet(new ClassFacet());
+		facet.setTemplateFacet(templateFacet);
+		facet.setLanguageFacet(new LanguageFacet());
+		facet.setGrantedAbilityFacet(new GrantedAbilityFacet());
+		facet.setConsolidationFacet(new CDOMObjectConsolidationFacet());
+		facet.init();
+		TokenRegistration.register(new PreMultParser());
+		TokenRegistration.register(new PreLanguageParser());
+		TokenRegistration.register(new PreClassParser());
+	}
+
+	@AfterEach
+	void tearDown()
+	{
+		TokenRegistration.clearTokens();
+	}
+
+	private static Prerequisite getPrereq(String kind, String key)
+	{
+		Prerequisite prereq = new Prerequisite();
+		prereq.setKind(kind);
+		prereq.setKey(key);
+		prereq.setOperand("1");
+		return prereq;
+	}
+
+	@Test
+	void testRetestOnlyWhenInputChanges()
+	{
+		QualifiedObject<String> grant = new QualifiedObject<>("Grant", getPrereq("TEMPLATE", "Celestial"));
+		prerequisiteFacet.result = false;
+		assertFalse(facet.qualifies(id, grant, null));
+		prerequisiteFacet.result = true;
+		assertFalse(facet.qualifies(id, grant, null));
+		assertEquals(1, prerequisiteFacet.count);
+		facet.endEdit(id);
+		assertEquals(1, facet.getTestedCount(id));
+		assertEquals(1, facet.getSkippedCount(id));
+
+		PCTemplate template = new PCTemplate();
+		template.setName("Celestial");
+		templateFacet.add(id, template, this);
+		assertTrue(facet.qualifies(id, grant, null));
+		assertEquals(2, prerequisiteFacet.count);
+		facet.endEdit(id);
+		assertEquals(1, facet.getTestedCount(id));
+		assertEquals(0, facet.getSkippedCount(id));
+	}
+
+	@Test
+	void testUnknownKindAlwaysTested()
+	{
+		QualifiedObject<String> grant = new QualifiedObject<>("Grant", getPrereq("VAR", "Foo"));
+		facet.qualifies(id, grant, null);
+		facet.qualifies(id, grant, null);
+		assertEquals(2, prerequisiteFacet.count);
+		facet.endEdit(id);
+		assertEquals(2, facet.getTestedCount(id));
+		assertEquals(0, facet.getSkippedCount(id));
+	}
+
+	@Test
+	void testGetInputs() throws PersistenceLayerException
+	{
+		assertArrayEquals(new Fact[0], QualificationFacet.getInputs(new QualifiedObject<>("Grant"), null));
+		assertNull(QualificationFacet.getInputs(
+			new QualifiedObject<>("Grant", getPrereq("CLASS", "SPELLCASTER.Arcane")), null));
+
+		Prerequisite mult = PreParserFactory.getInstance().parse("PREMULT:1,[PRELANG:1,Elven],[PRECLASS:1,Fighter=1]");
+		assertNull(mult.getKind());
+		QualifiedObject<String> grant = new QualifiedObject<>("Grant", mult);
+		assertArrayEquals(new Fact[]{Fact.CLASS, Fact.LANGUAGE}, QualificationFacet.getInputs(grant, null));
+		assertArrayEquals(new Fact[]{Fact.CLASS, Fact.LANGUAGE, Fact.QUALIFY},
+			QualificationFacet.getInputs(grant, new PCTemplate()));
+
+		Prerequisite ability = getPrereq("ABILITY", "Dodge");
+		ability.setCountMultiples(true);
+		assertNull(QualificationFacet.getInputs(new QualifiedObject<>("Grant", ability), null));
+
+		Prerequisite kindless = getPrereq(null, null);
+		assertNull(QualificationFacet.getInputs(new QualifiedObject<>("Grant", kindless), null));
+	}
+
+	private static final class CountingPrerequisiteFacet extends PrerequisiteFacet
+	{
+		private int count;
+		private boolean result;
+
+		@Override
+		public boolean qualifies(CharID id, QualifyingObject obj, Object source)
+		{
+			count++;
+			return result;
+		}
+	}
+}
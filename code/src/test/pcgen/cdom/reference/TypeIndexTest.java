@@ -0,0 +1,60 @@
+/*
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.Type;
+import pcgen.core.Language;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that TypeIndex finds the same objects as asking each object isType.
+ */
+class TypeIndexTest
+{
+	private static Language language(String name, String... types)
+	{
+		Language lang = new Language();
+		lang.setName(name);
+		for (String type : types)
+		{
+			lang.addToListFor(ListKey.TYPE, Type.getConstant(type));
+		}
+		return lang;
+	}
+
+	@Test
+	void testObjectsOfType()
+	{
+		Language common = language("Common", "Spoken", "Written");
+		Language druidic = language("Druidic", "Spoken", "Secret");
+		Language sign = language("Sign", "Signed");
+		TypeIndex<Language> index = new TypeIndex<>(List.of(common, druidic, sign));
+
+		assertEquals(List.of(common, druidic), index.getObjectsOfType(List.of("Spoken")));
+		assertEquals(List.of(druidic), index.getObjectsOfType(List.of("Secret", "Spoken")));
+		assertEquals(List.of(common), index.getObjectsOfType(List.of("written")));
+		assertTrue(index.getObjectsOfType(List.of("Signed", "Spoken")).isEmpty());
+		assertTrue(index.getObjectsOfType(List.of("Unknown")).isEmpty());
+		assertEquals(List.of(common, druidic, sign), index.getObjectsOfType(List.of()));
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.gui2.csheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the HTML passed to the patch script is quoted as a JavaScript
+ * string literal which evaluates to the same text.
+ */
+class CharacterSheetPanelTest
+{
+	@Test
+	void testPlainText()
+	{
+		assertEquals("\"\"", CharacterSheetPanel.toScriptString(""));
+		assertEquals("\"<p class='name'>Valeros</p>\"",
+			CharacterSheetPanel.toScriptString("<p class='name'>Valeros</p>"));
+	}
+
+	@Test
+	void testQuotesAndBackslashes()
+	{
+		assertEquals("\"<a href=\\\"c:\\\\sheet\\\">\"", CharacterSheetPanel.toScriptString("<a href=\"c:\\sheet\">"));
+	}
+
+	@Test
+	void testLineTerminators()
+	{
+		assertEquals("\"a\\r\\nb\\u2028c\\u2029d\"",
+			CharacterSheetPanel.toScriptString("a\r\nb\u2028c\u2029d"));
+	}
+
+	@Test
+	void testControlCharacters()
+	{
+		assertEquals("\"\\u0009tab\\u0000\\u001f\"", CharacterSheetPanel.toScriptString("\ttab\u0000\u001f"));
+	}
+
+	@Test
+	void testNonAsciiKeptAsIs()
+	{
+		assertEquals("\"Dv\u00e6rg \u2014 \u4e2d\"", CharacterSheetPanel.toScriptString("Dv\u00e6rg \u2014 \u4e2d"));
+	}
+}
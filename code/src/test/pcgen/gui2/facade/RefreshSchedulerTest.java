@@ -0,0 +1,105 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.gui2.facade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that refreshes are coalesced on the event dispatch thread and run
+ * without holding the scheduler's lock.
+ */
+class RefreshSchedulerTest
+{
+
+	@Test
+	void testRunsImmediatelyOffEventThread()
+	{
+		RefreshScheduler scheduler = new RefreshScheduler();
+		AtomicInteger count = new AtomicInteger();
+		scheduler.request("test", count::incrementAndGet);
+		scheduler.request("test", count::incrementAndGet);
+		assertEquals(2, count.get());
+
+		RefreshScheduler.Statistics stats = scheduler.getStatistics().iterator().next();
+		assertEquals("test", stats.getName());
+		assertEquals(2, stats.getRequests());
+		assertEquals(2, stats.getRuns());
+	}
+
+	@Test
+	void testCoalescesOnEventThread() throws Exception
+	{
+		RefreshScheduler scheduler = new RefreshScheduler();
+		AtomicInteger count = new AtomicInteger();
+		SwingUtilities.invokeAndWait(() -> {
+			scheduler.request("test", count::incrementAndGet);
+			scheduler.request("test", count::incrementAndGet);
+			scheduler.request("test", count::incrementAndGet);
+			assertEquals(0, count.get());
+		});
+		// Wait for the scheduled refresh to be processed
+		SwingUtilities.invokeAndWait(() -> {
+		});
+		assertEquals(1, count.get());
+
+		RefreshScheduler.Statistics stats = scheduler.getStatistics().iterator().next();
+		assertEquals(3, stats.getRequests());
+		assertEquals(1, stats.getRuns());
+	}
+
+	@Test
+	void testCancelDiscardsPendingRefreshes() throws Exception
+	{
+		RefreshScheduler scheduler = new RefreshScheduler();
+		AtomicInteger count = new AtomicInteger();
+		SwingUtilities.invokeAndWait(() -> {
+			scheduler.request("test", count::incrementAndGet);
+			scheduler.cancel();
+		});
+		SwingUtilities.invokeAndWait(() -> {
+		});
+		assertEquals(0, count.get());
+	}
+
+	@Test
+	void testRefreshOffEventThreadMayWaitForEventThread()
+	{
+		RefreshScheduler scheduler = new RefreshScheduler();
+		AtomicInteger count = new AtomicInteger();
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> scheduler.request("outer", () -> {
+			try
+			{
+				// The event thread must be able to use the scheduler meanwhile
+				SwingUtilities.invokeAndWait(() -> scheduler.request("inner", count::incrementAndGet));
+				SwingUtilities.invokeAndWait(() -> {
+				});
+			}
+			catch (Exception e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}));
+		assertEquals(1, count.get());
+	}
+}
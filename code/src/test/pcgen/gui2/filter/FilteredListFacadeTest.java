@@ -0,0 +1,178 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.gui2.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import pcgen.facade.util.DefaultListFacade;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a FilteredListFacade narrows its contents by testing only the
+ * elements it accepts, and keeps its SearchIndex in step with the elements.
+ */
+class FilteredListFacadeTest
+{
+	private DefaultListFacade<Named> delegate;
+	private FilteredListFacade<Object, Named> filtered;
+	private SearchFilter filter;
+
+	@BeforeEach
+	void setUp()
+	{
+		delegate = new DefaultListFacade<>(
+			List.of(new Named("Dodge"), new Named("Mobility"), new Named("Power Attack"), new Named("Cleave")));
+		filtered = new FilteredListFacade<>();
+		filtered.setDelegate(delegate);
+		filter = new SearchFilter(filtered);
+		filtered.setFilter(filter);
+	}
+
+	@Test
+	void testNarrowOnlyTestsAcceptedElements()
+	{
+		filter.text = "o";
+		filtered.refilter();
+		assertEquals(3, filtered.getSize());
+
+		filter.tests = 0;
+		filter.text = "ob";
+		filtered.narrow();
+		assertEquals(1, filtered.getSize());
+		assertEquals("Mobility", filtered.getElementAt(0).toString());
+		assertEquals(3, filter.tests);
+	}
+
+	@Test
+	void testRefilterAfterWiderSearch()
+	{
+		filter.text = "ob";
+		filtered.refilter();
+		assertEquals(1, filtered.getSize());
+
+		filter.tests = 0;
+		filter.text = "o";
+		filtered.refilter();
+		assertEquals(3, filtered.getSize());
+		assertEquals(4, filter.tests);
+	}
+
+	@Test
+	void testModifiedElementSearchedByNewName()
+	{
+		filter.text = "dodge";
+		filtered.refilter();
+		assertEquals(1, filtered.getSize());
+
+		Named cleave = delegate.getElementAt(3);
+		cleave.name = "Improved Dodge";
+		delegate.modifyElement(cleave);
+		assertEquals(2, filtered.getSize());
+		assertEquals("improved dodge\n\n", filtered.getSearchIndex().getSearchText(cleave));
+	}
+
+	@Test
+	void testIndexKeyedByIdentity()
+	{
+		Named first = new Named("Dodge");
+		Named second = new Named("Dodge");
+		SearchIndex index = filtered.getSearchIndex();
+		assertEquals("dodge\n\n", index.getSearchText(first));
+		first.name = "Mobility";
+		assertEquals("dodge\n\n", index.getSearchText(second));
+		assertEquals("dodge\n\n", index.getSearchText(first));
+		index.invalidate(first);
+		assertEquals("mobility\n\n", index.getSearchText(first));
+		assertEquals("dodge\n\n", index.getSearchText(second));
+	}
+
+	@Test
+	void testIndexClearedWhenContentsReplaced()
+	{
+		filter.text = "dodge";
+		filtered.refilter();
+		Named dodge = delegate.getElementAt(0);
+		dodge.name = "Spring Attack";
+		delegate.setContents(List.of(dodge));
+		assertEquals(0, filtered.getSize());
+		assertEquals("spring attack\n\n", filtered.getSearchIndex().getSearchText(dodge));
+	}
+
+	@Test
+	void testNormalize()
+	{
+		assertEquals("power", SearchIndex.normalize("POWER"));
+		assertEquals("", SearchIndex.normalize(null));
+	}
+
+	/**
+	 * An element whose name, and therefore equality, may change.
+	 */
+	private static final class Named
+	{
+		private String name;
+
+		private Named(String name)
+		{
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			return (o instanceof Named other) && name.equals(other.name);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return name.hashCode();
+		}
+
+		@Override
+		public String toString()
+		{
+			return name;
+		}
+	}
+
+	/**
+	 * Accepts the elements whose search text contains the given text, as
+	 * SearchFilterPanel does, counting the elements tested.
+	 */
+	private static final class SearchFilter implements Filter<Object, Named>
+	{
+		private final FilteredListFacade<Object, Named> list;
+		private String text = "";
+		private int tests;
+
+		private SearchFilter(FilteredListFacade<Object, Named> list)
+		{
+			this.list = list;
+		}
+
+		@Override
+		public boolean accept(Object context, Named element)
+		{
+			tests++;
+			return list.getSearchIndex().getSearchText(element).contains(text);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ExportTokenMemoTest checks that remembered token values are kept per
+ * character and discarded once the character changes.
+ */
+class ExportTokenMemoTest
+{
+	private final Object first = new Object();
+	private final Object second = new Object();
+
+	@Test
+	void testRememberedWhileUnchanged()
+	{
+		ExportTokenMemo memo = new ExportTokenMemo();
+		assertNull(memo.get(first, 1, "SKILL", "SKILL.0.MISC"));
+		memo.put(first, 1, "SKILL.0.MISC", "+2");
+		assertEquals("+2", memo.get(first, 1, "SKILL", "SKILL.0.MISC"));
+		assertEquals("+2", memo.get(first, 1, "SKILL", "SKILL.0.MISC"));
+		assertNull(memo.get(second, 1, "SKILL", "SKILL.0.MISC"));
+
+		assertEquals(2, memo.getHits("SKILL"));
+		assertEquals(2, memo.getMisses("SKILL"));
+		assertEquals(0, memo.getHits("WEAPON"));
+	}
+
+	@Test
+	void testDiscardedWhenCharacterChanges()
+	{
+		ExportTokenMemo memo = new ExportTokenMemo();
+		memo.put(first, 1, "WEAPON.0.TOTALHIT", "+5");
+		memo.put(second, 1, "WEAPON.0.TOTALHIT", "+3");
+		assertNull(memo.get(first, 2, "WEAPON", "WEAPON.0.TOTALHIT"));
+		assertNull(memo.get(first, 1, "WEAPON", "WEAPON.0.TOTALHIT"));
+		assertEquals("+3", memo.get(second, 1, "WEAPON", "WEAPON.0.TOTALHIT"));
+
+		memo.put(first, 2, "WEAPON.0.TOTALHIT", "+6");
+		assertEquals("+6", memo.get(first, 2, "WEAPON", "WEAPON.0.TOTALHIT"));
+		assertEquals("Export token memo: WEAPON 2/4 (50%)", memo.getStatistics());
+	}
+}
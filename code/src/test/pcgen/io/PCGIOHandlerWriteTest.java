@@ -19,20 +19,28 @@ package pcgen.io;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 /**
  * PCGIOHandlerWriteTest checks the party-file format produced by
- * {@link PCGIOHandler#write(File, List)}.
+ * {@link PCGIOHandler#write(File, List)} and the replacement of files by
+ * {@link PCGIOHandler#writeAtomically(String, File)}.
  */
 class PCGIOHandlerWriteTest
 {
@@ -97,4 +105,72 @@ class PCGIOHandlerWriteTest
 		assertTrue(asUtf8.contains("é.pcg"),
 				"non-ASCII filename should be readable when decoded as UTF-8");
 	}
+
+	/**
+	 * Test method for {@link PCGIOHandler#writeAtomically(String, File)}: verifies
+	 * that an existing file is replaced and no temporary file is left behind.
+	 */
+	@Test
+	void testWriteAtomicallyReplacesFile(@TempDir Path tmp) throws IOException
+	{
+		File target = tmp.resolve("a.pcg.autosave").toFile();
+		Files.writeString(target.toPath(), "old content");
+
+		PCGIOHandler.writeAtomically("new content", target);
+
+		assertEquals("new content", Files.readString(target.toPath(), StandardCharsets.UTF_8));
+		try (Stream<Path> files = Files.list(tmp))
+		{
+			assertEquals(List.of(target.toPath()), files.toList(), "only the target file should remain");
+		}
+	}
+
+	/**
+	 * Test method for {@link PCGIOHandler#writeAtomically(String, File)}: verifies
+	 * that the replacement keeps the permissions of the file it replaces.
+	 */
+	@Test
+	void testWriteAtomicallyKeepsPermissions(@TempDir Path tmp) throws IOException
+	{
+		assumeTrue(Files.getFileStore(tmp).supportsFileAttributeView(PosixFileAttributeView.class));
+		Path target = tmp.resolve("a.pcg");
+		Files.writeString(target, "old content");
+		Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+		Files.setPosixFilePermissions(target, permissions);
+
+		PCGIOHandler.writeAtomically("new content", target.toFile());
+
+		assertEquals(permissions, Files.getPosixFilePermissions(target));
+	}
+
+	/**
+	 * Test method for {@link PCGIOHandler#writeAtomically(String, File)}: verifies
+	 * that writing through a symbolic link replaces the file it points to and
+	 * leaves the link in place.
+	 */
+	@Test
+	void testWriteAtomicallyFollowsSymbolicLink(@TempDir Path tmp) throws IOException
+	{
+		Path realDir = Files.createDirectory(tmp.resolve("real"));
+		Path real = realDir.resolve("a.pcg");
+		Files.writeString(real, "old content");
+		Path link = tmp.resolve("link.pcg");
+		try
+		{
+			Files.createSymbolicLink(link, real);
+		}
+		catch (UnsupportedOperationException | IOException e)
+		{
+			assumeFalse(true, "symbolic links are not supported here");
+		}
+
+		PCGIOHandler.writeAtomically("new content", link.toFile());
+
+		assertTrue(Files.isSymbolicLink(link), "the link should not be replaced");
+		assertEquals("new content", Files.readString(real, StandardCharsets.UTF_8));
+		try (Stream<Path> files = Files.list(realDir))
+		{
+			assertEquals(List.of(real), files.toList(), "only the real file should remain");
+		}
+	}
 }
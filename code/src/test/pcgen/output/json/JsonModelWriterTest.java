@@ -0,0 +1,165 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.output.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import pcgen.output.base.KeyedHashModel;
+
+import freemarker.template.SimpleNumber;
+import freemarker.template.SimpleScalar;
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateSequenceModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that JsonModelWriter walks output models into JSON, and writes null in
+ * place of values which fail.
+ */
+class JsonModelWriterTest
+{
+	private StringWriter out;
+	private JsonModelWriter writer;
+
+	@BeforeEach
+	void setUp()
+	{
+		out = new StringWriter();
+		writer = new JsonModelWriter(new JsonWriter(out));
+	}
+
+	@Test
+	void testMapIsSortedAndMethodsLeftOut() throws IOException
+	{
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("name", new SimpleScalar("Valeros"));
+		map.put("level", new SimpleNumber(3));
+		map.put("npc", TemplateBooleanModel.FALSE);
+		map.put("method", (TemplateMethodModelEx) args -> null);
+		map.put("nothing", null);
+		writer.writeValue(map);
+		assertEquals("{\"level\":3,\"name\":\"Valeros\",\"nothing\":null,\"npc\":false}", out.toString());
+	}
+
+	@Test
+	void testSequence() throws IOException
+	{
+		writer.writeValue(new ListModel(new SimpleScalar("a"), new SimpleNumber(1.5), null));
+		assertEquals("[\"a\",1.5,null]", out.toString());
+	}
+
+	@Test
+	void testFailingValuesWrittenAsNull() throws IOException
+	{
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("source", new FailingModel());
+		map.put("list", new ListModel(new FailingModel(), new SimpleScalar("ok")));
+		writer.writeValue(map);
+		assertEquals("{\"list\":[{\"broken\":null,\"checked\":null,\"fine\":\"yes\"},\"ok\"],"
+			+ "\"source\":{\"broken\":null,\"checked\":null,\"fine\":\"yes\"}}", out.toString());
+	}
+
+	@Test
+	void testFailingKeysWrittenAsNull() throws IOException
+	{
+		writer.writeValue(new KeyedHashModel()
+		{
+			@Override
+			public Collection<String> getOutputKeys()
+			{
+				throw new IllegalStateException("no keys");
+			}
+
+			@Override
+			public TemplateModel get(String key)
+			{
+				return null;
+			}
+
+			@Override
+			public boolean isEmpty()
+			{
+				return false;
+			}
+		});
+		assertEquals("null", out.toString());
+	}
+
+	/**
+	 * A model, like a SourceModel for an object without a campaign, with a key
+	 * which fails with a RuntimeException and one which fails with a
+	 * TemplateModelException.
+	 */
+	private static final class FailingModel implements KeyedHashModel
+	{
+		@Override
+		public Collection<String> getOutputKeys()
+		{
+			return List.of("fine", "broken", "checked");
+		}
+
+		@Override
+		public TemplateModel get(String key) throws TemplateModelException
+		{
+			return switch (key)
+			{
+				case "fine" -> new SimpleScalar("yes");
+				case "broken" -> throw new NullPointerException("no campaign");
+				default -> throw new TemplateModelException("no " + key);
+			};
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return false;
+		}
+	}
+
+	private static final class ListModel implements TemplateSequenceModel
+	{
+		private final List<TemplateModel> items;
+
+		private ListModel(TemplateModel... items)
+		{
+			this.items = Arrays.asList(items);
+		}
+
+		@Override
+		public TemplateModel get(int index)
+		{
+			return items.get(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return items.size();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.output.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JsonWriterTest
+{
+	private StringWriter out;
+	private JsonWriter json;
+
+	@BeforeEach
+	void setUp()
+	{
+		out = new StringWriter();
+		json = new JsonWriter(out);
+	}
+
+	@Test
+	void testSeparators() throws IOException
+	{
+		json.beginObject();
+		json.name("name");
+		json.value("Valeros");
+		json.name("levels");
+		json.beginArray();
+		json.value(1);
+		json.beginObject();
+		json.endObject();
+		json.beginArray();
+		json.endArray();
+		json.nullValue();
+		json.endArray();
+		json.name("npc");
+		json.value(false);
+		json.endObject();
+		assertEquals("{\"name\":\"Valeros\",\"levels\":[1,{},[],null],\"npc\":false}", out.toString());
+		assertEquals(0, json.getDepth());
+	}
+
+	@Test
+	void testEscaping() throws IOException
+	{
+		json.value("Say \"hi\"\\\n\tthen\u0001\u2028go");
+		assertEquals("\"Say \\\"hi\\\"\\\\\\n\\tthen\\u0001\\u2028go\"", out.toString());
+	}
+
+	@Test
+	void testNumbers() throws IOException
+	{
+		json.beginArray();
+		json.value(2.5);
+		json.value(Double.NaN);
+		json.value(Float.POSITIVE_INFINITY);
+		json.value((Number) null);
+		json.value((String) null);
+		json.endArray();
+		assertEquals("[2.5,null,null,null,null]", out.toString());
+	}
+
+	@Test
+	void testDeepNesting() throws IOException
+	{
+		for (int i = 0; i < 40; i++)
+		{
+			json.beginArray();
+		}
+		json.value(1);
+		json.value(2);
+		for (int i = 0; i < 40; i++)
+		{
+			json.endArray();
+		}
+		assertEquals("[".repeat(40) + "1,2" + "]".repeat(40), out.toString());
+		assertThrows(IllegalStateException.class, json::endArray);
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests that LstFileLoader.splitLines splits data as the line separator regular
+ * expression does.
+ */
+class LstFileLoaderTest
+{
+	@ParameterizedTest
+	@ValueSource(strings = {"", "one", "one\ntwo", "one\r\ntwo\rthree\n", "one\n\n\ntwo", "\r\n\r\n",
+		"\n", "one\r\r\n", "\tindented\n\tline\r\n\n", "trailing\n\n\n"})
+	void testSplitLinesMatchesRegex(String data)
+	{
+		assertArrayEquals(data.split(LstFileLoader.LINE_SEPARATOR_REGEXP), LstFileLoader.splitLines(data));
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.rules.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import pcgen.cdom.enumeration.IntegerKey;
+import pcgen.cdom.enumeration.StringKey;
+import pcgen.core.Skill;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the direct writes made by AbstractObjectContext for an AtomicToken.
+ */
+class AtomicTokenWriteTest
+{
+
+	private LoadContext context;
+	private Skill skill;
+
+	@BeforeEach
+	void setUp()
+	{
+		context = new RuntimeLoadContext(RuntimeReferenceContext.createRuntimeReferenceContext(),
+			new ConsolidatedListCommitStrategy());
+		skill = new Skill();
+		skill.put(IntegerKey.AC_CHECK, 1);
+	}
+
+	@Test
+	void testTrackedWriteWaitsForCommit()
+	{
+		context.getObjectContext().put(skill, StringKey.SORT_KEY, "Sort");
+		assertNull(skill.get(StringKey.SORT_KEY));
+		context.commit();
+		assertEquals("Sort", skill.get(StringKey.SORT_KEY));
+	}
+
+	@Test
+	void testDirectWriteCommitted()
+	{
+		AbstractObjectContext objContext = context.getObjectContext();
+		boolean wasDirect = objContext.setAtomicToken(true);
+		objContext.put(skill, StringKey.SORT_KEY, "Sort");
+		objContext.put(skill, IntegerKey.AC_CHECK, 2);
+		objContext.restoreAtomicToken(wasDirect);
+		assertEquals("Sort", skill.get(StringKey.SORT_KEY));
+		context.commit();
+		assertEquals("Sort", skill.get(StringKey.SORT_KEY));
+		assertEquals(Integer.valueOf(2), skill.get(IntegerKey.AC_CHECK));
+	}
+
+	@Test
+	void testDirectWriteRolledBack()
+	{
+		AbstractObjectContext objContext = context.getObjectContext();
+		boolean wasDirect = objContext.setAtomicToken(true);
+		objContext.put(skill, StringKey.SORT_KEY, "Sort");
+		objContext.put(skill, IntegerKey.AC_CHECK, 2);
+		objContext.put(skill, IntegerKey.AC_CHECK, 3);
+		objContext.restoreAtomicToken(wasDirect);
+		context.rollback();
+		assertFalse(skill.containsKey(StringKey.SORT_KEY));
+		assertEquals(Integer.valueOf(1), skill.get(IntegerKey.AC_CHECK));
+	}
+
+	@Test
+	void testNotDirectWithPendingEdits()
+	{
+		AbstractObjectContext objContext = context.getObjectContext();
+		objContext.put(skill, IntegerKey.AC_CHECK, 2);
+		boolean wasDirect = objContext.setAtomicToken(true);
+		objContext.put(skill, StringKey.SORT_KEY, "Sort");
+		objContext.restoreAtomicToken(wasDirect);
+		assertNull(skill.get(StringKey.SORT_KEY));
+		context.rollback();
+		assertNull(skill.get(StringKey.SORT_KEY));
+		assertEquals(Integer.valueOf(1), skill.get(IntegerKey.AC_CHECK));
+	}
+}
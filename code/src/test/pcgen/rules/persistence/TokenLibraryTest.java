@@ -19,10 +19,15 @@ package pcgen.rules.persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import pcgen.core.Skill;
 import pcgen.rules.persistence.TokenLibrary.ModifierIterator;
 import pcgen.rules.persistence.token.ModifierFactory;
+import plugin.lsttokens.SourcepageLst;
 import plugin.modifier.number.AddModifierFactory;
 import plugin.modifier.set.SetModifierFactory;
 
@@ -52,4 +57,19 @@ class TokenLibraryTest
 		assertEquals(arraySet, arrayToken);
 	}
 
+	@Test
+	void testDispatchFallsUp()
+	{
+		SourcepageLst sourcePage = new SourcepageLst();
+		TokenLibrary.addToTokenMap(sourcePage);
+		TokenDispatch dispatch = TokenLibrary.getDispatch(Skill.class, "SOURCEPAGE");
+		assertNull(dispatch.getInterfaceToken());
+		assertEquals(sourcePage, dispatch.getTokens().get(0));
+		assertSame(dispatch, TokenLibrary.getDispatch(Skill.class, "SOURCEPAGE"));
+
+		//Adding a token must discard what was resolved before
+		TokenLibrary.addToTokenMap(new AddModifierFactory());
+		assertNotSame(dispatch, TokenLibrary.getDispatch(Skill.class, "SOURCEPAGE"));
+	}
+
 }
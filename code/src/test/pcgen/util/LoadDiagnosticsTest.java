@@ -0,0 +1,96 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+
+import pcgen.util.LoadDiagnostics.Diagnostic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that load diagnostics are kept in order and counted by file and token.
+ */
+class LoadDiagnosticsTest
+{
+	private static final URI FILE_A = URI.create("file:/data/a.lst");
+	private static final URI FILE_B = URI.create("file:/data/b.lst");
+
+	@BeforeEach
+	void setUp()
+	{
+		LoadDiagnostics.reset();
+	}
+
+	@AfterEach
+	void tearDown()
+	{
+		LoadDiagnostics.setCurrentLine(0);
+		LoadDiagnostics.reset();
+	}
+
+	@Test
+	void testRecordAndQuery()
+	{
+		LoadDiagnostics.setCurrentLine(12);
+		LoadDiagnostics.record(Logging.LST_ERROR, "TYPE", FILE_A, "Bad type");
+		LoadDiagnostics.record(Logging.LST_WARNING, "DESC", FILE_B, 3, "Odd desc");
+		LoadDiagnostics.flush();
+
+		List<Diagnostic> all = LoadDiagnostics.getDiagnostics();
+		assertEquals(2, all.size());
+		Diagnostic first = all.get(0);
+		assertEquals(Logging.LST_ERROR, first.getLevel());
+		assertEquals("TYPE", first.getToken());
+		assertEquals(FILE_A, first.getSourceURI());
+		assertEquals(12, first.getLine());
+		assertEquals("Bad type", first.getMessage());
+		assertEquals(3, all.get(1).getLine());
+
+		List<Diagnostic> errors = LoadDiagnostics.getDiagnostics(Logging.LST_ERROR);
+		assertEquals(1, errors.size());
+		assertEquals("TYPE", errors.get(0).getToken());
+	}
+
+	@Test
+	void testCounts()
+	{
+		// More than the ring holds, so some are written directly. DEBUG keeps
+		// them out of the test output.
+		for (int i = 0; i < 10000; i++)
+		{
+			LoadDiagnostics.record(Logging.DEBUG, (i % 2 == 0) ? "TYPE" : "DESC", FILE_A, i, "Message " + i);
+		}
+		LoadDiagnostics.record(Logging.DEBUG, null, FILE_B, 1, "No token");
+		LoadDiagnostics.flush();
+
+		assertEquals(10001, LoadDiagnostics.getDiagnostics().size());
+		assertEquals(Long.valueOf(10000), LoadDiagnostics.getCountByFile().get(FILE_A));
+		assertEquals(Long.valueOf(1), LoadDiagnostics.getCountByFile().get(FILE_B));
+		assertEquals(Long.valueOf(5000), LoadDiagnostics.getCountByToken().get("TYPE"));
+		assertEquals(Long.valueOf(5000), LoadDiagnostics.getCountByToken().get("DESC"));
+
+		LoadDiagnostics.reset();
+		assertTrue(LoadDiagnostics.getDiagnostics().isEmpty());
+		assertTrue(LoadDiagnostics.getCountByFile().isEmpty());
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import pcgen.util.Metrics.Category;
+import pcgen.util.Metrics.Timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that metrics are only recorded while enabled, and are kept by
+ * category and key.
+ */
+class MetricsTest
+{
+	@BeforeEach
+	void setUp()
+	{
+		Metrics.reset();
+	}
+
+	@AfterEach
+	void tearDown()
+	{
+		Metrics.setEnabled(false);
+		Metrics.reset();
+	}
+
+	@Test
+	void testDisabledRecordsNothing()
+	{
+		long start = Metrics.start();
+		Metrics.stop(Category.PREREQ, "FEAT", start);
+		assertTrue(Metrics.getTimers(Category.PREREQ).isEmpty());
+		assertEquals("No metrics recorded" + System.lineSeparator(), Metrics.getReport());
+	}
+
+	@Test
+	void testRecordByKey()
+	{
+		Metrics.setEnabled(true);
+		Metrics.stop(Category.PREREQ, "FEAT", Metrics.start());
+		Metrics.stop(Category.PREREQ, "FEAT", Metrics.start());
+		Metrics.stop(Category.PREREQ, "SKILL", Metrics.start());
+		Metrics.stop(Category.FACET, MetricsTest.class, Metrics.start());
+		Metrics.stop(Category.EXPORT_TOKEN, null, Metrics.start());
+
+		List<Timer> prereqs = Metrics.getTimers(Category.PREREQ);
+		assertEquals(2, prereqs.size());
+		assertEquals(3, prereqs.stream().mapToLong(Timer::getCount).sum());
+		Timer feat = prereqs.stream().filter(t -> t.getName().equals("FEAT")).findFirst().orElseThrow();
+		assertEquals(2, feat.getCount());
+		assertTrue(feat.getMaxNanos() <= feat.getTotalNanos());
+
+		assertEquals("MetricsTest", Metrics.getTimers(Category.FACET).getFirst().getName());
+		assertEquals("(none)", Metrics.getTimers(Category.EXPORT_TOKEN).getFirst().getName());
+		assertTrue(Metrics.getTimers(Category.BONUS).isEmpty());
+
+		String report = Metrics.getReport();
+		assertTrue(report.contains(Category.PREREQ.getTitle()));
+		assertTrue(report.contains("MetricsTest"));
+		assertFalse(report.contains(Category.BONUS.getTitle()));
+	}
+
+	@Test
+	void testStartedWhileDisabled()
+	{
+		long start = Metrics.start();
+		Metrics.setEnabled(true);
+		Metrics.stop(Category.SOLVER, "VAR", start);
+		assertTrue(Metrics.getTimers(Category.SOLVER).isEmpty());
+	}
+
+	@Test
+	void testReset()
+	{
+		Metrics.setEnabled(true);
+		Metrics.stop(Category.FUNCTION, "floor", Metrics.start());
+		Metrics.reset();
+		assertTrue(Metrics.getTimers(Category.FUNCTION).isEmpty());
+	}
+}